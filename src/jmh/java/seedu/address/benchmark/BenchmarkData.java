@@ -0,0 +1,21 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+
+import seedu.address.model.internship.Internship;
+import seedu.address.model.util.InternshipDataGenerator;
+
+/**
+ * Generates the data sets shared by the benchmarks.
+ */
+public class BenchmarkData {
+    /** The seed of every generated data set, so that all benchmarks and runs see the same data. */
+    public static final long SEED = 2103;
+
+    /**
+     * Returns {@code size} distinct internships.
+     */
+    public static List<Internship> getInternships(int size) {
+        return new InternshipDataGenerator(SEED).generate(size);
+    }
+}
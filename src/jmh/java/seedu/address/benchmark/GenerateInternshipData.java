@@ -0,0 +1,59 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.core.Config.StorageMode;
+import seedu.address.model.util.InternshipDataGenerator;
+import seedu.address.storage.BinaryInternshipDataStorage;
+import seedu.address.storage.InternshipDataStorage;
+import seedu.address.storage.JournalInternshipDataStorage;
+import seedu.address.storage.JsonInternshipDataStorage;
+
+/**
+ * Writes a data file of generated internships, e.g. to start the app or {@link LoadTestDriver} with a large data set.
+ * The internships are generated as they are written, so data sets larger than the heap can be generated in the
+ * streaming formats.
+ *
+ * Usage: {@code GenerateInternshipData FILE COUNT [SEED] [json|journal|binary]}
+ */
+public class GenerateInternshipData {
+
+    /**
+     * Generates the data file described by {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 4) {
+            System.err.println("Usage: GenerateInternshipData FILE COUNT [SEED] [json|journal|binary]");
+            System.exit(1);
+        }
+        Path filePath = Paths.get(args[0]);
+        int count = Integer.parseInt(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : BenchmarkData.SEED;
+        StorageMode storageMode = args.length > 3 ? StorageMode.valueOf(args[3].toUpperCase()) : StorageMode.JSON;
+
+        long start = System.nanoTime();
+        InternshipDataStorage storage = createStorage(storageMode, filePath);
+        storage.saveInternshipData(new InternshipDataGenerator(seed).asInternshipData(count));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("Generated %d internships in %s at %s in %d ms%n", count, storageMode, filePath,
+                elapsedMillis);
+    }
+
+    /**
+     * Returns the storage of the data file at {@code filePath} in {@code storageMode}.
+     */
+    static InternshipDataStorage createStorage(StorageMode storageMode, Path filePath) {
+        switch (storageMode) {
+        case JOURNAL:
+            return new JournalInternshipDataStorage(filePath,
+                    JournalInternshipDataStorage.DEFAULT_COMPACTION_THRESHOLD);
+        case BINARY:
+            return new BinaryInternshipDataStorage(filePath);
+        case JSON:
+        default:
+            return new JsonInternshipDataStorage(filePath, true);
+        }
+    }
+}
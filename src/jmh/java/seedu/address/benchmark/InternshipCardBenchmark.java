@@ -0,0 +1,97 @@
+package seedu.address.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import seedu.address.MainApp;
+import seedu.address.model.internship.Internship;
+import seedu.address.ui.InternshipCard;
+import seedu.address.ui.UiPart;
+
+/**
+ * Benchmarks creating the card of an internship in the list panel, against loading its FXML file from its URL or
+ * from contents that were read before, and against rebinding a card that already exists. Loading from contents that
+ * were read before is not faster, as most of the time goes to parsing the file, so {@code UiPart} loads from the URL.
+ *
+ * The JavaFX toolkit is started with the headless Monocle platform, so that the benchmark runs without a display.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw"})
+public class InternshipCardBenchmark {
+    private static final int SIZE = 1000;
+
+    private URL cardFileUrl;
+    private byte[] cardDocument;
+    private List<Internship> internships;
+    private InternshipCard card;
+    private int next;
+
+    /**
+     * Starts the JavaFX toolkit and generates the internships shown on the cards.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Platform.startup(() -> { });
+        cardFileUrl = MainApp.class.getResource(UiPart.FXML_FILE_FOLDER + "InternshipCard.fxml");
+        try (InputStream inputStream = cardFileUrl.openStream()) {
+            cardDocument = inputStream.readAllBytes();
+        }
+        internships = BenchmarkData.getInternships(SIZE);
+        card = new InternshipCard();
+    }
+
+    /**
+     * Loads the card's FXML file from its URL, reading the file each time.
+     */
+    @Benchmark
+    public Object loadFromUrl() throws IOException {
+        return new FXMLLoader(cardFileUrl).load();
+    }
+
+    /**
+     * Loads the card's FXML file from contents that were read before.
+     */
+    @Benchmark
+    public Object loadFromDocument() throws IOException {
+        return new FXMLLoader(cardFileUrl).load(new ByteArrayInputStream(cardDocument));
+    }
+
+    /**
+     * Creates a card showing an internship.
+     */
+    @Benchmark
+    public InternshipCard createCard() {
+        return new InternshipCard(nextInternship(), next);
+    }
+
+    /**
+     * Shows an internship on a card that already exists, as a list cell does when it is updated.
+     */
+    @Benchmark
+    public InternshipCard rebindCard() {
+        card.setInternship(nextInternship(), next);
+        return card;
+    }
+
+    private Internship nextInternship() {
+        next = (next + 1) % SIZE;
+        return internships.get(next);
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
+import seedu.address.model.internship.CompanyName;
+import seedu.address.model.internship.Deadline;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipColumns;
+import seedu.address.model.internship.Task;
+import seedu.address.model.util.InternshipDataGenerator;
+
+/**
+ * Benchmarks counting the internships from {@link InternshipColumns}, against counting them by walking over the
+ * internships and their fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InternshipColumnsBenchmark {
+    private static final LocalDate TODAY = InternshipDataGenerator.DEFAULT_BASE_DATE;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private List<Internship> internships;
+    private InternshipColumns columns;
+
+    /**
+     * Generates the internships and fills the columns with them.
+     */
+    @Setup
+    public void setUp() {
+        internships = BenchmarkData.getInternships(size);
+        columns = new InternshipColumns();
+        internships.forEach(columns::add);
+    }
+
+    /**
+     * Counts the internships by application status from the columns.
+     */
+    @Benchmark
+    public Map<StatusEnum, Integer> countByStatus() {
+        return columns.countByStatus();
+    }
+
+    /**
+     * Counts the internships by application status by walking over them.
+     */
+    @Benchmark
+    public Map<StatusEnum, Integer> countByStatusOverObjects() {
+        Map<StatusEnum, Integer> counts = new EnumMap<>(StatusEnum.class);
+        for (Internship internship : internships) {
+            counts.merge(internship.getApplicationStatus().getStatus(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the internships by company from the columns.
+     */
+    @Benchmark
+    public Map<CompanyName, Integer> countByCompanyName() {
+        return columns.countByCompanyName();
+    }
+
+    /**
+     * Counts the internships by company by walking over them.
+     */
+    @Benchmark
+    public Map<CompanyName, Integer> countByCompanyNameOverObjects() {
+        Map<CompanyName, Integer> counts = new HashMap<>();
+        for (Internship internship : internships) {
+            counts.merge(internship.getCompanyName(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the overdue tasks by application status from the columns.
+     */
+    @Benchmark
+    public Map<StatusEnum, Integer> countTasksDueBeforeByStatus() {
+        return columns.countTasksDueBeforeByStatus(TODAY);
+    }
+
+    /**
+     * Counts the overdue tasks by application status by walking over the internships and their tasks.
+     */
+    @Benchmark
+    public Map<StatusEnum, Integer> countTasksDueBeforeByStatusOverObjects() {
+        Map<StatusEnum, Integer> counts = new EnumMap<>(StatusEnum.class);
+        for (Internship internship : internships) {
+            for (Task task : internship.getTaskList().getArrayListTaskList()) {
+                Deadline deadline = task.getDeadline();
+                if (deadline != null && deadline.toEpochDay() < TODAY.toEpochDay()) {
+                    counts.merge(internship.getApplicationStatus().getStatus(), 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+}
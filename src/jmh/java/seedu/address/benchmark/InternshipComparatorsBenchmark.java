@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.InternshipComparators;
+import seedu.address.model.internship.Internship;
+
+/**
+ * Benchmarks sorting every internship with the comparators of the {@code sort} command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InternshipComparatorsBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"status", "company", "description", "deadline"})
+    private String field;
+
+    private List<Internship> internships;
+    private Comparator<Internship> comparator;
+
+    /**
+     * Generates the internships and the comparator for {@code field}.
+     */
+    @Setup
+    public void setUp() {
+        internships = BenchmarkData.getInternships(size);
+        switch (field) {
+        case "status":
+            comparator = InternshipComparators.byApplicationStatus(true);
+            break;
+        case "company":
+            comparator = InternshipComparators.byCompanyName(true);
+            break;
+        case "deadline":
+            comparator = InternshipComparators.byDeadline(true);
+            break;
+        default:
+            comparator = InternshipComparators.byDescription(true);
+            break;
+        }
+    }
+
+    /**
+     * Sorts a copy of the internships.
+     */
+    @Benchmark
+    public List<Internship> sort() {
+        List<Internship> sorted = new ArrayList<>(internships);
+        sorted.sort(comparator);
+        return sorted;
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.internship.Internship;
+import seedu.address.storage.JsonAdaptedInternship;
+import seedu.address.storage.JsonAdaptedInternshipConverter;
+
+/**
+ * Benchmarks converting loaded {@code JsonAdaptedInternship}s into internships, on the calling thread against in
+ * parallel chunks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonAdaptedInternshipConverterBenchmark {
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"sequential", "parallel"})
+    private String mode;
+
+    private List<JsonAdaptedInternship> records;
+    private JsonAdaptedInternshipConverter converter;
+
+    /**
+     * Generates the records to convert.
+     */
+    @Setup
+    public void setUp() {
+        records = BenchmarkData.getInternships(size).stream().map(JsonAdaptedInternship::new)
+                .collect(Collectors.toList());
+        // a chunk as large as the list is converted on the calling thread
+        int chunkSize = mode.equals("sequential")
+                ? Integer.MAX_VALUE
+                : JsonAdaptedInternshipConverter.DEFAULT_CHUNK_SIZE;
+        converter = new JsonAdaptedInternshipConverter(ForkJoinPool.commonPool(), chunkSize);
+    }
+
+    /**
+     * Converts every record.
+     */
+    @Benchmark
+    public List<Internship> convert() throws IllegalValueException {
+        return converter.convert(records);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipContainsKeywordsPredicate;
+import seedu.address.model.internship.UniqueInternshipList;
+
+/**
+ * Benchmarks filtering every internship with the predicate of the {@code find} command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordPredicateBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"withall", "withany"})
+    private String mode;
+
+    private List<Internship> internships;
+    private InternshipContainsKeywordsPredicate predicate;
+    private UniqueInternshipList list;
+
+    /**
+     * Generates the internships and a predicate on three fields.
+     */
+    @Setup
+    public void setUp() {
+        internships = BenchmarkData.getInternships(size);
+        list = new UniqueInternshipList();
+        list.setInternships(internships);
+        predicate = new InternshipContainsKeywordsPredicate("Google Grab", null, "remote", "pending",
+                "Internship", null, null, mode.equals("withall"));
+    }
+
+    /**
+     * Tests every internship with the predicate.
+     */
+    @Benchmark
+    public int test() {
+        int count = 0;
+        for (Internship internship : internships) {
+            if (predicate.test(internship)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Tests every internship with a new indexed form of the predicate, as the {@code find} command does.
+     */
+    @Benchmark
+    public int testWithIndex() {
+        Predicate<Internship> indexedPredicate = predicate.withIndex(list.getTokenIndex());
+        int count = 0;
+        for (Internship internship : internships) {
+            if (indexedPredicate.test(internship)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,293 @@
+package seedu.address.benchmark;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Config.StorageMode;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.InternshipLogic;
+import seedu.address.logic.InternshipLogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.util.InternshipDataGenerator;
+import seedu.address.storage.InternshipDataSaveScheduler;
+import seedu.address.storage.InternshipDataStorage;
+import seedu.address.storage.InternshipStorageManager;
+import seedu.address.storage.JournalInternshipDataStorage;
+import seedu.address.storage.JsonInternshipUserPrefsStorage;
+
+/**
+ * Replays a scripted mix of commands against an {@code InternshipLogicManager} holding a generated data set,
+ * without a GUI, and reports the latency percentiles of each command word.
+ *
+ * The script is generated from {@code --seed} as it runs, so that the indexes in its commands are always valid for
+ * the internships displayed at that point, and two runs with the same options replay the same commands.
+ *
+ * Usage: {@code LoadTestDriver [--size N] [--operations N] [--warmup N] [--seed N]
+ * [--storage json|journal|binary] [--background-save]}
+ */
+public class LoadTestDriver {
+    private static final String[] COMMAND_WORDS = {"find", "list", "sort", "add", "delete", "edit", "addremark",
+        "addtask", "setdeadline", "duesoon"};
+    private static final int[] COMMAND_WEIGHTS = {25, 10, 10, 10, 10, 10, 10, 10, 5, 5};
+
+    private static final String[] SORT_FIELDS = {"/com", "/poc", "/phone", "/email", "/loc", "/status", "/role",
+        "/deadline"};
+    private static final String[] FIND_FIELDS = {"/com", "/poc", "/role", "/status", "/loc"};
+    private static final String[] ROLES = {"Software Engineer", "Data Scientist", "Product Manager", "UX Designer"};
+    private static final String[] REMARKS = {"Referred by a friend", "OA due tomorrow!", "Follow up next week"};
+    private static final String[] TASKS = {"Prepare for interview", "Send thank you email", "Submit transcript"};
+
+    private final Random random;
+    private final InternshipDataGenerator generator;
+    private InternshipLogic logic;
+    private final Map<String, LatencyRecorder> recorders = new TreeMap<>();
+    private int addedCount;
+
+    private LoadTestDriver(long seed, int size) {
+        this.random = new Random(seed);
+        this.generator = new InternshipDataGenerator(seed);
+        // internships that are added continue the generated sequence, so they are never duplicates
+        this.addedCount = size;
+    }
+
+    /**
+     * Runs the load test described by {@code args}.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int size = Integer.parseInt(options.getOrDefault("size", "100000"));
+        int operations = Integer.parseInt(options.getOrDefault("operations", "2000"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", String.valueOf(operations / 4)));
+        long seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(BenchmarkData.SEED)));
+        StorageMode storageMode = StorageMode.valueOf(options.getOrDefault("storage", "json").toUpperCase());
+        boolean isBackgroundSave = options.containsKey("background-save");
+
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        Path directory = Files.createTempDirectory("loadtest");
+        Path dataFilePath = directory.resolve("internshipdata.json");
+        InternshipDataStorage dataStorage = GenerateInternshipData.createStorage(storageMode, dataFilePath);
+        dataStorage.saveInternshipData(new InternshipDataGenerator(seed).asInternshipData(size));
+
+        long start = System.nanoTime();
+        ReadOnlyInternshipData internshipData = dataStorage.readInternshipData().orElseThrow();
+        InternshipUserPrefs userPrefs = new InternshipUserPrefs();
+        userPrefs.setInternshipDataFilePath(dataFilePath);
+        InternshipModelManager model = new InternshipModelManager(internshipData, userPrefs);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("Loaded %d internships in %s in %d ms%n", size, storageMode, elapsedMillis);
+
+        InternshipStorageManager storage = new InternshipStorageManager(dataStorage,
+                new JsonInternshipUserPrefsStorage(directory.resolve("preferences.json")));
+        InternshipDataSaveScheduler saveScheduler = null;
+        if (dataStorage instanceof JournalInternshipDataStorage) {
+            JournalInternshipDataStorage journalStorage = (JournalInternshipDataStorage) dataStorage;
+            journalStorage.track(model.getInternshipData().getInternshipList());
+        } else if (isBackgroundSave) {
+            saveScheduler = new InternshipDataSaveScheduler(storage, InternshipDataSaveScheduler.DEFAULT_DELAY_MILLIS);
+        }
+
+        LoadTestDriver driver = new LoadTestDriver(seed, size);
+        driver.logic = new InternshipLogicManager(model, storage, saveScheduler);
+        driver.run(warmup);
+        // a fresh logic manager, so that its command metrics only hold the measured commands
+        CommandMetrics commandMetrics = new CommandMetrics();
+        driver.logic = new InternshipLogicManager(model, storage, saveScheduler, commandMetrics);
+        driver.recorders.clear();
+        driver.run(operations);
+        if (saveScheduler != null) {
+            saveScheduler.shutdown();
+        }
+        driver.printReport(operations);
+        System.out.printf("%nTime in milliseconds and allocations in kilobytes by phase:%n%s", commandMetrics.format());
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Executes {@code operations} commands of the script, recording the latency of each.
+     */
+    private void run(int operations) {
+        for (int i = 0; i < operations; i++) {
+            String commandText = nextCommandText();
+            String commandWord = commandText.split(" ", 2)[0];
+            boolean isFailed = false;
+            long start = System.nanoTime();
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                isFailed = true;
+            }
+            long latency = System.nanoTime() - start;
+            recorders.computeIfAbsent(commandWord, unused -> new LatencyRecorder()).record(latency, isFailed);
+        }
+    }
+
+    /**
+     * Returns the next command of the script. Commands that need an internship fall back to {@code list} if none
+     * is displayed.
+     */
+    private String nextCommandText() {
+        List<Internship> displayed = logic.getFilteredInternshipList();
+        String commandWord = pickCommandWord();
+        if (commandWord.equals("sort")) {
+            return "sort " + pick(SORT_FIELDS) + (random.nextBoolean() ? " asc" : " desc");
+        }
+        if (commandWord.equals("add")) {
+            return getAddCommandText(generator.getInternship(addedCount++));
+        }
+        if (commandWord.equals("duesoon")) {
+            return "duesoon " + (random.nextInt(30) + 1);
+        }
+        if (displayed.isEmpty()) {
+            return "list";
+        }
+
+        int index = random.nextInt(displayed.size()) + 1;
+        switch (commandWord) {
+        case "find":
+            return getFindCommandText(displayed.get(index - 1));
+        case "delete":
+            return "delete " + index;
+        case "edit":
+            return "edit " + index + " /role " + pick(ROLES);
+        case "addremark":
+            return "addremark " + index + " /remark " + pick(REMARKS);
+        case "addtask":
+            return "addtask " + index + " /task " + pick(TASKS);
+        case "setdeadline":
+            int taskCount = displayed.get(index - 1).getTaskList().getTaskListSize();
+            if (taskCount == 0) {
+                return "addtask " + index + " /task " + pick(TASKS);
+            }
+            return "setdeadline " + index + " /selecttask " + (random.nextInt(taskCount) + 1)
+                    + " /deadline " + String.format("%02d/%02d/2024", random.nextInt(28) + 1, random.nextInt(12) + 1);
+        default:
+            return commandWord;
+        }
+    }
+
+    /**
+     * Returns a {@code find} command for a word of a field of {@code internship}, so that it matches at least one
+     * internship.
+     */
+    private String getFindCommandText(Internship internship) {
+        String field = pick(FIND_FIELDS);
+        String text;
+        switch (field) {
+        case "/com":
+            text = internship.getCompanyName().companyName;
+            break;
+        case "/poc":
+            text = internship.getContactName().contactName;
+            break;
+        case "/role":
+            text = internship.getRole().role;
+            break;
+        case "/status":
+            text = internship.getApplicationStatus().toString();
+            break;
+        default:
+            text = internship.getLocation().toString();
+            break;
+        }
+        return "find " + (random.nextBoolean() ? "withany " : "withall ") + field + " " + text.split(" ")[0];
+    }
+
+    private static String getAddCommandText(Internship internship) {
+        return "add /com " + internship.getCompanyName()
+                + " /desc " + internship.getDescription()
+                + " /status " + internship.getApplicationStatus()
+                + " /poc " + internship.getContactName()
+                + " /email " + internship.getContactEmail()
+                + " /phone " + internship.getContactNumber()
+                + " /loc " + internship.getLocation()
+                + " /role " + internship.getRole();
+    }
+
+    private String pickCommandWord() {
+        int total = Arrays.stream(COMMAND_WEIGHTS).sum();
+        int pick = random.nextInt(total);
+        for (int i = 0; i < COMMAND_WORDS.length; i++) {
+            pick -= COMMAND_WEIGHTS[i];
+            if (pick < 0) {
+                return COMMAND_WORDS[i];
+            }
+        }
+        throw new AssertionError("Weights should sum to total");
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private void printReport(int operations) {
+        System.out.printf("Replayed %d commands, latencies in microseconds:%n", operations);
+        System.out.printf("%-12s %8s %8s %10s %10s %10s%n", "command", "count", "failed", "p50", "p99", "max");
+        recorders.forEach((commandWord, recorder) -> System.out.printf("%-12s %8d %8d %10.1f %10.1f %10.1f%n",
+                commandWord, recorder.count, recorder.failedCount, recorder.getPercentile(0.5) / 1000.0,
+                recorder.getPercentile(0.99) / 1000.0, recorder.getPercentile(1) / 1000.0));
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new TreeMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String name = args[i].substring(2);
+            boolean hasValue = i + 1 < args.length && !args[i + 1].startsWith("--");
+            options.put(name, hasValue ? args[++i] : "");
+        }
+        return options;
+    }
+
+    /**
+     * The latencies of the commands with one command word.
+     */
+    private static class LatencyRecorder {
+        private long[] latencies = new long[64];
+        private int count;
+        private int failedCount;
+
+        void record(long latency, boolean isFailed) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+            if (isFailed) {
+                failedCount++;
+            }
+        }
+
+        /**
+         * Returns the smallest recorded latency that is at least that of a {@code quantile} of the commands.
+         */
+        long getPercentile(double quantile) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(quantile * count);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+    }
+}
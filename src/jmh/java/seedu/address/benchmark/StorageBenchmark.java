@@ -0,0 +1,93 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.InternshipData;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.util.InternshipDataGenerator;
+import seedu.address.storage.BinaryInternshipDataStorage;
+import seedu.address.storage.InternshipDataStorage;
+import seedu.address.storage.JsonInternshipDataStorage;
+
+/**
+ * Benchmarks saving and loading internship data in each storage format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"json", "streaming-json", "binary"})
+    private String format;
+
+    private Path directory;
+    private InternshipDataStorage storage;
+    private InternshipData internshipData;
+
+    /**
+     * Generates the internship data and saves it once, so that there is a file to load.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("storage-benchmark");
+        internshipData = new InternshipDataGenerator(BenchmarkData.SEED).generateInternshipData(size);
+        switch (format) {
+        case "json":
+            storage = new JsonInternshipDataStorage(directory.resolve("internshipdata.json"), false);
+            break;
+        case "streaming-json":
+            storage = new JsonInternshipDataStorage(directory.resolve("internshipdata.json"), true);
+            break;
+        default:
+            storage = new BinaryInternshipDataStorage(directory.resolve("internshipdata.bin"));
+            break;
+        }
+        storage.saveInternshipData(internshipData);
+    }
+
+    /**
+     * Deletes the saved files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Saves the internship data.
+     */
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveInternshipData(internshipData);
+    }
+
+    /**
+     * Loads the saved internship data.
+     */
+    @Benchmark
+    public ReadOnlyInternshipData load() throws DataLoadingException {
+        return storage.readInternshipData().get();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.UniqueInternshipList;
+
+/**
+ * Benchmarks adding internships to a {@code UniqueInternshipList} and checking it for duplicates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniqueInternshipListBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Internship> internships;
+    private UniqueInternshipList filledList;
+    private Internship absentInternship;
+
+    /**
+     * Generates the internships, one more than {@code size} so that one is not in the filled list.
+     */
+    @Setup
+    public void setUp() {
+        internships = BenchmarkData.getInternships(size + 1);
+        absentInternship = internships.remove(size);
+        filledList = new UniqueInternshipList();
+        filledList.setInternships(internships);
+    }
+
+    /**
+     * Adds every internship one at a time, as when they are added by commands.
+     */
+    @Benchmark
+    public UniqueInternshipList add() {
+        UniqueInternshipList list = new UniqueInternshipList();
+        for (Internship internship : internships) {
+            list.add(internship);
+        }
+        return list;
+    }
+
+    /**
+     * Replaces the contents of a list with every internship, as when the data is loaded.
+     */
+    @Benchmark
+    public UniqueInternshipList setInternships() {
+        UniqueInternshipList list = new UniqueInternshipList();
+        list.setInternships(internships);
+        return list;
+    }
+
+    /**
+     * Checks a full list for an internship that it does not contain, as before every add.
+     */
+    @Benchmark
+    public boolean contains() {
+        return filledList.contains(absentInternship);
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.internship.ApplicationStatus;
+import seedu.address.model.internship.CompanyName;
+import seedu.address.model.internship.ContactEmail;
+import seedu.address.model.internship.ContactName;
+import seedu.address.model.internship.ContactNumber;
+import seedu.address.model.internship.Deadline;
+import seedu.address.model.internship.Description;
+import seedu.address.model.internship.Location;
+import seedu.address.model.internship.Role;
+import seedu.address.model.internship.Task;
+
+/**
+ * Benchmarks the check of each model value, against matching its regex with {@link String#matches(String)} as the
+ * checks did before, or for deadlines, against parsing with a {@code DateTimeFormatter} and catching the exception.
+ * Each check is given a valid and an invalid value in turn.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+    private static final DateTimeFormatter DEADLINE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    @Param({"companyName", "contactName", "contactEmail", "contactNumber", "description", "role", "task", "location",
+        "applicationStatus", "deadline"})
+    private String value;
+
+    private String[] inputs;
+    private Predicate<String> check;
+    private Predicate<String> oldCheck;
+    private int next;
+
+    /**
+     * Picks the inputs and the checks of the value.
+     */
+    @Setup
+    public void setUp() {
+        switch (value) {
+        case "companyName":
+            setChecks(CompanyName::isValidCompanyName, CompanyName.VALIDATION_REGEX, "Google Singapore", "Facebook*");
+            break;
+        case "contactName":
+            setChecks(ContactName::isValidContactName, ContactName.VALIDATION_REGEX, "Alice Tan", "R@chel");
+            break;
+        case "contactEmail":
+            setChecks(ContactEmail::isValidContactEmail, ContactEmail.VALIDATION_REGEX,
+                    "alice.tan42@example.com", "example!com");
+            break;
+        case "contactNumber":
+            setChecks(ContactNumber::isValidContactNumber, ContactNumber.VALIDATION_REGEX, "80001234", "+651234");
+            break;
+        case "description":
+            setChecks(Description::isValidDescription, Description.VALIDATION_REGEX,
+                    "Software Engineering Internship", " ");
+            break;
+        case "role":
+            setChecks(Role::isValidRole, Role.VALIDATION_REGEX, "Software Engineer", " ");
+            break;
+        case "task":
+            setChecks(Task::isValidTask, Task.VALIDATION_REGEX, "Submit resume", " ");
+            break;
+        case "location":
+            setChecks(Location::isValidLocation, Location.VALIDATION_REGEX, "overseas", "invalid location");
+            break;
+        case "applicationStatus":
+            setChecks(ApplicationStatus::isValidApplicationStatus, ApplicationStatus.VALIDATION_REGEX,
+                    "to_apply", "invalid status");
+            break;
+        default:
+            inputs = new String[] {"23/03/2024", "23/Mar/2024"};
+            check = Deadline::isValidDeadline;
+            oldCheck = ValidatorBenchmark::isParsedByFormatter;
+            break;
+        }
+    }
+
+    private void setChecks(Predicate<String> check, String regex, String validInput, String invalidInput) {
+        this.inputs = new String[] {validInput, invalidInput};
+        this.check = check;
+        this.oldCheck = input -> input.matches(regex);
+    }
+
+    private static boolean isParsedByFormatter(String deadline) {
+        try {
+            LocalDate.parse(deadline, DEADLINE_FORMATTER);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks the next input with the check of the value.
+     */
+    @Benchmark
+    public boolean check() {
+        return check.test(nextInput());
+    }
+
+    /**
+     * Checks the next input the way the value was checked before.
+     */
+    @Benchmark
+    public boolean oldCheck() {
+        return oldCheck.test(nextInput());
+    }
+
+    private String nextInput() {
+        next = (next + 1) % inputs.length;
+        return inputs[next];
+    }
+}
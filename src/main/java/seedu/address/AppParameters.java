@@ -18,6 +18,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private boolean isExitAfterStartup;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +28,18 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if the app should exit as soon as its window has been drawn, e.g. to record the classes loaded
+     * during startup for a class data sharing archive.
+     */
+    public boolean isExitAfterStartup() {
+        return isExitAfterStartup;
+    }
+
+    public void setExitAfterStartup(boolean isExitAfterStartup) {
+        this.isExitAfterStartup = isExitAfterStartup;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +53,7 @@ public class AppParameters {
             configPathParameter = null;
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        appParameters.setExitAfterStartup(Boolean.parseBoolean(namedParameters.get("exit-after-startup")));
 
         return appParameters;
     }
@@ -56,18 +70,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && isExitAfterStartup == otherAppParameters.isExitAfterStartup;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isExitAfterStartup);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("isExitAfterStartup", isExitAfterStartup)
                 .toString();
     }
 }
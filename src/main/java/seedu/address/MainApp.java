@@ -1,31 +1,41 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfile;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.InternshipLogic;
 import seedu.address.logic.InternshipLogicManager;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.model.InternshipData;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.InternshipModelManager;
 import seedu.address.model.InternshipUserPrefs;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.ReadOnlyInternshipUserPrefs;
-import seedu.address.model.util.InternshipSampleDataUtil;
+import seedu.address.storage.BinaryInternshipDataStorage;
+import seedu.address.storage.InternshipDataLoader;
+import seedu.address.storage.InternshipDataSaveScheduler;
 import seedu.address.storage.InternshipDataStorage;
 import seedu.address.storage.InternshipStorage;
 import seedu.address.storage.InternshipStorageManager;
 import seedu.address.storage.InternshipUserPrefsStorage;
+import seedu.address.storage.JournalInternshipDataStorage;
 import seedu.address.storage.JsonInternshipDataStorage;
 import seedu.address.storage.JsonInternshipUserPrefsStorage;
 import seedu.address.ui.Ui;
@@ -45,54 +55,98 @@ public class MainApp extends Application {
     protected InternshipStorage storage;
     protected InternshipModel model;
     protected Config config;
+    protected InternshipDataSaveScheduler saveScheduler;
+    protected CommandMetrics commandMetrics;
+    protected InternshipDataLoader dataLoader;
+    protected StartupProfile startupProfile;
+
+    private boolean isExitAfterStartup;
 
     @Override
     public void init() throws Exception {
+        startupProfile = new StartupProfile();
         logger.info("=============================[ Initializing CareerSync ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        isExitAfterStartup = appParameters.isExitAfterStartup();
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        startupProfile.mark("config");
 
         InternshipUserPrefsStorage userPrefsStorage = new JsonInternshipUserPrefsStorage(config.getUserPrefsFilePath());
         InternshipUserPrefs userPrefs = initPrefs(userPrefsStorage);
-        InternshipDataStorage internshipDataStorage =
-                new JsonInternshipDataStorage(userPrefs.getInternshipDataFilePath());
+        startupProfile.mark("prefs");
+        InternshipDataStorage internshipDataStorage = initInternshipDataStorage(config, userPrefs);
         storage = new InternshipStorageManager(internshipDataStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        if (config.isBackgroundLoading()) {
+            // The internships are added to the model on the JavaFX application thread, after the window is shown
+            model = new InternshipModelManager(new InternshipData(), userPrefs);
+            dataLoader = new InternshipDataLoader(storage, model, Platform::runLater,
+                    InternshipDataLoader.DEFAULT_BATCH_SIZE);
+        } else {
+            ReadOnlyInternshipData initialData = InternshipDataLoader.readInternshipData(storage);
+            startupProfile.mark("storage read");
+            model = new InternshipModelManager(initialData, userPrefs);
+        }
+        startupProfile.mark("model build");
 
-        logic = new InternshipLogicManager(model, storage);
+        commandMetrics = new CommandMetrics();
+        if (config.getMetricsLogIntervalMinutes() > 0) {
+            commandMetrics.scheduleLogging(config.getMetricsLogIntervalMinutes(), TimeUnit.MINUTES);
+        }
+        InternshipLogicManager logicManager;
+        if (internshipDataStorage instanceof JournalInternshipDataStorage) {
+            // Journal saves only append the latest changes, so they are done right after each command
+            JournalInternshipDataStorage journalStorage = (JournalInternshipDataStorage) internshipDataStorage;
+            journalStorage.track(model.getInternshipData().getInternshipList());
+            logicManager = new InternshipLogicManager(model, storage, null, commandMetrics);
+        } else {
+            saveScheduler = new InternshipDataSaveScheduler(storage, InternshipDataSaveScheduler.DEFAULT_DELAY_MILLIS);
+            logicManager = new InternshipLogicManager(model, storage, saveScheduler, commandMetrics);
+        }
+        logicManager.setDataLoader(dataLoader);
+        logic = logicManager;
+        startupProfile.mark("logic");
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code InternshipModelManager} with the data from {@code storage}'s internship data and
-     * {@code userPrefs}. <br>
-     * The data from the sample internship data will be used instead if {@code storage}'s internship data is not found,
-     * or an empty internship data will be used instead if errors occur when reading {@code storage}'s internship data.
+     * Returns the {@code InternshipDataStorage} for the data file in {@code userPrefs}, in the storage mode
+     * specified by {@code config}.
      */
-    private InternshipModel initModelManager(InternshipStorage storage, ReadOnlyInternshipUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getInternshipDataFilePath());
+    private InternshipDataStorage initInternshipDataStorage(Config config, ReadOnlyInternshipUserPrefs userPrefs) {
+        Path internshipDataFilePath = userPrefs.getInternshipDataFilePath();
+        logger.info("Using storage mode : " + config.getStorageMode());
+        switch (config.getStorageMode()) {
+        case JOURNAL:
+            return new JournalInternshipDataStorage(internshipDataFilePath,
+                    JournalInternshipDataStorage.DEFAULT_COMPACTION_THRESHOLD);
+        case BINARY:
+            return initBinaryInternshipDataStorage(internshipDataFilePath);
+        case JSON:
+        default:
+            return new JsonInternshipDataStorage(internshipDataFilePath, true);
+        }
+    }
 
-        Optional<ReadOnlyInternshipData> internshipDataOptional;
-        ReadOnlyInternshipData initialData;
-        try {
-            internshipDataOptional = storage.readInternshipData();
-            if (!internshipDataOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getInternshipDataFilePath()
-                        + " populated with a sample InternshipData.");
+    /**
+     * Returns a {@code BinaryInternshipDataStorage} next to the json data file at {@code jsonFilePath}, importing
+     * the json data file if there is no binary file yet.
+     */
+    private BinaryInternshipDataStorage initBinaryInternshipDataStorage(Path jsonFilePath) {
+        BinaryInternshipDataStorage binaryStorage = new BinaryInternshipDataStorage(
+                BinaryInternshipDataStorage.getBinaryFilePath(jsonFilePath));
+        if (!Files.exists(binaryStorage.getInternshipDataFilePath())) {
+            try {
+                binaryStorage.importFromJson(jsonFilePath);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Data file at " + jsonFilePath + " could not be imported: " + StringUtil.getDetails(e));
             }
-            initialData = internshipDataOptional.orElseGet(InternshipSampleDataUtil::getSampleInternshipData);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getInternshipDataFilePath() + " could not be loaded."
-                    + " Will be starting with an empty InternshipData.");
-            initialData = new InternshipData();
         }
-
-        return new InternshipModelManager(initialData, userPrefs);
+        return binaryStorage;
     }
 
     private void initLogging(Config config) {
@@ -174,6 +228,38 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting InternshipData " + MainApp.VERSION);
         ui.start(primaryStage);
+        startupProfile.mark("ui");
+        if (dataLoader != null) {
+            dataLoader.start();
+        }
+        logStartupProfileAfterFirstFrame(primaryStage.getScene());
+    }
+
+    /**
+     * Logs the startup profile once {@code scene} has been laid out for the first time, and then exits if the app
+     * was asked to exit after startup.
+     */
+    private void logStartupProfileAfterFirstFrame(Scene scene) {
+        if (scene == null) {
+            return;
+        }
+        AtomicBoolean isLogged = new AtomicBoolean();
+        Runnable firstFrameListener = new Runnable() {
+            @Override
+            public void run() {
+                if (isLogged.getAndSet(true)) {
+                    return;
+                }
+                startupProfile.mark("first frame");
+                logger.info("Startup phases of " + VERSION + ": " + startupProfile.format());
+                // the listeners of the scene must not be changed while they are being run
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+                if (isExitAfterStartup) {
+                    Platform.exit();
+                }
+            }
+        };
+        scene.addPostLayoutPulseListener(firstFrameListener);
     }
 
     @Override
@@ -184,5 +270,17 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (commandMetrics != null) {
+            commandMetrics.stopLogging();
+            logger.info("Command metrics:\n" + commandMetrics.format());
+        }
+        if (saveScheduler == null) {
+            return;
+        }
+        try {
+            saveScheduler.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save internship data " + StringUtil.getDetails(e));
+        }
     }
 }
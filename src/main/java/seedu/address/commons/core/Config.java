@@ -14,9 +14,26 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * Enum of the ways internship data can be stored on the hard disk.
+     */
+    public enum StorageMode {
+        /** The whole data set is rewritten as a json file on every save. */
+        JSON,
+        /** Changes are appended to a journal that is periodically compacted into a json file. */
+        JOURNAL,
+        /** The whole data set is rewritten as a compact binary file on every save. */
+        BINARY
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private StorageMode storageMode = StorageMode.JSON;
+    // How often the command metrics are written to the log, in minutes. They are never written if this is 0.
+    private long metricsLogIntervalMinutes = 10;
+    // Whether the main window is shown before the internship data is loaded, and the data loaded in the background
+    private boolean backgroundLoading = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +51,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
+    public long getMetricsLogIntervalMinutes() {
+        return metricsLogIntervalMinutes;
+    }
+
+    public void setMetricsLogIntervalMinutes(long metricsLogIntervalMinutes) {
+        this.metricsLogIntervalMinutes = metricsLogIntervalMinutes;
+    }
+
+    public boolean isBackgroundLoading() {
+        return backgroundLoading;
+    }
+
+    public void setBackgroundLoading(boolean backgroundLoading) {
+        this.backgroundLoading = backgroundLoading;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +88,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(storageMode, otherConfig.storageMode)
+                && metricsLogIntervalMinutes == otherConfig.metricsLogIntervalMinutes
+                && backgroundLoading == otherConfig.backgroundLoading;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, storageMode, metricsLogIntervalMinutes, backgroundLoading);
     }
 
     @Override
@@ -60,6 +104,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("storageMode", storageMode)
+                .add("metricsLogIntervalMinutes", metricsLogIntervalMinutes)
+                .add("backgroundLoading", backgroundLoading)
                 .toString();
     }
 
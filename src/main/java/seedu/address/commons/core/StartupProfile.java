@@ -0,0 +1,86 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.LongSupplier;
+
+/**
+ * Records how long each phase of the startup of the app takes, so that changes to the startup time can be measured
+ * and compared across releases.
+ *
+ * A phase ends when it is {@link #mark(String) marked}, and the next phase starts at the same time. The first phase
+ * starts when the profile is created, and may be preceded by the time the JVM took to start the app.
+ */
+public class StartupProfile {
+    /** The name of the phase from the start of the JVM to the creation of the profile. */
+    public static final String JVM_PHASE = "jvm";
+
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private long lastMarkNanos;
+
+    /**
+     * Creates a {@code StartupProfile} whose first phase is the time the JVM took to start the app, if the start time
+     * of the JVM is known.
+     */
+    public StartupProfile() {
+        this(System::nanoTime);
+        Optional<Instant> jvmStart = ProcessHandle.current().info().startInstant();
+        jvmStart.ifPresent(start -> phaseNanos.put(JVM_PHASE,
+                Math.max(0, System.currentTimeMillis() - start.toEpochMilli()) * NANOS_PER_MILLI));
+    }
+
+    /**
+     * Creates a {@code StartupProfile} that reads the time, in nanoseconds, from {@code nanoClock}.
+     */
+    public StartupProfile(LongSupplier nanoClock) {
+        requireNonNull(nanoClock);
+        this.nanoClock = nanoClock;
+        this.lastMarkNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Ends the phase named {@code phase}, which started when the previous phase ended.
+     * If a phase of the same name has already ended, the time is added to it.
+     */
+    public synchronized void mark(String phase) {
+        requireNonNull(phase);
+        long now = nanoClock.getAsLong();
+        phaseNanos.merge(phase, now - lastMarkNanos, Long::sum);
+        lastMarkNanos = now;
+    }
+
+    /**
+     * Returns the time each phase took, in milliseconds, in the order in which the phases ended.
+     */
+    public synchronized Map<String, Long> getPhaseMillis() {
+        Map<String, Long> phaseMillis = new LinkedHashMap<>();
+        phaseNanos.forEach((phase, nanos) -> phaseMillis.put(phase, nanos / NANOS_PER_MILLI));
+        return Collections.unmodifiableMap(phaseMillis);
+    }
+
+    /**
+     * Returns the time taken by all the phases, in milliseconds.
+     */
+    public synchronized long getTotalMillis() {
+        return phaseNanos.values().stream().mapToLong(Long::longValue).sum() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the time each phase took on a single line, e.g. {@code "config=12ms prefs=3ms total=15ms"}.
+     */
+    public synchronized String format() {
+        StringJoiner joiner = new StringJoiner(" ");
+        getPhaseMillis().forEach((phase, millis) -> joiner.add(phase + "=" + millis + "ms"));
+        joiner.add("total=" + getTotalMillis() + "ms");
+        return joiner.toString();
+    }
+}
@@ -1,10 +1,23 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +25,15 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes content to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +97,115 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, so it is never left partially written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        Path tempFile = writeToTempFile(file, out -> out.write(bytes));
+        moveAtomically(tempFile, file);
+        forceParentDirectory(file);
+    }
+
+    /**
+     * Writes the content produced by {@code writer} to a new temporary file in the same directory as {@code file},
+     * and forces it to the storage device.
+     * The temporary file has the permissions of {@code file} if it exists, so that moving it over {@code file} does
+     * not change them, or else the default permissions of new files.
+     * The temporary file is deleted if writing fails.
+     *
+     * @return the path of the temporary file.
+     */
+    public static Path writeToTempFile(Path file, StreamWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = createTempFile(file);
+        try {
+            copyPermissions(file, tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            writer.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    /**
+     * Creates a new empty file in the same directory as {@code file}, named after it.
+     * Unlike {@link Files#createTempFile}, which makes the file readable only by its owner, the file is created with
+     * the default permissions of new files.
+     */
+    private static Path createTempFile(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        while (true) {
+            String tempFileName = file.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX;
+            try {
+                return Files.createFile(directory.resolve(tempFileName));
+            } catch (FileAlreadyExistsException e) {
+                // Try another name
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and the file system has
+     * POSIX permissions.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        boolean hasPosixPermissions =
+                Files.getFileStore(target).supportsFileAttributeView(PosixFileAttributeView.class);
+        if (hasPosixPermissions && Files.exists(source)) {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} atomically, replacing {@code target} if it exists.
+     * Falls back to a plain replacing move if the file system does not support atomic moves.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory containing {@code file} to the storage device, so that files moved into or out of it are
+     * not lost in a crash. Does nothing if the file system does not have POSIX permissions, as directories may then
+     * not be opened as files.
+     */
+    public static void forceParentDirectory(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (!Files.getFileStore(directory).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the contents of {@code file}.
+     * Assumes file exists
+     */
+    public static long computeChecksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), crc)) {
+            while (in.read(buffer) != -1) {
+                // Reading updates the checksum
+            }
+        }
+        return crc.getValue();
     }
 
 }
@@ -38,6 +38,65 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if the {@code sentence} contains any of the {@code words}.
+     *   Ignores case, but a full word match is required, as in {@link #containsWordIgnoreCase(String, String)}.
+     *   Unlike that method, the sentence is scanned in place without splitting it, so no objects are allocated.
+     * @param sentence cannot be null
+     * @param words cannot be null, each must be a single word without whitespace
+     */
+    public static boolean containsAnyWordIgnoreCase(String sentence, String[] words) {
+        int length = sentence.length();
+        int end = 0;
+        while (end < length) {
+            int start = end;
+            while (start < length && isRegexWhitespace(sentence.charAt(start))) {
+                start++;
+            }
+            end = start;
+            while (end < length && !isRegexWhitespace(sentence.charAt(end))) {
+                end++;
+            }
+            int wordLength = end - start;
+            for (String word : words) {
+                if (wordLength > 0 && word.length() == wordLength
+                        && sentence.regionMatches(true, start, word, 0, wordLength)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the regular expression {@code \s}.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns {@code text} with every character folded to a single case in the way
+     * {@link String#CASE_INSENSITIVE_ORDER} compares characters, so that folded strings compare with
+     * {@link String#compareTo(String)} and {@link String#equals(Object)} as the original strings compare ignoring case.
+     * Returns {@code text} itself if no character changes.
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+        char[] chars = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            char folded = Character.toLowerCase(Character.toUpperCase(c));
+            if (folded != c) {
+                if (chars == null) {
+                    chars = text.toCharArray();
+                }
+                chars[i] = folded;
+            }
+        }
+        return chars == null ? text : new String(chars);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,115 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hand-written checks for the simple formats of the model's values.
+ * Each check accepts exactly the strings that the regex in its documentation matches as a whole, without compiling or
+ * running the regex.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} matches {@code [\p{Alnum}][\p{Alnum} ]*}, i.e. it starts with an ASCII letter or
+     * digit, followed only by ASCII letters, digits and spaces.
+     */
+    public static boolean isAlphanumericWithSpaces(String test) {
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code ^(?!\s*$).+}, i.e. it is a single line with at least one character
+     * that is not whitespace.
+     */
+    public static boolean isNonBlankLine(String test) {
+        boolean hasNonWhitespace = false;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (isLineTerminator(c)) {
+                return false;
+            }
+            hasNonWhitespace |= !isRegexWhitespace(c);
+        }
+        return hasNonWhitespace;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code \d{minLength,}}, i.e. it has at least {@code minLength} characters,
+     * all of them ASCII digits.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the constant in {@code constants} whose name is {@code name}, ignoring the case of ASCII letters as
+     * {@code (?i)} does, or null if there is none.
+     */
+    public static <E extends Enum<E>> E findConstantIgnoreCase(E[] constants, String name) {
+        requireNonNull(name);
+        for (E constant : constants) {
+            if (equalsIgnoreAsciiCase(constant.name(), name)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as {@code \d} matches.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is not matched by {@code .}.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean equalsIgnoreAsciiCase(String first, String second) {
+        if (first.length() != second.length()) {
+            return false;
+        }
+        for (int i = 0; i < first.length(); i++) {
+            if (toAsciiLowerCase(first.charAt(i)) != toAsciiLowerCase(second.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toAsciiLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
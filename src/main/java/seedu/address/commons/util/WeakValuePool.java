@@ -0,0 +1,72 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe pool of canonical values, each found by a key that the value itself refers to, such as the string that
+ * a value object wraps. A value stays in the pool only while it is used elsewhere.
+ *
+ * The pool is split into segments by the hash code of the key, so that threads that add values in parallel seldom
+ * wait for each other.
+ */
+public class WeakValuePool<K, V> {
+    private static final int SEGMENT_COUNT = 16;
+
+    private final List<Map<K, WeakReference<V>>> segments = new ArrayList<>(SEGMENT_COUNT);
+
+    /**
+     * Creates an empty {@code WeakValuePool}.
+     */
+    public WeakValuePool() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments.add(new WeakHashMap<>());
+        }
+    }
+
+    /**
+     * Returns the value of {@code key} in the pool. If there is none, the value created by {@code create} is added to
+     * the pool and returned. The created value must refer to the key given to {@code create}, so that the key is not
+     * collected while the value is still in use.
+     */
+    public V get(K key, Function<? super K, ? extends V> create) {
+        requireNonNull(key);
+        requireNonNull(create);
+        Map<K, WeakReference<V>> segment = getSegment(key);
+        synchronized (segment) {
+            WeakReference<V> reference = segment.get(key);
+            V value = reference == null ? null : reference.get();
+            if (value == null) {
+                value = requireNonNull(create.apply(key));
+                // the stale entry is removed first, as put would keep its key rather than the key of the new value
+                segment.remove(key);
+                segment.put(key, new WeakReference<>(value));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Returns the number of values in the pool, including those that are no longer used but not yet collected.
+     */
+    public int size() {
+        int size = 0;
+        for (Map<K, WeakReference<V>> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Map<K, WeakReference<V>> getSegment(K key) {
+        int hash = key.hashCode();
+        return segments.get(Math.floorMod(hash ^ (hash >>> 16), SEGMENT_COUNT));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +10,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.DeadlineIndex;
 import seedu.address.model.internship.Internship;
 
 /**
@@ -23,6 +26,30 @@ public interface InternshipLogic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the error message when saving the internship data in the background fails.
+     * The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Returns true while the internship data is still being loaded in the background.
+     * Commands cannot be executed until it has been loaded.
+     */
+    boolean isLoading();
+
+    /**
+     * Sets the handler that is given the number of internships loaded so far, and the total number of internships,
+     * while the internship data is being loaded in the background.
+     */
+    void setLoadingProgressHandler(BiConsumer<Integer, Integer> loadingProgressHandler);
+
+    /**
+     * Sets the handler that is called once the internship data has been loaded, or at once if it is not being
+     * loaded in the background.
+     */
+    void setLoadedHandler(Runnable loadedHandler);
+
     /**
      * Returns the InternshipData.
      *
@@ -30,6 +57,13 @@ public interface InternshipLogic {
      */
     ReadOnlyInternshipData getInternshipData();
 
+    /**
+     * Returns the index of the deadlines of the tasks in the InternshipData.
+     *
+     * @see seedu.address.model.InternshipModel#getDeadlineIndex()
+     */
+    DeadlineIndex getDeadlineIndex();
+
     /** Returns an unmodifiable view of the filtered list of internships */
     ObservableList<Internship> getFilteredInternshipList();
 
@@ -3,19 +3,26 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.InternshipCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.InternshipDataParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.DeadlineIndex;
 import seedu.address.model.internship.Internship;
+import seedu.address.storage.InternshipDataLoader;
+import seedu.address.storage.InternshipDataSaveScheduler;
 import seedu.address.storage.InternshipStorage;
 
 /**
@@ -32,41 +39,162 @@ public class InternshipLogicManager implements InternshipLogic {
     private final InternshipModel model;
     private final InternshipStorage storage;
     private final InternshipDataParser internshipDataParser;
+    private final InternshipDataSaveScheduler saveScheduler;
+    private final CommandMetrics commandMetrics;
+
+    // Whether the internship data has changed since it was last saved. The data is not yet saved at startup.
+    private volatile boolean isDirty = true;
+    private Consumer<String> saveFailureHandler = unused -> {};
+    private InternshipDataLoader dataLoader;
 
     /**
      * Constructs a {@code InternshipLogicManager} with the
      * given {@code InternshipModel} and {@code Storage}.
+     * The internship data is saved synchronously after every command that changes it.
      */
     public InternshipLogicManager(InternshipModel model, InternshipStorage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code InternshipLogicManager} with the given {@code InternshipModel} and {@code Storage}.
+     * If {@code saveScheduler} is not null, the internship data is saved through it in the background instead,
+     * and save failures are reported through the handler set by {@link #setSaveFailureHandler(Consumer)}.
+     */
+    public InternshipLogicManager(InternshipModel model, InternshipStorage storage,
+                                  InternshipDataSaveScheduler saveScheduler) {
+        this(model, storage, saveScheduler, new CommandMetrics());
+    }
+
+    /**
+     * Constructs a {@code InternshipLogicManager} like {@link #InternshipLogicManager(InternshipModel,
+     * InternshipStorage, InternshipDataSaveScheduler)} that records the time and memory spent by every command,
+     * including its background save, in {@code commandMetrics}.
+     */
+    public InternshipLogicManager(InternshipModel model, InternshipStorage storage,
+                                  InternshipDataSaveScheduler saveScheduler, CommandMetrics commandMetrics) {
         this.model = model;
         this.storage = storage;
-        internshipDataParser = new InternshipDataParser();
+        this.saveScheduler = saveScheduler;
+        this.commandMetrics = commandMetrics;
+        internshipDataParser = new InternshipDataParser(commandMetrics);
+
+        model.getInternshipData().getInternshipList().addListener((ListChangeListener<Internship>) change ->
+                isDirty = true);
+        if (saveScheduler != null) {
+            saveScheduler.setSaveFailureHandler(this::handleBackgroundSaveFailure);
+            saveScheduler.setSaveTimeListener(commandMetrics::recordBackgroundSave);
+        }
+    }
+
+    /**
+     * Sets the loader that is adding the internship data to the model in the background.
+     * Commands are rejected until it has finished.
+     */
+    public void setDataLoader(InternshipDataLoader dataLoader) {
+        this.dataLoader = dataLoader;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (isLoading()) {
+            // the data would otherwise be saved while only partly loaded
+            throw new CommandException(InternshipMessages.MESSAGE_DATA_LOADING);
+        }
+
+        CommandMetrics.Sample sample = commandMetrics.startSample();
+        try {
+            CommandResult commandResult = execute(commandText, sample);
+            sample.succeed();
+            return commandResult;
+        } finally {
+            sample.finish();
+        }
+    }
 
-        CommandResult commandResult;
+    /**
+     * Parses, executes and saves the command in {@code commandText}, marking the end of each phase in
+     * {@code sample}.
+     */
+    private CommandResult execute(String commandText, CommandMetrics.Sample sample)
+            throws CommandException, ParseException {
         InternshipCommand command = internshipDataParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        sample.startExecute(command.getCommandWord());
+        CommandResult commandResult = command.execute(model);
+
+        if (!isDirty) {
+            return commandResult;
+        }
+        isDirty = false;
+        sample.startSave();
+
+        if (saveScheduler != null) {
+            saveScheduler.requestSave(model.getInternshipData());
+            return commandResult;
+        }
 
         try {
             storage.saveInternshipData(model.getInternshipData());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            isDirty = true;
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public boolean isLoading() {
+        return dataLoader != null && dataLoader.isLoading();
+    }
+
+    @Override
+    public void setLoadingProgressHandler(BiConsumer<Integer, Integer> loadingProgressHandler) {
+        if (dataLoader != null) {
+            dataLoader.setProgressHandler(loadingProgressHandler);
+        }
+    }
+
+    @Override
+    public void setLoadedHandler(Runnable loadedHandler) {
+        if (dataLoader == null) {
+            loadedHandler.run();
+            return;
+        }
+        dataLoader.addLoadedHandler(loadedHandler);
+    }
+
+    /**
+     * Marks the internship data as unsaved so that the next command retries the save, and reports the failure.
+     */
+    private void handleBackgroundSaveFailure(IOException ioe) {
+        isDirty = true;
+        saveFailureHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyInternshipData getInternshipData() {
         return model.getInternshipData();
     }
 
+    @Override
+    public DeadlineIndex getDeadlineIndex() {
+        return model.getDeadlineIndex();
+    }
+
     @Override
     public ObservableList<Internship> getFilteredInternshipList() {
         return model.getFilteredInternshipList();
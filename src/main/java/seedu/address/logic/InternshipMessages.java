@@ -1,10 +1,12 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.internship.DeadlineIndex.DueTask;
 import seedu.address.model.internship.Internship;
 
 /**
@@ -21,6 +23,13 @@ public class InternshipMessages {
     public static final String MESSAGE_INTERNSHIPS_LISTED_OVERVIEW = "%1$d internships listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
+    public static final String MESSAGE_DEADLINE_REMINDER = "Reminder: %1$d task(s) are due within the next %2$d "
+            + "days and %3$d task(s) are overdue. Enter \"duesoon %2$d\" or \"overdue\" to see them.";
+    public static final String MESSAGE_DATA_LOADING = "Your internships are still being loaded. Please try again "
+            + "once loading is done.";
+    public static final String MESSAGE_COMMAND_QUEUED = "Your internships are still being loaded. \"%1$s\" will be "
+            + "run once loading is done.";
+    public static final String MESSAGE_LOADING_PROGRESS = "Loading internships: %1$d of %2$d";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -71,4 +80,20 @@ public class InternshipMessages {
         return builder.toString();
     }
 
+    /**
+     * Formats the {@code dueTasks} for display to the user, one task per line.
+     */
+    public static String format(List<DueTask> dueTasks) {
+        final StringBuilder builder = new StringBuilder();
+        for (DueTask dueTask : dueTasks) {
+            builder.append(dueTask.getDeadline())
+                    .append(" ")
+                    .append(dueTask.getInternship().getCompanyName())
+                    .append(": ")
+                    .append(dueTask.getTask().task)
+                    .append("\n");
+        }
+        return builder.toString();
+    }
+
 }
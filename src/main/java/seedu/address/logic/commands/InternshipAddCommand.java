@@ -68,6 +68,11 @@ public class InternshipAddCommand extends InternshipCommand {
         return new CommandResult(String.format(MESSAGE_SUCCESS, InternshipMessages.format(toAdd)));
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK;
-import static seedu.address.model.InternshipModel.PREDICATE_SHOW_ALL_INTERNSHIPS;
 
 import java.util.List;
 
@@ -13,7 +12,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.internship.Internship;
 import seedu.address.model.internship.Task;
-import seedu.address.model.internship.TaskList;
 
 /**
  * Adds a task to an internship entry.
@@ -62,12 +60,15 @@ public class InternshipAddTaskCommand extends InternshipCommand {
 
         model.setInternship(internshipToAddTask, internshipWithTask);
 
-        model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
-
         return new CommandResult(String.format(MESSAGE_ADD_TASK_SUCCESS,
                 this.task));
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -98,14 +99,6 @@ public class InternshipAddTaskCommand extends InternshipCommand {
      */
     private static Internship createInternshipWithTask(Internship internshipToAddTask, Task task) {
         assert internshipToAddTask != null;
-        TaskList newTaskList = internshipToAddTask.getTaskList().copy();
-        newTaskList.addTask(task);
-
-        return new Internship(internshipToAddTask.getCompanyName(), internshipToAddTask.getContactName(),
-                internshipToAddTask.getContactEmail(), internshipToAddTask.getContactNumber(),
-                internshipToAddTask.getLocation(), internshipToAddTask.getApplicationStatus(),
-                internshipToAddTask.getDescription(), internshipToAddTask.getRole(),
-                internshipToAddTask.getRemark(),
-                newTaskList);
+        return internshipToAddTask.withTaskList(internshipToAddTask.getTaskList().withTask(task));
     }
 }
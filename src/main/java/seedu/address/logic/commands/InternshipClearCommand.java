@@ -21,4 +21,9 @@ public class InternshipClearCommand extends InternshipCommand {
         model.setInternshipData(new InternshipData());
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
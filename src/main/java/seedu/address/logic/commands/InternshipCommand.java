@@ -17,4 +17,9 @@ public abstract class InternshipCommand {
      */
     public abstract CommandResult execute(InternshipModel model) throws CommandException;
 
+    /**
+     * Returns the word that the metrics of this command are recorded under.
+     */
+    public abstract String getCommandWord();
+
 }
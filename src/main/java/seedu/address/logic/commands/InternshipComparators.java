@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
 
@@ -8,6 +9,11 @@ import seedu.address.model.internship.Internship;
 
 /**
  * Contains utility methods for sorting internships.
+ *
+ * Text fields are compared by their {@code getSortKey()}, which each value object folds to a single case once, so
+ * that sorting compares precomputed keys instead of folding the case of both strings in every comparison.
+ * Enum fields and deadlines are compared as numbers. The earliest deadline of an internship is likewise found once
+ * and kept by its {@code TaskList}, so that each comparison does not go through the tasks again.
  */
 public class InternshipComparators {
     private static final Map<StatusEnum, Integer> statusOrder = Map.of(
@@ -17,6 +23,10 @@ public class InternshipComparators {
             StatusEnum.ACCEPTED, 3,
             StatusEnum.REJECTED, 4
     );
+    // statusOrder indexed by ordinal, so that statuses are compared without boxing
+    private static final int[] statusRanks = Arrays.stream(StatusEnum.values())
+            .mapToInt(status -> statusOrder.getOrDefault(status, Integer.MAX_VALUE))
+            .toArray();
 
     /**
      * Returns a comparator that compares two internships based on the application status.
@@ -24,8 +34,8 @@ public class InternshipComparators {
      * @return A comparator that compares two internships based on the application status.
      */
     public static Comparator<Internship> byApplicationStatus(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship ->
-                statusOrder.getOrDefault(internship.getApplicationStatus().getStatus(), Integer.MAX_VALUE));
+        Comparator<Internship> comparator = Comparator.comparingInt(internship ->
+                statusRanks[internship.getApplicationStatus().getStatus().ordinal()]);
         if (!isAscending) {
             comparator = comparator.reversed();
         }
@@ -37,8 +47,8 @@ public class InternshipComparators {
      * @return A comparator that compares two internships based on the company name.
      */
     public static Comparator<Internship> byCompanyName(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getCompanyName().toString(),
-                String.CASE_INSENSITIVE_ORDER);
+        Comparator<Internship> comparator = Comparator.comparing(internship ->
+                internship.getCompanyName().getSortKey());
         if (!isAscending) {
             comparator = comparator.reversed();
         }
@@ -51,8 +61,8 @@ public class InternshipComparators {
      * @return A comparator that compares two internships based on the description.
      */
     public static Comparator<Internship> byDescription(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getDescription().toString(),
-                String.CASE_INSENSITIVE_ORDER);
+        Comparator<Internship> comparator = Comparator.comparing(internship ->
+                internship.getDescription().getSortKey());
         if (!isAscending) {
             comparator = comparator.reversed();
         }
@@ -65,8 +75,8 @@ public class InternshipComparators {
      * @return A comparator that compares two internships based on the role.
      */
     public static Comparator<Internship> byRole(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getRole().toString(),
-                String.CASE_INSENSITIVE_ORDER);
+        Comparator<Internship> comparator = Comparator.comparing(internship ->
+                internship.getRole().getSortKey());
         if (!isAscending) {
             comparator = comparator.reversed();
         }
@@ -79,8 +89,8 @@ public class InternshipComparators {
      * @return A comparator that compares two internships based on the contact name.
      */
     public static Comparator<Internship> byContactName(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getContactName().toString(),
-                String.CASE_INSENSITIVE_ORDER);
+        Comparator<Internship> comparator = Comparator.comparing(internship ->
+                internship.getContactName().getSortKey());
         if (!isAscending) {
             comparator = comparator.reversed();
         }
@@ -93,8 +103,8 @@ public class InternshipComparators {
      * @return A comparator that compares two internships based on the contact email.
      */
     public static Comparator<Internship> byContactEmail(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getContactEmail().toString(),
-                String.CASE_INSENSITIVE_ORDER);
+        Comparator<Internship> comparator = Comparator.comparing(internship ->
+                internship.getContactEmail().getSortKey());
         if (!isAscending) {
             comparator = comparator.reversed();
         }
@@ -107,8 +117,8 @@ public class InternshipComparators {
      * @return A comparator that compares two internships based on the contact number.
      */
     public static Comparator<Internship> byPhone(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getContactNumber().toString(),
-                String.CASE_INSENSITIVE_ORDER);
+        Comparator<Internship> comparator = Comparator.comparing(internship ->
+                internship.getContactNumber().getSortKey());
         if (!isAscending) {
             comparator = comparator.reversed();
         }
@@ -121,8 +131,8 @@ public class InternshipComparators {
      * @return A comparator that compares two internships based on the remark.
      */
     public static Comparator<Internship> byRemark(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getRemark().toString(),
-                String.CASE_INSENSITIVE_ORDER);
+        Comparator<Internship> comparator = Comparator.comparing(internship ->
+                internship.getRemark().getSortKey());
         if (!isAscending) {
             comparator = comparator.reversed();
         }
@@ -135,11 +145,31 @@ public class InternshipComparators {
      * @return A comparator that compares two internships based on the location.
      */
     public static Comparator<Internship> byLocation(boolean isAscending) {
-        Comparator<Internship> comparator = Comparator.comparing(internship -> internship.getLocation().toString(),
-                String.CASE_INSENSITIVE_ORDER);
+        // the constant names of the locations are already in a single case
+        Comparator<Internship> comparator = Comparator.comparing(internship ->
+                internship.getLocation().getLocation().name());
         if (!isAscending) {
             comparator = comparator.reversed();
         }
         return comparator;
     }
+
+    /**
+     * Returns a comparator that compares two internships based on the earliest deadline of their tasks.
+     * Internships without any deadline come last in either order.
+     * @param isAscending Whether to sort in ascending order.
+     * @return A comparator that compares two internships based on the earliest deadline of their tasks.
+     */
+    public static Comparator<Internship> byDeadline(boolean isAscending) {
+        return (first, second) -> {
+            long firstDeadline = first.getTaskList().getEarliestDeadlineEpochDay();
+            long secondDeadline = second.getTaskList().getEarliestDeadlineEpochDay();
+            if (firstDeadline == Long.MAX_VALUE || secondDeadline == Long.MAX_VALUE) {
+                return Long.compare(firstDeadline, secondDeadline);
+            }
+            return isAscending
+                    ? Long.compare(firstDeadline, secondDeadline)
+                    : Long.compare(secondDeadline, firstDeadline);
+        };
+    }
 }
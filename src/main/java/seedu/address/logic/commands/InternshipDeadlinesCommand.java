@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.logic.InternshipMessages;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.internship.DeadlineIndex.DueTask;
+
+/**
+ * Lists the tasks of all internships that have deadlines, ordered by deadline.
+ */
+public class InternshipDeadlinesCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = "deadlines";
+
+    public static final String MESSAGE_SUCCESS = "%1$d task(s) with deadlines:\n%2$s";
+
+    @Override
+    public CommandResult execute(InternshipModel model) {
+        requireNonNull(model);
+        List<DueTask> dueTasks = model.getDeadlineIndex().getTasks();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, dueTasks.size(),
+                InternshipMessages.format(dueTasks)));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+}
@@ -46,6 +46,11 @@ public class InternshipDeleteCommand extends InternshipCommand {
                 InternshipMessages.format(internshipToDelete)));
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
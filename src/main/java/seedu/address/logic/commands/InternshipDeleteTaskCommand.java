@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SELECT_TASK;
-import static seedu.address.model.InternshipModel.PREDICATE_SHOW_ALL_INTERNSHIPS;
 
 import java.util.List;
 
@@ -58,16 +57,18 @@ public class InternshipDeleteTaskCommand extends InternshipCommand {
             throw new CommandException(InternshipMessages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
         Task taskToDelete = internshipToDeleteTask.getTaskList().getTask(taskIndex.getZeroBased());
-        internshipToDeleteTask.getTaskList().deleteTask(taskIndex.getZeroBased());
-
-        // This is necessary to trigger the UI to update
-        model.setInternship(internshipToDeleteTask, internshipToDeleteTask);
-
-        model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
+        Internship internshipWithDeletedTask = internshipToDeleteTask.withTaskList(
+                internshipToDeleteTask.getTaskList().withoutTask(taskIndex.getZeroBased()));
+        model.setInternship(internshipToDeleteTask, internshipWithDeletedTask);
 
         return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
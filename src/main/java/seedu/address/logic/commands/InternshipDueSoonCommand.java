@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.InternshipMessages;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.internship.DeadlineIndex.DueTask;
+
+/**
+ * Lists the tasks that are due from today to a number of days from today, ordered by deadline.
+ */
+public class InternshipDueSoonCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = "duesoon";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the tasks of all internships that are due "
+            + "within the given number of days from today, ordered by deadline.\n"
+            + "Parameters: DAYS (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 7";
+
+    public static final String MESSAGE_SUCCESS = "%1$d task(s) due within %2$d day(s):\n%3$s";
+
+    private final int days;
+    private final Clock clock;
+
+    /**
+     * Creates an InternshipDueSoonCommand to list the tasks due within {@code days} days from today.
+     */
+    public InternshipDueSoonCommand(int days) {
+        this(days, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an InternshipDueSoonCommand to list the tasks due within {@code days} days from the date of
+     * {@code clock}.
+     */
+    public InternshipDueSoonCommand(int days, Clock clock) {
+        requireNonNull(clock);
+        this.days = days;
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(InternshipModel model) {
+        requireNonNull(model);
+        LocalDate today = LocalDate.now(clock);
+        List<DueTask> dueTasks = model.getDeadlineIndex().getTasksDueBetween(today, today.plusDays(days));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, dueTasks.size(), days,
+                InternshipMessages.format(dueTasks)));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipDueSoonCommand)) {
+            return false;
+        }
+
+        InternshipDueSoonCommand otherDueSoonCommand = (InternshipDueSoonCommand) other;
+        return days == otherDueSoonCommand.days
+                && clock.equals(otherDueSoonCommand.clock);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .toString();
+    }
+}
@@ -10,7 +10,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
-import static seedu.address.model.InternshipModel.PREDICATE_SHOW_ALL_INTERNSHIPS;
 
 import java.util.List;
 import java.util.Objects;
@@ -82,19 +81,12 @@ public class InternshipEditCommand extends InternshipCommand {
     public CommandResult execute(InternshipModel model) throws CommandException {
         requireNonNull(model);
         List<Internship> lastShownList = model.getFilteredInternshipList();
-        // This is the internship being displayed by the UI.
-        Internship currentSelectedInternship = model.getSelectedInternship().isEmpty() ? null
-                : model.getSelectedInternship().get(0);
-
         if (index.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(InternshipMessages.MESSAGE_INVALID_INTERNSHIP_DISPLAYED_INDEX);
         }
 
         Internship internshipToEdit = lastShownList.get(index.getZeroBased());
 
-        // .equals() handles nulls check
-        boolean isCurrentSelectedInternshipBeingEdited = internshipToEdit.equals(currentSelectedInternship);
-
         Internship editedInternship = createEditedInternship(internshipToEdit, editInternshipDescriptor);
 
         if (!internshipToEdit.isSameInternship(editedInternship) && model.hasInternship(editedInternship)) {
@@ -102,17 +94,16 @@ public class InternshipEditCommand extends InternshipCommand {
         }
 
         model.setInternship(internshipToEdit, editedInternship);
-        model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
-
-        if (isCurrentSelectedInternshipBeingEdited) {
-            // This maintains the selected internship across the edit.
-            model.setSelectedInternship(editedInternship);
-        }
 
         return new CommandResult(String.format(MESSAGE_EDIT_INTERNSHIP_SUCCESS,
                 InternshipMessages.format(editedInternship)));
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     /**
      * Creates and returns a {@code Internship} with the details of {@code internshipToEdit}
      * edited with {@code editInternshipDescriptor}.
@@ -121,22 +112,23 @@ public class InternshipEditCommand extends InternshipCommand {
                                                      EditInternshipDescriptor editInternshipDescriptor) {
         assert internshipToEdit != null;
 
-        CompanyName updatedCompanyName = editInternshipDescriptor.getCompanyName()
+        // the edited values are shared with the other internships that have them
+        CompanyName updatedCompanyName = editInternshipDescriptor.getCompanyName().map(CompanyName::intern)
                 .orElse(internshipToEdit.getCompanyName());
-        Location updatedLocation = editInternshipDescriptor.getLocation()
+        Location updatedLocation = editInternshipDescriptor.getLocation().map(Location::intern)
                 .orElse(internshipToEdit.getLocation());
-        Description updatedDescription = editInternshipDescriptor.getDescription()
+        Description updatedDescription = editInternshipDescriptor.getDescription().map(Description::intern)
                 .orElse(internshipToEdit.getDescription());
-        Role updatedRole = editInternshipDescriptor.getRole().orElse(internshipToEdit
-                .getRole());
-        ContactName updatedContactName = editInternshipDescriptor.getContactName()
+        Role updatedRole = editInternshipDescriptor.getRole().map(Role::intern)
+                .orElse(internshipToEdit.getRole());
+        ContactName updatedContactName = editInternshipDescriptor.getContactName().map(ContactName::intern)
                 .orElse(internshipToEdit.getContactName());
         ContactEmail updatedContactEmail = editInternshipDescriptor.getContactEmail()
                 .orElse(internshipToEdit.getContactEmail());
         ContactNumber updatedContactNumber = editInternshipDescriptor.getContactNumber()
                 .orElse(internshipToEdit.getContactNumber());
         ApplicationStatus updatedApplicationStatus = editInternshipDescriptor.getApplicationStatus()
-                .orElse(internshipToEdit.getApplicationStatus());
+                .map(ApplicationStatus::intern).orElse(internshipToEdit.getApplicationStatus());
         Remark updatedRemark = editInternshipDescriptor.getRemark().orElse(internshipToEdit.getRemark());
         // edit command cannot be used to edit task list
         TaskList taskList = editInternshipDescriptor.getTaskList().orElse(internshipToEdit.getTaskList());
@@ -15,4 +15,9 @@ public class InternshipExitCommand extends InternshipCommand {
     public CommandResult execute(InternshipModel model) {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
@@ -61,12 +61,17 @@ public class InternshipFindCommand extends InternshipCommand {
     @Override
     public CommandResult execute(InternshipModel model) {
         requireNonNull(model);
-        model.updateFilteredInternshipList(predicate);
+        model.updateFilteredInternshipList(predicate.withIndex(model.getInternshipTokenIndex()));
         return new CommandResult(
                 String.format(InternshipMessages.MESSAGE_INTERNSHIPS_LISTED_OVERVIEW,
                         model.getFilteredInternshipList().size()));
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,199 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.internship.InternshipColumns;
+
+/**
+ * Shows the number of internships and overdue tasks in each group of one or more fields, and the number of pending and
+ * overdue tasks. The numbers of internships and tasks are read from the counts that the internship list keeps as
+ * internships are changed, and the overdue tasks of each group are counted from the columns of the internship list,
+ * so they are shown without going through the internships.
+ */
+public class InternshipGroupStatsCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = InternshipStatsCommand.COMMAND_WORD;
+
+    /** The word that the metrics of grouping are recorded under, apart from those of {@code InternshipStatsCommand}. */
+    public static final String METRICS_COMMAND_WORD = COMMAND_WORD + "-group";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of internships and overdue tasks grouped by each of the given fields, "
+            + "and the number of pending and overdue tasks.\n"
+            + "Parameters: FIELD [FIELD]...\n"
+            + "FIELD: One of the following fields, without a value\n"
+            + PREFIX_STATUS + ": Status\n"
+            + PREFIX_LOCATION + ": Location\n"
+            + PREFIX_COMPANY + ": Company Name\n"
+            + PREFIX_ROLE + ": Role\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_STATUS + " " + PREFIX_COMPANY;
+
+    public static final String MESSAGE_SUCCESS = "Statistics of %1$d internship(s):\n%2$s";
+    public static final String MESSAGE_GROUP = "By %1$s:\n";
+    public static final String MESSAGE_GROUP_COUNT = "  %1$s: %2$d (%3$d overdue task(s))\n";
+    public static final String MESSAGE_TASKS = "Tasks: %1$d pending, %2$d overdue";
+
+    /**
+     * The fields that internships can be grouped by.
+     */
+    public enum GroupField {
+        STATUS(PREFIX_STATUS, "status"),
+        LOCATION(PREFIX_LOCATION, "location"),
+        COMPANY(PREFIX_COMPANY, "company"),
+        ROLE(PREFIX_ROLE, "role");
+
+        private final Prefix prefix;
+        private final String name;
+
+        GroupField(Prefix prefix, String name) {
+            this.prefix = prefix;
+            this.name = name;
+        }
+
+        public Prefix getPrefix() {
+            return prefix;
+        }
+
+        /**
+         * Returns the {@code GroupField} given by {@code prefix}, or null if there is none.
+         */
+        public static GroupField fromPrefix(Prefix prefix) {
+            for (GroupField field : values()) {
+                if (field.prefix.equals(prefix)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final List<GroupField> fields;
+    private final Clock clock;
+
+    /**
+     * Creates an InternshipGroupStatsCommand to group the internships by each of {@code fields}, in order.
+     */
+    public InternshipGroupStatsCommand(List<GroupField> fields) {
+        this(fields, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an InternshipGroupStatsCommand to group the internships by each of {@code fields}, in order, and to
+     * count the tasks due before the date of {@code clock} as overdue.
+     */
+    public InternshipGroupStatsCommand(List<GroupField> fields, Clock clock) {
+        requireNonNull(fields);
+        requireNonNull(clock);
+        checkArgument(!fields.isEmpty(), MESSAGE_USAGE);
+        this.fields = List.copyOf(fields);
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(InternshipModel model) {
+        requireNonNull(model);
+        InternshipColumns columns = model.getInternshipColumns();
+        LocalDate today = LocalDate.now(clock);
+        StringBuilder statistics = new StringBuilder();
+        for (GroupField field : fields) {
+            statistics.append(String.format(MESSAGE_GROUP, field.name));
+            Map<?, Integer> overdueCounts = getOverdueCounts(columns, field, today);
+            getCounts(columns, field).forEach((group, count) ->
+                    statistics.append(String.format(MESSAGE_GROUP_COUNT, group, count, overdueCounts.get(group))));
+        }
+
+        // Tasks cannot be marked as done, so every task that is not overdue is still pending
+        int overdueCount = model.getDeadlineIndex().countTasksDueBefore(today);
+        statistics.append(String.format(MESSAGE_TASKS, columns.getTaskCount() - overdueCount, overdueCount));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, columns.size(), statistics));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return METRICS_COMMAND_WORD;
+    }
+
+    /**
+     * Returns the number of internships in each group of {@code field}. Companies and roles with the most internships
+     * come first.
+     */
+    private static Map<?, Integer> getCounts(InternshipColumns columns, GroupField field) {
+        switch (field) {
+        case STATUS:
+            return columns.countByStatus();
+        case LOCATION:
+            return columns.countByLocation();
+        case COMPANY:
+            return sortByCountDescending(columns.countByCompanyName());
+        case ROLE:
+            return sortByCountDescending(columns.countByRole());
+        default:
+            throw new IllegalArgumentException("Invalid field for grouping: " + field);
+        }
+    }
+
+    /**
+     * Returns the number of tasks due before {@code today} in each group of {@code field}.
+     */
+    private static Map<?, Integer> getOverdueCounts(InternshipColumns columns, GroupField field, LocalDate today) {
+        switch (field) {
+        case STATUS:
+            return columns.countTasksDueBeforeByStatus(today);
+        case LOCATION:
+            return columns.countTasksDueBeforeByLocation(today);
+        case COMPANY:
+            return columns.countTasksDueBeforeByCompanyName(today);
+        case ROLE:
+            return columns.countTasksDueBeforeByRole(today);
+        default:
+            throw new IllegalArgumentException("Invalid field for grouping: " + field);
+        }
+    }
+
+    private static <T> Map<T, Integer> sortByCountDescending(Map<T, Integer> counts) {
+        List<Map.Entry<T, Integer>> entries = new ArrayList<>(counts.entrySet());
+        // the sort is stable, so groups with equal counts keep the order in which they were first added
+        entries.sort(Map.Entry.<T, Integer>comparingByValue().reversed());
+        Map<T, Integer> sortedCounts = new LinkedHashMap<>();
+        entries.forEach(entry -> sortedCounts.put(entry.getKey(), entry.getValue()));
+        return sortedCounts;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipGroupStatsCommand)) {
+            return false;
+        }
+
+        InternshipGroupStatsCommand otherGroupStatsCommand = (InternshipGroupStatsCommand) other;
+        // the clock only says when the command is run, so commands with the same fields are equal
+        return fields.equals(otherGroupStatsCommand.fields);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("fields", fields)
+                .toString();
+    }
+}
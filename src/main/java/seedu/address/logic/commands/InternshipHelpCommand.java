@@ -18,4 +18,9 @@ public class InternshipHelpCommand extends InternshipCommand {
     public CommandResult execute(InternshipModel model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
@@ -21,4 +21,9 @@ public class InternshipListCommand extends InternshipCommand {
         model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 }
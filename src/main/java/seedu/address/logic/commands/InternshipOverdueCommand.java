@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.logic.InternshipMessages;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.internship.DeadlineIndex.DueTask;
+
+/**
+ * Lists the tasks whose deadlines are before today, ordered by deadline.
+ */
+public class InternshipOverdueCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = "overdue";
+
+    public static final String MESSAGE_SUCCESS = "%1$d task(s) overdue:\n%2$s";
+
+    private final Clock clock;
+
+    /**
+     * Creates an InternshipOverdueCommand to list the tasks due before today.
+     */
+    public InternshipOverdueCommand() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an InternshipOverdueCommand to list the tasks due before the date of {@code clock}.
+     */
+    public InternshipOverdueCommand(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(InternshipModel model) {
+        requireNonNull(model);
+        List<DueTask> overdueTasks = model.getDeadlineIndex().getTasksDueBefore(LocalDate.now(clock));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, overdueTasks.size(),
+                InternshipMessages.format(overdueTasks)));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipOverdueCommand)) {
+            return false;
+        }
+
+        InternshipOverdueCommand otherOverdueCommand = (InternshipOverdueCommand) other;
+        return clock.equals(otherOverdueCommand.clock);
+    }
+}
@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SELECT_TASK;
-import static seedu.address.model.InternshipModel.PREDICATE_SHOW_ALL_INTERNSHIPS;
 
 import java.util.List;
 
@@ -65,17 +64,19 @@ public class InternshipSetDeadlineCommand extends InternshipCommand {
         if (taskIndex.getOneBased() > internshipToSetDeadline.getTaskList().getTaskListSize()) {
             throw new CommandException(InternshipMessages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
-        internshipToSetDeadline.getTaskList().getTask(taskIndex.getZeroBased()).setDeadline(deadline);
-
-        // This is necessary to trigger the UI to update the displayed deadline
-        model.setInternship(internshipToSetDeadline, internshipToSetDeadline);
-
-        model.updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
+        Internship internshipWithDeadline = internshipToSetDeadline.withTaskList(
+                internshipToSetDeadline.getTaskList().withDeadline(taskIndex.getZeroBased(), deadline));
+        model.setInternship(internshipToSetDeadline, internshipWithDeadline);
 
         return new CommandResult(String.format(MESSAGE_ADD_DEADLINE_SUCCESS,
                 deadline));
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,10 +1,12 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
@@ -12,6 +14,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.InternshipMessages;
@@ -20,7 +24,8 @@ import seedu.address.model.InternshipModel;
 import seedu.address.model.internship.Internship;
 
 /**
- * Sorts all internships in the Internship Data based on specified field and displays them as a list with index numbers.
+ * Sorts all internships in the Internship Data based on specified fields and displays them as a list with index
+ * numbers.
  */
 public class InternshipSortCommand extends InternshipCommand {
 
@@ -28,9 +33,10 @@ public class InternshipSortCommand extends InternshipCommand {
     public static final String ORDER_ASCENDING = "asc";
     public static final String ORDER_DESCENDING = "desc";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all internships based on specified field"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all internships based on specified fields"
             + " (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: FIELD ORDER \n"
+            + "Parameters: FIELD ORDER [FIELD ORDER]...\n"
+            + "Internships that are equal in the first field are sorted by the second field, and so on.\n"
             + "FIELD: One of the following field \n"
             + PREFIX_COMPANY + ": Company Name\n"
             + PREFIX_CONTACT_NAME + ": Contact Name\n"
@@ -41,8 +47,10 @@ public class InternshipSortCommand extends InternshipCommand {
             + PREFIX_DESCRIPTION + ": Description\n"
             + PREFIX_ROLE + ": Role\n"
             + PREFIX_REMARK + ": Remark\n"
+            + PREFIX_DEADLINE + ": Earliest Task Deadline\n"
             + "ORDER: " + ORDER_ASCENDING + " or " + ORDER_DESCENDING + ", to specify ascending or descending order\n"
-            + "Example: " + COMMAND_WORD + " /com " + ORDER_ASCENDING + "\n";
+            + "Example: " + COMMAND_WORD + " /status " + ORDER_ASCENDING + " /deadline " + ORDER_ASCENDING
+            + " /com " + ORDER_ASCENDING + "\n";
     public static final String MESSAGE_INVALID_FIELD = "Invalid field specified. Please specify one of the following:\n"
             + PREFIX_COMPANY + ": Company Name\n"
             + PREFIX_CONTACT_NAME + ": Contact Name\n"
@@ -53,6 +61,7 @@ public class InternshipSortCommand extends InternshipCommand {
             + PREFIX_DESCRIPTION + ": Description\n"
             + PREFIX_ROLE + ": Role\n"
             + PREFIX_REMARK + ": Remark\n"
+            + PREFIX_DEADLINE + ": Earliest Task Deadline\n"
             + "Example: " + COMMAND_WORD + " /com " + ORDER_ASCENDING + "\n";
     public static final String MESSAGE_INVALID_ORDER = "Invalid order specified. Please specify either "
             + ORDER_ASCENDING + " to sort in ascending order or " + ORDER_DESCENDING
@@ -67,36 +76,42 @@ public class InternshipSortCommand extends InternshipCommand {
             + PREFIX_STATUS + ": Status\n"
             + PREFIX_DESCRIPTION + ": Description\n"
             + PREFIX_ROLE + ": Role\n"
-            + PREFIX_REMARK + ": Remark\n";;
+            + PREFIX_REMARK + ": Remark\n"
+            + PREFIX_DEADLINE + ": Earliest Task Deadline\n";
 
     public static final String MESSAGE_NO_ORDER = "Please specify the order to sort by: "
             + ORDER_ASCENDING + " to sort in ascending order or " + ORDER_DESCENDING + " to sort in descending order.";
-    public static final String MESSAGE_EXTRA_ARGUMENTS = "Extra arguments detected. Please only specify one "
-            + "field and one order.\n"
+    public static final String MESSAGE_EXTRA_ARGUMENTS = "Extra arguments detected. Please specify each field "
+            + "once, followed by one order.\n"
             + "Example: " + COMMAND_WORD + " /com " + ORDER_ASCENDING + "\n";
-    private final InternshipSortCommandParser.FieldEnum field;
-    private final InternshipSortCommandParser.OrderEnum order;
+    private final List<SortCriterion> criteria;
 
     /**
      * Creates an InternshipSortCommand to sort internships based on the specified field and order.
      */
     public InternshipSortCommand(InternshipSortCommandParser.FieldEnum field,
                                  InternshipSortCommandParser.OrderEnum order) {
-        requireNonNull(field);
-        requireNonNull(order);
-        this.field = field;
-        this.order = order;
+        this(List.of(new SortCriterion(field, order)));
+    }
+
+    /**
+     * Creates an InternshipSortCommand to sort internships based on the first of {@code criteria}, then on the
+     * second for internships that are equal in the first, and so on.
+     */
+    public InternshipSortCommand(List<SortCriterion> criteria) {
+        requireNonNull(criteria);
+        checkArgument(!criteria.isEmpty(), "At least one sort criterion is required");
+        this.criteria = List.copyOf(criteria);
     }
 
     @Override
     public CommandResult execute(InternshipModel model) {
         requireNonNull(model);
-        Comparator<Internship> comparator;
-
-        if (order == InternshipSortCommandParser.OrderEnum.DESCENDING) {
-            comparator = InternshipSortCommandParser.getComparator(field, false);
-        } else {
-            comparator = InternshipSortCommandParser.getComparator(field, true);
+        Comparator<Internship> comparator = null;
+        for (SortCriterion criterion : criteria) {
+            Comparator<Internship> criterionComparator = InternshipSortCommandParser.getComparator(criterion.field,
+                    criterion.order == InternshipSortCommandParser.OrderEnum.ASCENDING);
+            comparator = comparator == null ? criterionComparator : comparator.thenComparing(criterionComparator);
         }
         model.sortFilteredInternshipList(comparator);
         return new CommandResult(
@@ -104,6 +119,11 @@ public class InternshipSortCommand extends InternshipCommand {
                         model.getFilteredInternshipList().size()));
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -115,23 +135,84 @@ public class InternshipSortCommand extends InternshipCommand {
         }
 
         InternshipSortCommand otherCommand = (InternshipSortCommand) other;
-        return this.field.equals(otherCommand.getField()) && this.order.equals(otherCommand.getOrder());
+        return criteria.equals(otherCommand.criteria);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("field", field)
-                .add("order", order)
+                .add("criteria", criteria)
                 .toString();
     }
 
+    /**
+     * Returns the field that is sorted by first.
+     */
     public InternshipSortCommandParser.FieldEnum getField() {
-        return field;
+        return criteria.get(0).field;
     }
 
+    /**
+     * Returns the order of the field that is sorted by first.
+     */
     public InternshipSortCommandParser.OrderEnum getOrder() {
-        return order;
+        return criteria.get(0).order;
+    }
+
+    public List<SortCriterion> getCriteria() {
+        return criteria;
     }
-}
 
+    /**
+     * A field to sort by, and the order to sort it in.
+     */
+    public static class SortCriterion {
+        private final InternshipSortCommandParser.FieldEnum field;
+        private final InternshipSortCommandParser.OrderEnum order;
+
+        /**
+         * Creates a {@code SortCriterion} to sort by {@code field} in {@code order}.
+         */
+        public SortCriterion(InternshipSortCommandParser.FieldEnum field, InternshipSortCommandParser.OrderEnum order) {
+            requireNonNull(field);
+            requireNonNull(order);
+            this.field = field;
+            this.order = order;
+        }
+
+        public InternshipSortCommandParser.FieldEnum getField() {
+            return field;
+        }
+
+        public InternshipSortCommandParser.OrderEnum getOrder() {
+            return order;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof SortCriterion)) {
+                return false;
+            }
+
+            SortCriterion otherCriterion = (SortCriterion) other;
+            return field.equals(otherCriterion.field) && order.equals(otherCriterion.order);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, order);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("field", field)
+                    .add("order", order)
+                    .toString();
+        }
+    }
+}
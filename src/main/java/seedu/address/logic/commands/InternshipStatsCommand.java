@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.InternshipModel;
+
+/**
+ * Shows how long each kind of command has taken to parse, execute and save, and how much memory it allocated.
+ */
+public class InternshipStatsCommand extends InternshipCommand {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the median and 99th percentile of the time "
+            + "(in milliseconds) each command word has spent being parsed, executed and saved, "
+            + "and of the memory (in kilobytes) it allocated.\n"
+            + "Given fields to group by, shows the number of internships in each group instead.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Command statistics since CareerSync started:\n%1$s";
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates an InternshipStatsCommand to show the statistics recorded by {@code commandMetrics}.
+     */
+    public InternshipStatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Override
+    public CommandResult execute(InternshipModel model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandMetrics.format()));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipStatsCommand)) {
+            return false;
+        }
+
+        InternshipStatsCommand otherStatsCommand = (InternshipStatsCommand) other;
+        return commandMetrics == otherStatsCommand.commandMetrics;
+    }
+}
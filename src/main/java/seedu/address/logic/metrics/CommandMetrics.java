@@ -0,0 +1,263 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Records, for every command word, how long commands spend being parsed, executed and saved, and how many bytes
+ * they allocate.
+ *
+ * Commands are recorded through a {@link Sample} on the thread executing them, and the recorded statistics can be
+ * read or formatted from any thread at any time.
+ */
+public class CommandMetrics {
+    /** The command word under which commands that could not be parsed are recorded. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+    /** The command word under which saves done in the background, after their command has returned, are recorded. */
+    public static final String BACKGROUND_SAVE_COMMAND_WORD = "(background save)";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final ThreadMXBean threadMxBean = getThreadMxBean();
+
+    private final ConcurrentMap<String, CommandStatistics> statistics = new ConcurrentHashMap<>();
+    private ScheduledExecutorService loggingExecutor;
+
+    /**
+     * Starts a sample of a command that is about to be parsed on the calling thread.
+     */
+    public Sample startSample() {
+        return new Sample();
+    }
+
+    /**
+     * Records a save of {@code nanos} nanoseconds that was done in the background.
+     */
+    public void recordBackgroundSave(long nanos) {
+        getOrCreateStatistics(BACKGROUND_SAVE_COMMAND_WORD).saveNanos.record(nanos);
+    }
+
+    /**
+     * Returns the statistics of every command word recorded so far, sorted by command word.
+     */
+    public Map<String, CommandStatistics> getStatistics() {
+        return new TreeMap<>(statistics);
+    }
+
+    /**
+     * Returns true if the number of bytes allocated by commands can be measured on this JVM.
+     */
+    public static boolean isAllocationMeasured() {
+        return threadMxBean != null;
+    }
+
+    /**
+     * Returns a table of the median and 99th percentile of the statistics of every command word recorded so far.
+     * Times are in milliseconds and allocations in kilobytes.
+     */
+    public String format() {
+        Map<String, CommandStatistics> sortedStatistics = getStatistics();
+        if (sortedStatistics.isEmpty()) {
+            return "No commands recorded yet.";
+        }
+        StringBuilder builder = new StringBuilder(String.format(
+                "%-17s %6s %6s | %8s %8s | %8s %8s | %8s %8s | %9s %9s%n", "command", "count", "failed",
+                "parse50", "parse99", "exec50", "exec99", "save50", "save99", "alloc50", "alloc99"));
+        sortedStatistics.forEach((commandWord, commandStatistics) -> builder.append(String.format(
+                "%-17s %6d %6d | %8.2f %8.2f | %8.2f %8.2f | %8.2f %8.2f | %9s %9s%n", commandWord,
+                commandStatistics.getCount(), commandStatistics.getFailedCount(),
+                toMillis(commandStatistics.parseNanos, 0.5), toMillis(commandStatistics.parseNanos, 0.99),
+                toMillis(commandStatistics.executeNanos, 0.5), toMillis(commandStatistics.executeNanos, 0.99),
+                toMillis(commandStatistics.saveNanos, 0.5), toMillis(commandStatistics.saveNanos, 0.99),
+                toKilobytes(commandStatistics.allocatedBytes, 0.5),
+                toKilobytes(commandStatistics.allocatedBytes, 0.99))));
+        return builder.toString();
+    }
+
+    /**
+     * Logs the {@link #format() statistics} every {@code period} on a background thread, if any command has been
+     * recorded since they were last logged. Logging scheduled before is stopped.
+     */
+    public synchronized void scheduleLogging(long period, TimeUnit unit) {
+        requireNonNull(unit);
+        stopLogging();
+        loggingExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-metrics-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loggingExecutor.scheduleAtFixedRate(new Runnable() {
+            private long loggedCount;
+
+            @Override
+            public void run() {
+                long count = statistics.values().stream().mapToLong(CommandStatistics::getCount).sum();
+                if (count != loggedCount) {
+                    loggedCount = count;
+                    logger.info("Command metrics:\n" + format());
+                }
+            }
+        }, period, period, unit);
+    }
+
+    /**
+     * Stops the logging scheduled by {@link #scheduleLogging(long, TimeUnit)}, if any.
+     */
+    public synchronized void stopLogging() {
+        if (loggingExecutor != null) {
+            loggingExecutor.shutdownNow();
+            loggingExecutor = null;
+        }
+    }
+
+    private CommandStatistics getOrCreateStatistics(String commandWord) {
+        return statistics.computeIfAbsent(commandWord, unused -> new CommandStatistics());
+    }
+
+    private static String toKilobytes(Histogram histogram, double quantile) {
+        if (!isAllocationMeasured()) {
+            return "-";
+        }
+        return String.format("%.1f", histogram.getPercentile(quantile) / 1024.0);
+    }
+
+    private static double toMillis(Histogram histogram, double quantile) {
+        return histogram.getPercentile(quantile) / 1_000_000.0;
+    }
+
+    private static ThreadMXBean getThreadMxBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getPlatformMXBean(ThreadMXBean.class);
+            if (bean == null || !bean.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        } catch (IllegalArgumentException | UnsupportedOperationException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        return threadMxBean == null ? 0 : threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * The statistics recorded for one command word.
+     */
+    public static class CommandStatistics {
+        private final Histogram parseNanos = new Histogram();
+        private final Histogram executeNanos = new Histogram();
+        private final Histogram saveNanos = new Histogram();
+        private final Histogram allocatedBytes = new Histogram();
+        private final LongAdder failedCount = new LongAdder();
+
+        /**
+         * Returns the number of commands recorded, including those that failed.
+         */
+        public long getCount() {
+            return Math.max(parseNanos.getCount(), saveNanos.getCount());
+        }
+
+        public long getFailedCount() {
+            return failedCount.sum();
+        }
+
+        public Histogram getParseNanos() {
+            return parseNanos;
+        }
+
+        public Histogram getExecuteNanos() {
+            return executeNanos;
+        }
+
+        public Histogram getSaveNanos() {
+            return saveNanos;
+        }
+
+        public Histogram getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    /**
+     * The measurements of a single command, taken as it passes through parsing, execution and saving.
+     * A sample must only be used on the thread that started it.
+     */
+    public class Sample {
+        private final long startAllocatedBytes = getAllocatedBytes();
+        private long phaseStartNanos = System.nanoTime();
+        private String commandWord = INVALID_COMMAND_WORD;
+        private Histogram currentPhase;
+        private boolean isSucceeded;
+
+        /**
+         * Ends the parsing of the command, which was parsed as a command with {@code commandWord}, and starts its
+         * execution.
+         */
+        public void startExecute(String commandWord) {
+            requireNonNull(commandWord);
+            this.commandWord = commandWord;
+            getOrCreateStatistics(commandWord).parseNanos.record(lap());
+            currentPhase = getOrCreateStatistics(commandWord).executeNanos;
+        }
+
+        /**
+         * Ends the execution of the command and starts saving its changes.
+         */
+        public void startSave() {
+            endPhase();
+            currentPhase = getOrCreateStatistics(commandWord).saveNanos;
+        }
+
+        /**
+         * Marks the command as having completed without an error.
+         */
+        public void succeed() {
+            isSucceeded = true;
+        }
+
+        /**
+         * Ends the phase in progress and records the bytes allocated by the command.
+         * A command that could not be parsed is recorded under {@link #INVALID_COMMAND_WORD}.
+         */
+        public void finish() {
+            CommandStatistics commandStatistics = getOrCreateStatistics(commandWord);
+            if (currentPhase == null) {
+                commandStatistics.parseNanos.record(lap());
+            } else {
+                endPhase();
+            }
+            if (!isSucceeded) {
+                commandStatistics.failedCount.increment();
+            }
+            commandStatistics.allocatedBytes.record(getAllocatedBytes() - startAllocatedBytes);
+        }
+
+        private void endPhase() {
+            if (currentPhase != null) {
+                currentPhase.record(lap());
+            }
+        }
+
+        private long lap() {
+            long now = System.nanoTime();
+            long nanos = now - phaseStartNanos;
+            phaseStartNanos = now;
+            return nanos;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -19,8 +19,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ArgumentMultimap {
 
-    /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    /** Prefixes mapped to their respective arguments, in the order the prefixes first appeared **/
+    private final Map<Prefix, List<String>> argMultimap = new LinkedHashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -55,6 +55,16 @@ public class ArgumentMultimap {
         return new ArrayList<>(argMultimap.get(prefix));
     }
 
+    /**
+     * Returns the prefixes that appeared among the arguments, other than that of the preamble, in the order they
+     * first appeared.
+     */
+    public List<Prefix> getPrefixesInOrder() {
+        List<Prefix> prefixes = new ArrayList<>(argMultimap.keySet());
+        prefixes.remove(new Prefix(""));
+        return prefixes;
+    }
+
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.InternshipMessages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -12,16 +13,21 @@ import seedu.address.logic.commands.InternshipAddCommand;
 import seedu.address.logic.commands.InternshipAddTaskCommand;
 import seedu.address.logic.commands.InternshipClearCommand;
 import seedu.address.logic.commands.InternshipCommand;
+import seedu.address.logic.commands.InternshipDeadlinesCommand;
 import seedu.address.logic.commands.InternshipDeleteCommand;
 import seedu.address.logic.commands.InternshipDeleteTaskCommand;
+import seedu.address.logic.commands.InternshipDueSoonCommand;
 import seedu.address.logic.commands.InternshipEditCommand;
 import seedu.address.logic.commands.InternshipExitCommand;
 import seedu.address.logic.commands.InternshipFindCommand;
 import seedu.address.logic.commands.InternshipHelpCommand;
 import seedu.address.logic.commands.InternshipListCommand;
+import seedu.address.logic.commands.InternshipOverdueCommand;
 import seedu.address.logic.commands.InternshipRemarkCommand;
 import seedu.address.logic.commands.InternshipSetDeadlineCommand;
 import seedu.address.logic.commands.InternshipSortCommand;
+import seedu.address.logic.commands.InternshipStatsCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -35,6 +41,24 @@ public class InternshipDataParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(InternshipDataParser.class);
 
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates an {@code InternshipDataParser} whose {@code stats} command shows nothing recorded.
+     */
+    public InternshipDataParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates an {@code InternshipDataParser} whose {@code stats} command shows the statistics in
+     * {@code commandMetrics}.
+     */
+    public InternshipDataParser(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -98,6 +122,18 @@ public class InternshipDataParser {
         case InternshipDeleteTaskCommand.COMMAND_WORD:
             return new InternshipDeleteTaskCommandParser().parse(arguments);
 
+        case InternshipStatsCommand.COMMAND_WORD:
+            return new InternshipStatsCommandParser(commandMetrics).parse(arguments);
+
+        case InternshipDueSoonCommand.COMMAND_WORD:
+            return new InternshipDueSoonCommandParser().parse(arguments);
+
+        case InternshipOverdueCommand.COMMAND_WORD:
+            return new InternshipOverdueCommand();
+
+        case InternshipDeadlinesCommand.COMMAND_WORD:
+            return new InternshipDeadlinesCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.InternshipDueSoonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new InternshipDueSoonCommand object
+ */
+public class InternshipDueSoonCommandParser implements InternshipParser<InternshipDueSoonCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the InternshipDueSoonCommand
+     * and returns an InternshipDueSoonCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public InternshipDueSoonCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    InternshipDueSoonCommand.MESSAGE_USAGE));
+        }
+        return new InternshipDueSoonCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -53,7 +53,7 @@ public class InternshipParserUtil {
         if (!CompanyName.isValidCompanyName(trimmedName)) {
             throw new ParseException(CompanyName.MESSAGE_CONSTRAINTS);
         }
-        return new CompanyName(trimmedName);
+        return CompanyName.ofValidated(trimmedName);
     }
 
     /**
@@ -68,7 +68,7 @@ public class InternshipParserUtil {
         if (!Description.isValidDescription(trimmedDescription)) {
             throw new ParseException(Description.MESSAGE_CONSTRAINTS);
         }
-        return new Description(trimmedDescription);
+        return Description.ofValidated(trimmedDescription);
 
     }
 
@@ -84,7 +84,7 @@ public class InternshipParserUtil {
         if (!ContactName.isValidContactName(trimmedContactName)) {
             throw new ParseException(ContactName.MESSAGE_CONSTRAINTS);
         }
-        return new ContactName(trimmedContactName);
+        return ContactName.ofValidated(trimmedContactName);
     }
 
     /**
@@ -99,7 +99,7 @@ public class InternshipParserUtil {
         if (!ContactNumber.isValidContactNumber(trimmedContactNumber)) {
             throw new ParseException(ContactNumber.MESSAGE_CONSTRAINTS);
         }
-        return new ContactNumber(trimmedContactNumber);
+        return ContactNumber.ofValidated(trimmedContactNumber);
     }
 
     /**
@@ -114,7 +114,7 @@ public class InternshipParserUtil {
         if (!ContactEmail.isValidContactEmail(trimmedContactEmail)) {
             throw new ParseException(ContactEmail.MESSAGE_CONSTRAINTS);
         }
-        return new ContactEmail(trimmedContactEmail);
+        return ContactEmail.ofValidated(trimmedContactEmail);
     }
 
     /**
@@ -129,7 +129,7 @@ public class InternshipParserUtil {
         if (!ApplicationStatus.isValidApplicationStatus(trimmedStatus)) {
             throw new ParseException(ApplicationStatus.MESSAGE_CONSTRAINTS);
         }
-        return new ApplicationStatus(trimmedStatus);
+        return ApplicationStatus.of(trimmedStatus);
     }
 
     /**
@@ -140,14 +140,14 @@ public class InternshipParserUtil {
      */
     public static Role parseOptionalRole(Optional<String> role) throws ParseException {
         if (role.isEmpty()) {
-            return new Role("Unknown Role");
+            return Role.ofValidated("Unknown Role");
         } else {
             requireNonNull(role);
             String trimmedRole = role.get().trim();
             if (!Role.isValidRole(trimmedRole)) {
                 throw new ParseException(Role.MESSAGE_CONSTRAINTS);
             }
-            return new Role(trimmedRole);
+            return Role.ofValidated(trimmedRole);
         }
     }
 
@@ -192,7 +192,7 @@ public class InternshipParserUtil {
         if (!Task.isValidTask(trimmedTask)) {
             throw new ParseException(Task.MESSAGE_CONSTRAINTS);
         }
-        return new Task(trimmedTask);
+        return Task.ofValidated(trimmedTask);
     }
 
     /**
@@ -218,14 +218,14 @@ public class InternshipParserUtil {
      */
     public static Location parseOptionalLocation(Optional<String> location) throws ParseException {
         if (location.isEmpty()) {
-            return new Location("UNKNOWN");
+            return Location.of("UNKNOWN");
         } else {
             requireNonNull(location);
             String trimmedLocation = location.get().trim();
             if (!Location.isValidLocation(trimmedLocation)) {
                 throw new ParseException(Location.MESSAGE_CONSTRAINTS);
             }
-            return new Location(trimmedLocation);
+            return Location.of(trimmedLocation);
         }
     }
 
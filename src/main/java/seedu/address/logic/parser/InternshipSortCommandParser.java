@@ -9,19 +9,23 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.InternshipComparators;
 import seedu.address.logic.commands.InternshipSortCommand;
+import seedu.address.logic.commands.InternshipSortCommand.SortCriterion;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.internship.Internship;
 
@@ -31,7 +35,7 @@ import seedu.address.model.internship.Internship;
 public class InternshipSortCommandParser implements InternshipParser<InternshipSortCommand> {
     public static final Prefix[] SUPPORTED_PREFIXES = {
         PREFIX_COMPANY, PREFIX_CONTACT_NAME, PREFIX_CONTACT_NUMBER, PREFIX_CONTACT_EMAIL,
-        PREFIX_LOCATION, PREFIX_STATUS, PREFIX_DESCRIPTION, PREFIX_ROLE, PREFIX_REMARK
+        PREFIX_LOCATION, PREFIX_STATUS, PREFIX_DESCRIPTION, PREFIX_ROLE, PREFIX_REMARK, PREFIX_DEADLINE
     };
 
     private static final Logger logger = LogsCenter.getLogger(InternshipSortCommandParser.class);
@@ -45,7 +49,8 @@ public class InternshipSortCommandParser implements InternshipParser<InternshipS
         STATUS(PREFIX_STATUS.getPrefix()),
         LOCATION(PREFIX_LOCATION.getPrefix()),
         ROLE(PREFIX_ROLE.getPrefix()),
-        REMARK(PREFIX_REMARK.getPrefix());
+        REMARK(PREFIX_REMARK.getPrefix()),
+        DEADLINE(PREFIX_DEADLINE.getPrefix());
 
         private final String value;
 
@@ -123,7 +128,6 @@ public class InternshipSortCommandParser implements InternshipParser<InternshipS
         requireNonNull(args);
         logger.info("Parsing internship sort command with args: " + args);
         String trimmedArgs = args.trim();
-        String[] splitArgs = trimmedArgs.split(" ");
         if (trimmedArgs.isEmpty()) {
             logger.warning("Internship sort command has no arguments");
             throw new ParseException(
@@ -137,47 +141,25 @@ public class InternshipSortCommandParser implements InternshipParser<InternshipS
             logger.warning("Internship sort command has no valid prefixes or invalid order");
             throw new ParseException(InternshipSortCommand.MESSAGE_INVALID_FIELD);
         }
-        if (splitArgs.length != 2) {
-            logger.warning("Internship sort command has invalid number of arguments");
+        if (!argMultimap.getPreamble().isEmpty()) {
+            logger.warning("Internship sort command has arguments before the first field");
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_EXTRA_ARGUMENTS));
         }
 
-        OrderEnum parsedOrder = assignOrder(argMultimap);
-        FieldEnum field = assignField(argMultimap);
-        try {
-            argMultimap.verifyNoExtraArguments(2);
-        } catch (IllegalArgumentException e) {
-            throw new ParseException(MESSAGE_EXTRA_ARGUMENTS);
-        }
-        return new InternshipSortCommand(field, parsedOrder);
-    }
-
-    /**
-     * Assigns the field to sort by based on the prefixes present in the {@code ArgumentMultimap}.
-     * @param argMultimap map of prefixes and their search keywords
-     * @return the field to sort by
-     */
-    protected FieldEnum assignField(ArgumentMultimap argMultimap) throws ParseException {
-        for (Prefix prefix : SUPPORTED_PREFIXES) {
-            if (argMultimap.getValue(prefix).isPresent()) {
-                String prefixString = prefix.getPrefix();
-                return FieldEnum.fromPrefixString(prefixString);
-            }
-        }
-        logger.warning("Internship sort command has no field entered");
-        throw new ParseException(InternshipSortCommand.MESSAGE_INVALID_FIELD);
-    }
-
-    protected OrderEnum assignOrder(ArgumentMultimap argMultimap) throws ParseException {
-        for (Prefix prefix : SUPPORTED_PREFIXES) {
-            if (argMultimap.getValue(prefix).isPresent()) {
-                String order = argMultimap.getValue(prefix).get();
-                return OrderEnum.getOrderEnum(order);
+        // the fields are sorted by in the order they are given
+        List<SortCriterion> criteria = new ArrayList<>();
+        for (Prefix prefix : argMultimap.getPrefixesInOrder()) {
+            String order = argMultimap.getValue(prefix).get();
+            if (order.split("\\s+").length > 1) {
+                logger.warning("Internship sort command has invalid number of arguments");
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_EXTRA_ARGUMENTS));
             }
+            criteria.add(new SortCriterion(FieldEnum.fromPrefixString(prefix.getPrefix()),
+                    OrderEnum.getOrderEnum(order)));
         }
-        logger.warning("Internship sort command has no field entered");
-        throw new ParseException(InternshipSortCommand.MESSAGE_NO_ORDER);
+        return new InternshipSortCommand(criteria);
     }
 
     /**
@@ -218,6 +200,8 @@ public class InternshipSortCommandParser implements InternshipParser<InternshipS
             return InternshipComparators.byRemark(isAscending);
         case DESCRIPTION:
             return InternshipComparators.byDescription(isAscending);
+        case DEADLINE:
+            return InternshipComparators.byDeadline(isAscending);
         default:
             throw new IllegalArgumentException("Invalid field for sorting: " + field);
         }
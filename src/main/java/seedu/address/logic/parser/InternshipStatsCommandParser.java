@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.InternshipCommand;
+import seedu.address.logic.commands.InternshipGroupStatsCommand;
+import seedu.address.logic.commands.InternshipGroupStatsCommand.GroupField;
+import seedu.address.logic.commands.InternshipStatsCommand;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new InternshipGroupStatsCommand object if fields to group by are given, or
+ * else a new InternshipStatsCommand object.
+ */
+public class InternshipStatsCommandParser implements InternshipParser<InternshipCommand> {
+    private static final Prefix[] SUPPORTED_PREFIXES = {
+        GroupField.STATUS.getPrefix(), GroupField.LOCATION.getPrefix(), GroupField.COMPANY.getPrefix(),
+        GroupField.ROLE.getPrefix()
+    };
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates an {@code InternshipStatsCommandParser} whose {@code InternshipStatsCommand} shows the statistics in
+     * {@code commandMetrics}.
+     */
+    public InternshipStatsCommandParser(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the InternshipStatsCommand
+     * and returns an InternshipStatsCommand or InternshipGroupStatsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public InternshipCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, SUPPORTED_PREFIXES);
+        if (argMultimap.getPrefixesInOrder().isEmpty()) {
+            // like the other commands without parameters, extra words without fields are ignored
+            return new InternshipStatsCommand(commandMetrics);
+        }
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, InternshipGroupStatsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(SUPPORTED_PREFIXES);
+
+        // the groups are shown in the order their fields are given
+        List<GroupField> fields = new ArrayList<>();
+        for (Prefix prefix : argMultimap.getPrefixesInOrder()) {
+            if (!argMultimap.getValue(prefix).get().isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, InternshipGroupStatsCommand.MESSAGE_USAGE));
+            }
+            fields.add(GroupField.fromPrefix(prefix));
+        }
+        return new InternshipGroupStatsCommand(fields);
+    }
+}
@@ -6,7 +6,10 @@ import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.internship.DeadlineIndex;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipColumns;
+import seedu.address.model.internship.InternshipTokenIndex;
 import seedu.address.model.internship.UniqueInternshipList;
 
 /**
@@ -48,9 +51,15 @@ public class InternshipData implements ReadOnlyInternshipData {
 
     /**
      * Resets the existing data of this {@code InternshipData} with {@code newData}.
+     * If {@code newData} is itself an {@code InternshipData}, its internships are already known to be unique
+     * and are copied over without being checked again.
      */
     public void resetData(ReadOnlyInternshipData newData) {
         requireNonNull(newData);
+        if (newData instanceof InternshipData) {
+            internshipList.setInternships(((InternshipData) newData).internshipList);
+            return;
+        }
         setInternships(newData.getInternshipList());
     }
 
@@ -70,6 +79,14 @@ public class InternshipData implements ReadOnlyInternshipData {
         internshipList.add(i);
     }
 
+    /**
+     * Adds {@code internships} to the internship data.
+     * The internships must not already exist in the internship data, and must not be duplicates of each other.
+     */
+    public void addInternships(List<Internship> internships) {
+        internshipList.addAll(internships);
+    }
+
     /**
      * Replaces the given internship {@code target} in the list with {@code editedInternship}.
      * {@code target} must exist in the internship data.
@@ -90,6 +107,27 @@ public class InternshipData implements ReadOnlyInternshipData {
         internshipList.remove(key);
     }
 
+    /**
+     * Returns the index of the words in the internships of this internship data.
+     */
+    public InternshipTokenIndex getTokenIndex() {
+        return internshipList.getTokenIndex();
+    }
+
+    /**
+     * Returns the index of the deadlines of the tasks in this internship data.
+     */
+    public DeadlineIndex getDeadlineIndex() {
+        return internshipList.getDeadlineIndex();
+    }
+
+    /**
+     * Returns the fields of the internships in this internship data, stored column by column.
+     */
+    public InternshipColumns getColumns() {
+        return internshipList.getColumns();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -2,11 +2,15 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.internship.DeadlineIndex;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipColumns;
+import seedu.address.model.internship.InternshipTokenIndex;
 
 /**
  * The API of the InternshipModel component.
@@ -53,6 +57,15 @@ public interface InternshipModel {
     /** Returns the InternshipData */
     ReadOnlyInternshipData getInternshipData();
 
+    /** Returns the index of the words in the internships of the InternshipData */
+    InternshipTokenIndex getInternshipTokenIndex();
+
+    /** Returns the index of the deadlines of the tasks in the InternshipData */
+    DeadlineIndex getDeadlineIndex();
+
+    /** Returns the fields of the internships in the InternshipData, stored column by column for counting */
+    InternshipColumns getInternshipColumns();
+
     /**
      * Returns true if an internship with the same identity as {@code internship} exists in the internship list.
      */
@@ -67,12 +80,25 @@ public interface InternshipModel {
     /**
      * Adds the given internship.
      * {@code internship} must not already exist in the internship data.
+     * The filter and sort order of the filtered internship list are kept, and only {@code internship} is tested
+     * against the filter and inserted at its sorted position.
      */
     void addInternship(Internship internship);
 
+    /**
+     * Adds the given internships, in order, as a single change to the internship list.
+     * {@code internships} must not already exist in the internship data, and must not be duplicates of each other.
+     * The filter and sort order of the filtered internship list are kept.
+     */
+    void addInternships(List<Internship> internships);
+
     /**
      * Replaces the given internship {@code target} with {@code editedInternship}.
-     * {@code target} must exist in the internship data.
+     * {@code target} must exist in the internship data. {@code editedInternship} may be {@code target} itself,
+     * to apply changes made to it in place.
+     * The filter and sort order of the filtered internship list are kept, and only {@code editedInternship} is tested
+     * against the filter and moved to its sorted position. If {@code target} is the selected internship,
+     * {@code editedInternship} becomes the selected internship.
      */
     void setInternship(Internship target, Internship editedInternship);
 
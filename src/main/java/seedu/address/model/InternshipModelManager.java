@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,7 +14,10 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.internship.DeadlineIndex;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipColumns;
+import seedu.address.model.internship.InternshipTokenIndex;
 
 /**
  * Represents the in-memory model of the Internship data.
@@ -92,6 +96,21 @@ public class InternshipModelManager implements InternshipModel {
         return internshipData;
     }
 
+    @Override
+    public InternshipTokenIndex getInternshipTokenIndex() {
+        return internshipData.getTokenIndex();
+    }
+
+    @Override
+    public DeadlineIndex getDeadlineIndex() {
+        return internshipData.getDeadlineIndex();
+    }
+
+    @Override
+    public InternshipColumns getInternshipColumns() {
+        return internshipData.getColumns();
+    }
+
     @Override
     public boolean hasInternship(Internship internship) {
         requireNonNull(internship);
@@ -106,13 +125,25 @@ public class InternshipModelManager implements InternshipModel {
     @Override
     public void addInternship(Internship internship) {
         internshipData.addInternship(internship);
-        updateFilteredInternshipList(PREDICATE_SHOW_ALL_INTERNSHIPS);
+    }
+
+    @Override
+    public void addInternships(List<Internship> internships) {
+        requireNonNull(internships);
+        internshipData.addInternships(internships);
     }
 
     @Override
     public void setInternship(Internship target, Internship editedInternship) {
         requireAllNonNull(target, editedInternship);
+        boolean isTargetSelected = !selectedInternship.isEmpty() && selectedInternship.get(0).equals(target);
+
+        // The filtered and sorted lists only re-evaluate the replaced element
         internshipData.setInternship(target, editedInternship);
+
+        if (isTargetSelected && target != editedInternship) {
+            setSelectedInternship(editedInternship);
+        }
     }
 
     /**
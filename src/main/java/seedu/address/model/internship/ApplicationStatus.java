@@ -3,6 +3,10 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Internship's application status in the internship data.
  */
@@ -24,6 +28,10 @@ public class ApplicationStatus {
 
     }
 
+    private static final StatusEnum[] STATUSES = StatusEnum.values();
+    private static final ApplicationStatus[] SHARED_STATUSES = Arrays.stream(STATUSES).map(ApplicationStatus::new)
+            .toArray(ApplicationStatus[]::new);
+
     private final StatusEnum applicationStatus;
 
     /**
@@ -32,16 +40,42 @@ public class ApplicationStatus {
      * @param applicationStatus A valid application status.
      */
     public ApplicationStatus(String applicationStatus) {
+        this(toStatusEnum(applicationStatus));
+    }
+
+    private ApplicationStatus(StatusEnum applicationStatus) {
+        this.applicationStatus = applicationStatus;
+    }
+
+    /**
+     * Returns the shared {@code ApplicationStatus} of {@code applicationStatus}, so that the internships with the same
+     * application status share one object.
+     *
+     * @throws IllegalArgumentException if {@code applicationStatus} is not a valid application status.
+     */
+    public static ApplicationStatus of(String applicationStatus) {
+        return SHARED_STATUSES[toStatusEnum(applicationStatus).ordinal()];
+    }
+
+    private static StatusEnum toStatusEnum(String applicationStatus) {
         requireNonNull(applicationStatus);
-        checkArgument(isValidApplicationStatus(applicationStatus), MESSAGE_CONSTRAINTS);
-        this.applicationStatus = StatusEnum.valueOf(applicationStatus.toUpperCase());
+        StatusEnum value = ValidationUtil.findConstantIgnoreCase(STATUSES, applicationStatus);
+        checkArgument(value != null, MESSAGE_CONSTRAINTS);
+        return value;
+    }
+
+    /**
+     * Returns the shared {@code ApplicationStatus} that is equal to this one.
+     */
+    public ApplicationStatus intern() {
+        return SHARED_STATUSES[applicationStatus.ordinal()];
     }
 
     /**
      * Returns true if a given string is a valid ApplicationStatus.
      */
     public static boolean isValidApplicationStatus(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.findConstantIgnoreCase(STATUSES, test) != null;
     }
 
     @Override
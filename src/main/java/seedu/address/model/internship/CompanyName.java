@@ -3,6 +3,10 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.commons.util.WeakValuePool;
+
 /**
  * Represents a Company's name in the internship data.
  * Guarantees: immutable; is valid as declared in {@link #isValidCompanyName(String)}
@@ -16,7 +20,10 @@ public class CompanyName {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final WeakValuePool<String, CompanyName> pool = new WeakValuePool<>();
+
     public final String companyName;
+    private String sortKey;
 
     /**
      * Constructs a {@code CompanyName}.
@@ -24,19 +31,53 @@ public class CompanyName {
      * @param companyName A valid companyName.
      */
     public CompanyName(String companyName) {
+        this(companyName, false);
+    }
+
+    private CompanyName(String companyName, boolean isValidated) {
         requireNonNull(companyName);
-        checkArgument(isValidCompanyName(companyName), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidCompanyName(companyName), MESSAGE_CONSTRAINTS);
+        }
         this.companyName = companyName;
     }
 
+    /**
+     * Returns the shared {@code CompanyName} of {@code companyName}, which the caller has already checked with
+     * {@link #isValidCompanyName(String)}, without checking it again.
+     */
+    public static CompanyName ofValidated(String companyName) {
+        assert isValidCompanyName(companyName) : companyName;
+        return pool.get(companyName, value -> new CompanyName(value, true));
+    }
+
+    /**
+     * Returns the shared {@code CompanyName} that is equal to this one, so that the equal company names of many
+     * internships are kept in memory only once.
+     */
+    public CompanyName intern() {
+        return pool.get(companyName, value -> this);
+    }
+
     /**
      * Returns true if a given string is a valid companyName.
      */
     public static boolean isValidCompanyName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWithSpaces(test);
     }
 
 
+    /**
+     * Returns the company name folded to a single case, so that company names can be sorted case-insensitively with
+     * {@link String#compareTo(String)}. It is computed once, when first needed.
+     */
+    public String getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.foldCase(companyName);
+        }
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return companyName;
@@ -3,6 +3,10 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an Internship Contact's email in the internship data.
  */
@@ -29,8 +33,10 @@ public class ContactEmail {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
+    private String sortKey;
 
     /**
      * Constructs an {@code ContactEmail}.
@@ -38,16 +44,42 @@ public class ContactEmail {
      * @param contactEmail A valid contactEmail address.
      */
     public ContactEmail(String contactEmail) {
+        this(contactEmail, false);
+    }
+
+    private ContactEmail(String contactEmail, boolean isValidated) {
         requireNonNull(contactEmail);
-        checkArgument(isValidContactEmail(contactEmail), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidContactEmail(contactEmail), MESSAGE_CONSTRAINTS);
+        }
         value = contactEmail;
     }
 
+    /**
+     * Returns a {@code ContactEmail} of {@code contactEmail}, which the caller has already checked with
+     * {@link #isValidContactEmail(String)}, without checking it again.
+     */
+    public static ContactEmail ofValidated(String contactEmail) {
+        assert isValidContactEmail(contactEmail) : contactEmail;
+        return new ContactEmail(contactEmail, true);
+    }
+
     /**
      * Returns if a given string is a valid contactEmail.
      */
     public static boolean isValidContactEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the email folded to a single case, so that emails can be sorted case-insensitively with
+     * {@link String#compareTo(String)}. It is computed once, when first needed.
+     */
+    public String getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.foldCase(value);
+        }
+        return sortKey;
     }
 
     @Override
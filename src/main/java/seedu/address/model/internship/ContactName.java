@@ -3,6 +3,10 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.commons.util.WeakValuePool;
+
 /**
  * Represents a Company Contact's name in the internship data.
  * Guarantees: immutable; is valid as declared in {@link #isValidContactName(String)}
@@ -18,7 +22,10 @@ public class ContactName {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final WeakValuePool<String, ContactName> pool = new WeakValuePool<>();
+
     public final String contactName;
+    private String sortKey;
 
     /**
      * Constructs a {@code ContactName}.
@@ -26,19 +33,53 @@ public class ContactName {
      * @param contactName A valid contactName.
      */
     public ContactName(String contactName) {
+        this(contactName, false);
+    }
+
+    private ContactName(String contactName, boolean isValidated) {
         requireNonNull(contactName);
-        checkArgument(isValidContactName(contactName), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidContactName(contactName), MESSAGE_CONSTRAINTS);
+        }
         this.contactName = contactName;
     }
 
+    /**
+     * Returns the shared {@code ContactName} of {@code contactName}, which the caller has already checked with
+     * {@link #isValidContactName(String)}, without checking it again.
+     */
+    public static ContactName ofValidated(String contactName) {
+        assert isValidContactName(contactName) : contactName;
+        return pool.get(contactName, value -> new ContactName(value, true));
+    }
+
+    /**
+     * Returns the shared {@code ContactName} that is equal to this one, so that the equal contact names of many
+     * internships are kept in memory only once.
+     */
+    public ContactName intern() {
+        return pool.get(contactName, value -> this);
+    }
+
     /**
      * Returns true if a given string is a valid contactName.
      */
     public static boolean isValidContactName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWithSpaces(test);
     }
 
 
+    /**
+     * Returns the contact name folded to a single case, so that contact names can be sorted case-insensitively with
+     * {@link String#compareTo(String)}. It is computed once, when first needed.
+     */
+    public String getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.foldCase(contactName);
+        }
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return contactName;
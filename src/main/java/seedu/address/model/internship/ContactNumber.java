@@ -3,6 +3,9 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Internship Contact's contactNumber in the internship data.
  * Guarantees: immutable; is valid as declared in {@link #isValidContactNumber(String)}
@@ -12,7 +15,9 @@ public class ContactNumber {
     public static final String MESSAGE_CONSTRAINTS =
             "Contact Number should only contain numbers, and it should be at least 7 digits long";
     public static final String VALIDATION_REGEX = "\\d{7,}";
+    private static final int MIN_LENGTH = 7;
     public final String value;
+    private String sortKey;
 
     /**
      * Constructs a {@code ContactNumber}.
@@ -20,16 +25,42 @@ public class ContactNumber {
      * @param contactNumber A valid contactNumber.
      */
     public ContactNumber(String contactNumber) {
+        this(contactNumber, false);
+    }
+
+    private ContactNumber(String contactNumber, boolean isValidated) {
         requireNonNull(contactNumber);
-        checkArgument(isValidContactNumber(contactNumber), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidContactNumber(contactNumber), MESSAGE_CONSTRAINTS);
+        }
         value = contactNumber;
     }
 
+    /**
+     * Returns a {@code ContactNumber} of {@code contactNumber}, which the caller has already checked with
+     * {@link #isValidContactNumber(String)}, without checking it again.
+     */
+    public static ContactNumber ofValidated(String contactNumber) {
+        assert isValidContactNumber(contactNumber) : contactNumber;
+        return new ContactNumber(contactNumber, true);
+    }
+
     /**
      * Returns true if a given string is a valid contactNumber.
      */
     public static boolean isValidContactNumber(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, MIN_LENGTH);
+    }
+
+    /**
+     * Returns the contact number folded to a single case, so that contact numbers can be sorted case-insensitively with
+     * {@link String#compareTo(String)}. It is computed once, when first needed.
+     */
+    public String getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.foldCase(value);
+        }
+        return sortKey;
     }
 
     @Override
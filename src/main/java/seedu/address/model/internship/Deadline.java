@@ -4,9 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Internship's task's deadline in the internship data.
  */
@@ -14,12 +20,23 @@ public class Deadline {
     public static final String MESSAGE_CONSTRAINTS =
             "Deadline must be in the form DD/MM/YYYY, and be a valid date.";
 
+    /**
+     * The latest valid deadline, the last date whose epoch day fits in an {@code int}.
+     */
+    private static final LocalDate MAX_DATE = LocalDate.ofEpochDay(Integer.MAX_VALUE);
+
     /**
      * The date format of the deadline.
      */
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
+    private static final int LENGTH = "DD/MM/YYYY".length();
+    private static final int MONTH_START = "DD/".length();
+    private static final int YEAR_START = "DD/MM/".length();
+
     public final String deadline;
+    @JsonIgnore
+    private final int epochDay;
 
     /**
      * Constructs a {@code Deadline}.
@@ -28,20 +45,78 @@ public class Deadline {
      */
     public Deadline(String deadline) {
         requireNonNull(deadline);
-        checkArgument(isValidDeadline(deadline), MESSAGE_CONSTRAINTS);
+        LocalDate date = parse(deadline);
+        checkArgument(date != null, MESSAGE_CONSTRAINTS);
         this.deadline = deadline;
+        this.epochDay = (int) date.toEpochDay();
     }
 
     /**
-     * Returns true if a given string is a valid role.
+     * Returns true if a given string is a valid deadline.
      */
     public static boolean isValidDeadline(String test) {
-        try {
-            LocalDate date = LocalDate.parse(test, formatter);
-        } catch (DateTimeParseException e) {
-            return false;
+        return parse(test) != null;
+    }
+
+    /**
+     * Returns the date of {@code deadline}, or null if it is not a valid deadline.
+     * A deadline with a four-digit year is read by hand, so that an invalid one does not cost an exception.
+     * A deadline after {@link #MAX_DATE} is not valid, so that every deadline has an {@code int} epoch day.
+     */
+    private static LocalDate parse(String deadline) {
+        if (deadline.length() == LENGTH) {
+            return parseFourDigitYear(deadline);
         }
-        return true;
+        if (deadline.length() > LENGTH && deadline.charAt(YEAR_START) == '+') {
+            // a signed year of more than four digits, which is rare enough to be left to the formatter
+            try {
+                LocalDate date = LocalDate.parse(deadline, formatter);
+                return date.isAfter(MAX_DATE) ? null : date;
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the date of a {@code deadline} of the form DD/MM/YYYY, or null if it is not a valid deadline.
+     * Like {@code formatter}, a day past the end of its month is read as the last day of the month.
+     */
+    private static LocalDate parseFourDigitYear(String deadline) {
+        if (deadline.charAt(MONTH_START - 1) != '/' || deadline.charAt(YEAR_START - 1) != '/') {
+            return null;
+        }
+        int day = parseDigits(deadline, 0, MONTH_START - 1);
+        int month = parseDigits(deadline, MONTH_START, YEAR_START - 1);
+        int year = parseDigits(deadline, YEAR_START, LENGTH);
+        if (day < 1 || day > 31 || month < 1 || month > 12 || year < 1) {
+            return null;
+        }
+        return LocalDate.of(year, month, Math.min(day, Month.of(month).length(Year.isLeap(year))));
+    }
+
+    /**
+     * Returns the number formed by the digits of {@code text} from {@code from} to {@code to}, exclusive, or -1 if any
+     * of them is not a digit.
+     */
+    private static int parseDigits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (!ValidationUtil.isAsciiDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to the deadline, so that deadlines can be compared as numbers.
+     */
+    public int toEpochDay() {
+        return epochDay;
     }
 
     /**
@@ -0,0 +1,256 @@
+package seedu.address.model.internship;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An index of the tasks of internships that have deadlines, ordered by deadline, so that the tasks due in a range
+ * of dates can be found without searching the tasks of every internship.
+ *
+ * Internships are indexed by reference, so an internship that is replaced by an edited copy must be removed from the
+ * index and the copy added.
+ *
+ * The number of tasks due on each day is also kept in a Fenwick tree, so that the tasks due in a range of dates are
+ * counted in time in proportion to the number of bits of an epoch day, however many days have tasks due.
+ */
+public class DeadlineIndex {
+
+    private final NavigableMap<Integer, List<DueTask>> dueTasksByEpochDay = new TreeMap<>();
+    private final Map<Internship, List<DueTask>> dueTasksByInternship = new IdentityHashMap<>();
+    private final EpochDayCounts dueTaskCounts = new EpochDayCounts();
+
+    /**
+     * Adds the tasks of {@code internship} that have deadlines to the index.
+     */
+    public void add(Internship internship) {
+        requireNonNull(internship);
+        List<DueTask> dueTasks = new ArrayList<>();
+        for (Task task : internship.getTaskList().getArrayListTaskList()) {
+            Deadline deadline = task.getDeadline();
+            if (deadline != null) {
+                DueTask dueTask = new DueTask(internship, task, deadline);
+                dueTasksByEpochDay.computeIfAbsent(deadline.toEpochDay(), unused -> new ArrayList<>()).add(dueTask);
+                dueTaskCounts.add(deadline.toEpochDay(), 1);
+                dueTasks.add(dueTask);
+            }
+        }
+        if (!dueTasks.isEmpty()) {
+            dueTasksByInternship.put(internship, dueTasks);
+        }
+    }
+
+    /**
+     * Removes the tasks of {@code internship} from the index.
+     */
+    public void remove(Internship internship) {
+        requireNonNull(internship);
+        List<DueTask> dueTasks = dueTasksByInternship.remove(internship);
+        if (dueTasks == null) {
+            return;
+        }
+        for (DueTask dueTask : dueTasks) {
+            int epochDay = dueTask.getDeadline().toEpochDay();
+            List<DueTask> dayTasks = dueTasksByEpochDay.get(epochDay);
+            dayTasks.removeIf(indexedTask -> indexedTask == dueTask);
+            dueTaskCounts.add(epochDay, -1);
+            if (dayTasks.isEmpty()) {
+                dueTasksByEpochDay.remove(epochDay);
+            }
+        }
+    }
+
+    /**
+     * Removes all internships from the index.
+     */
+    public void clear() {
+        dueTasksByEpochDay.clear();
+        dueTasksByInternship.clear();
+        dueTaskCounts.clear();
+    }
+
+    /**
+     * Returns the tasks due from {@code start} to {@code end}, both inclusive, ordered by deadline.
+     */
+    public List<DueTask> getTasksDueBetween(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        if (start.isAfter(end)) {
+            return List.of();
+        }
+        return flatten(dueTasksByEpochDay.subMap(toEpochDay(start), true, toEpochDay(end), true).values());
+    }
+
+    /**
+     * Returns the tasks due before {@code date}, ordered by deadline.
+     */
+    public List<DueTask> getTasksDueBefore(LocalDate date) {
+        requireNonNull(date);
+        return flatten(dueTasksByEpochDay.headMap(toEpochDay(date), isAfterMaxEpochDay(date)).values());
+    }
+
+    /**
+     * Returns the number of tasks due from {@code start} to {@code end}, both inclusive.
+     */
+    public int countTasksDueBetween(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        if (start.isAfter(end)) {
+            return 0;
+        }
+        return dueTaskCounts.countUpTo(end.toEpochDay()) - dueTaskCounts.countUpTo(start.toEpochDay() - 1);
+    }
+
+    /**
+     * Returns the number of tasks due before {@code date}.
+     */
+    public int countTasksDueBefore(LocalDate date) {
+        requireNonNull(date);
+        return dueTaskCounts.countUpTo(date.toEpochDay() - 1);
+    }
+
+    /**
+     * Returns all the tasks that have deadlines, ordered by deadline.
+     */
+    public List<DueTask> getTasks() {
+        return flatten(dueTasksByEpochDay.values());
+    }
+
+    private static List<DueTask> flatten(Collection<List<DueTask>> dayTasks) {
+        List<DueTask> dueTasks = new ArrayList<>();
+        dayTasks.forEach(dueTasks::addAll);
+        return dueTasks;
+    }
+
+    /**
+     * Returns true if {@code date} is clamped by {@link #toEpochDay}, so that tasks due on the clamped day are before
+     * it.
+     */
+    private static boolean isAfterMaxEpochDay(LocalDate date) {
+        return date.toEpochDay() > Integer.MAX_VALUE;
+    }
+
+    /**
+     * The number of tasks due on each epoch day, in a Fenwick tree over every epoch day that fits in an int. Only the
+     * nodes with tasks are stored, so the tree takes space in proportion to the number of tasks.
+     */
+    private static class EpochDayCounts {
+        // Epoch day d is at position d - Integer.MIN_VALUE + 1, and node i counts the positions from
+        // i - lowestOneBit(i) + 1 to i
+        private static final long LAST_POSITION = 1L << 32;
+
+        private final Map<Long, Integer> nodes = new HashMap<>();
+
+        /**
+         * Adds {@code delta} to the number of tasks due on {@code epochDay}.
+         */
+        void add(int epochDay, int delta) {
+            for (long i = toPosition(epochDay); i <= LAST_POSITION; i += Long.lowestOneBit(i)) {
+                // a node that counts no tasks is removed
+                nodes.merge(i, delta, (count, unused) -> count + delta == 0 ? null : count + delta);
+            }
+        }
+
+        /**
+         * Returns the number of tasks due on or before {@code epochDay}.
+         */
+        int countUpTo(long epochDay) {
+            if (epochDay < Integer.MIN_VALUE) {
+                return 0;
+            }
+            int count = 0;
+            for (long i = toPosition((int) Math.min(epochDay, Integer.MAX_VALUE)); i > 0; i -= Long.lowestOneBit(i)) {
+                count += nodes.getOrDefault(i, 0);
+            }
+            return count;
+        }
+
+        void clear() {
+            nodes.clear();
+        }
+
+        private static long toPosition(int epochDay) {
+            return (long) epochDay - Integer.MIN_VALUE + 1;
+        }
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        // The epoch days of deadlines fit in an int, so dates too far away for an int can be clamped
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, date.toEpochDay()));
+    }
+
+    /**
+     * A task of an internship, with its deadline.
+     */
+    public static class DueTask {
+        private final Internship internship;
+        private final Task task;
+        private final Deadline deadline;
+
+        /**
+         * Creates a {@code DueTask} of {@code task}, which belongs to {@code internship} and is due on
+         * {@code deadline}.
+         */
+        public DueTask(Internship internship, Task task, Deadline deadline) {
+            requireNonNull(internship);
+            requireNonNull(task);
+            requireNonNull(deadline);
+            this.internship = internship;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public Internship getInternship() {
+            return internship;
+        }
+
+        public Task getTask() {
+            return task;
+        }
+
+        public Deadline getDeadline() {
+            return deadline;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof DueTask)) {
+                return false;
+            }
+
+            DueTask otherDueTask = (DueTask) other;
+            return internship.equals(otherDueTask.internship)
+                    && task.equals(otherDueTask.task)
+                    && deadline.equals(otherDueTask.deadline);
+        }
+
+        @Override
+        public int hashCode() {
+            return task.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("internship", internship.getCompanyName())
+                    .add("task", task.task)
+                    .add("deadline", deadline)
+                    .toString();
+        }
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.commons.util.WeakValuePool;
+
 /**
  * Represents an Internship's description in the internship data.
  */
@@ -15,7 +19,10 @@ public class Description {
      */
     public static final String VALIDATION_REGEX = "^(?!\\s*$).+";
 
+    private static final WeakValuePool<String, Description> pool = new WeakValuePool<>();
+
     public final String description;
+    private String sortKey;
 
     /**
      * Constructs a {@code Description}.
@@ -23,19 +30,53 @@ public class Description {
      * @param description A valid description.
      */
     public Description(String description) {
+        this(description, false);
+    }
+
+    private Description(String description, boolean isValidated) {
         requireNonNull(description);
-        checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        }
         this.description = description;
     }
 
+    /**
+     * Returns the shared {@code Description} of {@code description}, which the caller has already checked with
+     * {@link #isValidDescription(String)}, without checking it again.
+     */
+    public static Description ofValidated(String description) {
+        assert isValidDescription(description) : description;
+        return pool.get(description, value -> new Description(value, true));
+    }
+
+    /**
+     * Returns the shared {@code Description} that is equal to this one, so that the equal descriptions of many
+     * internships are kept in memory only once.
+     */
+    public Description intern() {
+        return pool.get(description, value -> this);
+    }
+
     /**
      * Returns true if a given string is a valid Description.
      */
     public static boolean isValidDescription(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
 
+    /**
+     * Returns the description folded to a single case, so that descriptions can be sorted case-insensitively with
+     * {@link String#compareTo(String)}. It is computed once, when first needed.
+     */
+    public String getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.foldCase(description);
+        }
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return description;
@@ -88,12 +88,12 @@ public class Internship {
         return taskList.getTaskListSize();
     }
 
-    public void addTask(Task task) {
-        taskList.addTask(task);
-    }
-
-    public void deleteTask(int index) {
-        taskList.deleteTask(index);
+    /**
+     * Returns a copy of this internship with {@code taskList} as its tasks.
+     */
+    public Internship withTaskList(TaskList taskList) {
+        return new Internship(companyName, contactName, contactEmail, contactNumber, location, applicationStatus,
+                description, role, remark, taskList);
     }
 
     /**
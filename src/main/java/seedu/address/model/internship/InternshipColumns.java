@@ -0,0 +1,374 @@
+package seedu.address.model.internship;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
+import seedu.address.model.internship.Location.LocationEnum;
+
+/**
+ * The fields of a list of internships, stored column by column in arrays of primitives, so that counting the
+ * internships by a field is a loop over one array rather than a walk over the internships and their fields.
+ *
+ * Row {@code i} of each internship column holds a field of the internship at index {@code i} of the list. Company
+ * names, contact names and roles are dictionary-encoded: their columns hold the code of each value in the column's
+ * dictionary. Application statuses and locations hold the ordinals of their enums. The deadlines of the tasks are kept
+ * as epoch days in a separate column, where each row has a slice given by its start and its number of deadlines. The
+ * deadlines of a replaced or removed row are left in place and the row's slice appended anew, and the deadline column
+ * is compacted once at least half of it is left over, so each change takes constant amortized time.
+ *
+ * The number of rows with each status, location, company name, contact name and role, and the number of tasks, are
+ * counted as rows are added, replaced and removed, so counting the internships by one of these fields takes time in
+ * proportion to the number of distinct values of the field rather than the number of rows. Counting the tasks due
+ * before a date in each group is a loop over the rows and their deadlines.
+ */
+public class InternshipColumns {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final StatusEnum[] STATUSES = StatusEnum.values();
+    private static final LocationEnum[] LOCATIONS = LocationEnum.values();
+
+    private final Dictionary<CompanyName> companyNames = new Dictionary<>();
+    private final Dictionary<ContactName> contactNames = new Dictionary<>();
+    private final Dictionary<Role> roles = new Dictionary<>();
+
+    private int[] companyNameColumn = new int[INITIAL_CAPACITY];
+    private int[] contactNameColumn = new int[INITIAL_CAPACITY];
+    private int[] roleColumn = new int[INITIAL_CAPACITY];
+    private byte[] statusColumn = new byte[INITIAL_CAPACITY];
+    private byte[] locationColumn = new byte[INITIAL_CAPACITY];
+    private int[] taskCountColumn = new int[INITIAL_CAPACITY];
+    private int[] deadlineStartColumn = new int[INITIAL_CAPACITY];
+    private int[] deadlineCountColumn = new int[INITIAL_CAPACITY];
+    private int size;
+
+    private int[] deadlineColumn = new int[INITIAL_CAPACITY];
+    private int deadlineColumnSize;
+    private int leftOverDeadlineCount;
+
+    private final int[] statusCounts = new int[STATUSES.length];
+    private final int[] locationCounts = new int[LOCATIONS.length];
+    private int taskCount;
+
+    /**
+     * Adds the fields of {@code internship} as the last row.
+     */
+    public void add(Internship internship) {
+        requireNonNull(internship);
+        if (size == companyNameColumn.length) {
+            int capacity = size * 2;
+            companyNameColumn = Arrays.copyOf(companyNameColumn, capacity);
+            contactNameColumn = Arrays.copyOf(contactNameColumn, capacity);
+            roleColumn = Arrays.copyOf(roleColumn, capacity);
+            statusColumn = Arrays.copyOf(statusColumn, capacity);
+            locationColumn = Arrays.copyOf(locationColumn, capacity);
+            taskCountColumn = Arrays.copyOf(taskCountColumn, capacity);
+            deadlineStartColumn = Arrays.copyOf(deadlineStartColumn, capacity);
+            deadlineCountColumn = Arrays.copyOf(deadlineCountColumn, capacity);
+        }
+        setFields(size++, internship);
+    }
+
+    /**
+     * Replaces the fields in {@code row} with those of {@code internship}.
+     */
+    public void set(int row, Internship internship) {
+        requireNonNull(internship);
+        checkRow(row);
+        uncountFields(row);
+        setFields(row, internship);
+        compactDeadlinesIfSparse();
+    }
+
+    /**
+     * Removes {@code row}, moving the rows after it up by one.
+     */
+    public void remove(int row) {
+        checkRow(row);
+        uncountFields(row);
+        int movedCount = size - row - 1;
+        System.arraycopy(companyNameColumn, row + 1, companyNameColumn, row, movedCount);
+        System.arraycopy(contactNameColumn, row + 1, contactNameColumn, row, movedCount);
+        System.arraycopy(roleColumn, row + 1, roleColumn, row, movedCount);
+        System.arraycopy(statusColumn, row + 1, statusColumn, row, movedCount);
+        System.arraycopy(locationColumn, row + 1, locationColumn, row, movedCount);
+        System.arraycopy(taskCountColumn, row + 1, taskCountColumn, row, movedCount);
+        System.arraycopy(deadlineStartColumn, row + 1, deadlineStartColumn, row, movedCount);
+        System.arraycopy(deadlineCountColumn, row + 1, deadlineCountColumn, row, movedCount);
+        size--;
+        compactDeadlinesIfSparse();
+    }
+
+    /**
+     * Removes every row.
+     */
+    public void clear() {
+        companyNames.clear();
+        contactNames.clear();
+        roles.clear();
+        Arrays.fill(statusCounts, 0);
+        Arrays.fill(locationCounts, 0);
+        taskCount = 0;
+        size = 0;
+        deadlineColumnSize = 0;
+        leftOverDeadlineCount = 0;
+    }
+
+    /**
+     * Returns the number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    }
+
+    private void setFields(int row, Internship internship) {
+        companyNameColumn[row] = companyNames.count(internship.getCompanyName());
+        contactNameColumn[row] = contactNames.count(internship.getContactName());
+        roleColumn[row] = roles.count(internship.getRole());
+        int status = internship.getApplicationStatus().getStatus().ordinal();
+        statusColumn[row] = (byte) status;
+        statusCounts[status]++;
+        int location = internship.getLocation().getLocation().ordinal();
+        locationColumn[row] = (byte) location;
+        locationCounts[location]++;
+
+        List<Task> tasks = internship.getTaskList().getArrayListTaskList();
+        taskCountColumn[row] = tasks.size();
+        taskCount += tasks.size();
+        deadlineStartColumn[row] = deadlineColumnSize;
+        for (Task task : tasks) {
+            Deadline deadline = task.getDeadline();
+            if (deadline != null) {
+                appendDeadline(deadline.toEpochDay());
+            }
+        }
+        deadlineCountColumn[row] = deadlineColumnSize - deadlineStartColumn[row];
+    }
+
+    private void appendDeadline(int epochDay) {
+        if (deadlineColumnSize == deadlineColumn.length) {
+            deadlineColumn = Arrays.copyOf(deadlineColumn, deadlineColumnSize * 2);
+        }
+        deadlineColumn[deadlineColumnSize++] = epochDay;
+    }
+
+    /**
+     * Moves the deadlines of the rows to the start of the deadline column, in row order, if at least half of the
+     * column is left over from replaced and removed rows.
+     */
+    private void compactDeadlinesIfSparse() {
+        if (leftOverDeadlineCount == 0 || leftOverDeadlineCount < deadlineColumnSize / 2) {
+            return;
+        }
+        int compactedSize = deadlineColumnSize - leftOverDeadlineCount;
+        int[] compacted = new int[Math.max(INITIAL_CAPACITY, compactedSize * 2)];
+        int start = 0;
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(deadlineColumn, deadlineStartColumn[row], compacted, start, deadlineCountColumn[row]);
+            deadlineStartColumn[row] = start;
+            start += deadlineCountColumn[row];
+        }
+        deadlineColumn = compacted;
+        deadlineColumnSize = compactedSize;
+        leftOverDeadlineCount = 0;
+    }
+
+    /**
+     * Takes the fields in {@code row} off the counts, before they are replaced or removed.
+     */
+    private void uncountFields(int row) {
+        companyNames.uncount(companyNameColumn[row]);
+        contactNames.uncount(contactNameColumn[row]);
+        roles.uncount(roleColumn[row]);
+        statusCounts[statusColumn[row]]--;
+        locationCounts[locationColumn[row]]--;
+        taskCount -= taskCountColumn[row];
+        leftOverDeadlineCount += deadlineCountColumn[row];
+    }
+
+    /**
+     * Returns the number of internships with each application status.
+     */
+    public Map<StatusEnum, Integer> countByStatus() {
+        return toEnumMap(StatusEnum.class, STATUSES, statusCounts);
+    }
+
+    /**
+     * Returns the number of internships in each location.
+     */
+    public Map<LocationEnum, Integer> countByLocation() {
+        return toEnumMap(LocationEnum.class, LOCATIONS, locationCounts);
+    }
+
+    /**
+     * Returns the number of internships of each company, in the order in which the companies were first added.
+     */
+    public Map<CompanyName, Integer> countByCompanyName() {
+        return companyNames.toMap();
+    }
+
+    /**
+     * Returns the number of internships of each contact, in the order in which the contacts were first added.
+     */
+    public Map<ContactName, Integer> countByContactName() {
+        return contactNames.toMap();
+    }
+
+    /**
+     * Returns the number of internships of each role, in the order in which the roles were first added.
+     */
+    public Map<Role, Integer> countByRole() {
+        return roles.toMap();
+    }
+
+    /**
+     * Returns the number of tasks of all the internships, with or without deadlines.
+     */
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Returns the number of tasks due before {@code date} of the internships with each application status.
+     */
+    public Map<StatusEnum, Integer> countTasksDueBeforeByStatus(LocalDate date) {
+        requireNonNull(date);
+        return toEnumMap(StatusEnum.class, STATUSES,
+                countTasksDueBefore(date, row -> statusColumn[row], STATUSES.length));
+    }
+
+    /**
+     * Returns the number of tasks due before {@code date} of the internships in each location.
+     */
+    public Map<LocationEnum, Integer> countTasksDueBeforeByLocation(LocalDate date) {
+        requireNonNull(date);
+        return toEnumMap(LocationEnum.class, LOCATIONS,
+                countTasksDueBefore(date, row -> locationColumn[row], LOCATIONS.length));
+    }
+
+    /**
+     * Returns the number of tasks due before {@code date} of the internships of each company, for the same companies
+     * and in the same order as {@link #countByCompanyName()}.
+     */
+    public Map<CompanyName, Integer> countTasksDueBeforeByCompanyName(LocalDate date) {
+        requireNonNull(date);
+        return companyNames.toMap(countTasksDueBefore(date, row -> companyNameColumn[row], companyNames.size()));
+    }
+
+    /**
+     * Returns the number of tasks due before {@code date} of the internships of each role, for the same roles and in
+     * the same order as {@link #countByRole()}.
+     */
+    public Map<Role, Integer> countTasksDueBeforeByRole(LocalDate date) {
+        requireNonNull(date);
+        return roles.toMap(countTasksDueBefore(date, row -> roleColumn[row], roles.size()));
+    }
+
+    /**
+     * Returns the number of tasks due before {@code date} in each group, where {@code groupOfRow} gives the group of
+     * each row out of {@code groupCount} groups.
+     */
+    private int[] countTasksDueBefore(LocalDate date, IntUnaryOperator groupOfRow, int groupCount) {
+        long epochDay = date.toEpochDay();
+        int[] counts = new int[groupCount];
+        for (int row = 0; row < size; row++) {
+            int rowCount = 0;
+            int end = deadlineStartColumn[row] + deadlineCountColumn[row];
+            for (int i = deadlineStartColumn[row]; i < end; i++) {
+                if (deadlineColumn[i] < epochDay) {
+                    rowCount++;
+                }
+            }
+            counts[groupOfRow.applyAsInt(row)] += rowCount;
+        }
+        return counts;
+    }
+
+    private static <E extends Enum<E>> Map<E, Integer> toEnumMap(Class<E> enumClass, E[] constants, int[] counts) {
+        Map<E, Integer> map = new EnumMap<>(enumClass);
+        for (E constant : constants) {
+            map.put(constant, counts[constant.ordinal()]);
+        }
+        return map;
+    }
+
+    /**
+     * The distinct values of a column, each with the code that stands for it in the column and the number of rows that
+     * have it. Values are not removed from the dictionary when the rows that have them are removed, so the count of a
+     * code may be zero.
+     */
+    private static class Dictionary<T> {
+        private final Map<T, Integer> codes = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+        private int[] counts = new int[INITIAL_CAPACITY];
+
+        /**
+         * Counts one more row with {@code value} and returns the code of the value.
+         */
+        int count(T value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+                if (code == counts.length) {
+                    counts = Arrays.copyOf(counts, code * 2);
+                }
+            }
+            counts[code]++;
+            return code;
+        }
+
+        /**
+         * Counts one less row with the value of {@code code}.
+         */
+        void uncount(int code) {
+            counts[code]--;
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        void clear() {
+            codes.clear();
+            values.clear();
+            Arrays.fill(counts, 0);
+        }
+
+        /**
+         * Returns the values that some rows have, with the number of rows that have them.
+         */
+        Map<T, Integer> toMap() {
+            return toMap(counts);
+        }
+
+        /**
+         * Returns the values that some rows have, each with the number at its code in {@code numbers}.
+         */
+        Map<T, Integer> toMap(int[] numbers) {
+            Map<T, Integer> map = new LinkedHashMap<>();
+            for (int code = 0; code < values.size(); code++) {
+                if (counts[code] > 0) {
+                    map.put(values.get(code), numbers[code]);
+                }
+            }
+            return map;
+        }
+    }
+}
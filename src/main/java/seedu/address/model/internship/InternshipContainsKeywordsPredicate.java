@@ -1,12 +1,22 @@
 package seedu.address.model.internship;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
+import seedu.address.model.internship.InternshipTokenIndex.Field;
+import seedu.address.model.internship.Location.LocationEnum;
 
 /**
  * Tests that a {@code Internship}'s fields matches any of the keywords given.
@@ -21,6 +31,12 @@ public class InternshipContainsKeywordsPredicate implements Predicate<Internship
     private final Optional<Set<String>> roleKeywords;
     private final Optional<Set<String>> remarkKeywords;
 
+    // The keywords compiled for testing. The enum sets are null if no keywords are specified for their field.
+    private final EnumSet<StatusEnum> statuses;
+    private final EnumSet<LocationEnum> locations;
+    private final Field[] textFields;
+    private final String[][] textFieldKeywords;
+
     /**
      * Creates a predicate that checks if an internship's fields contain any of the keywords specified for that field.
      * Additionally, the isMatchAll parameter specifies if all fields and keywords must be matched.
@@ -44,49 +60,143 @@ public class InternshipContainsKeywordsPredicate implements Predicate<Internship
         this.roleKeywords = getKeywords(roles);
         this.remarkKeywords = getKeywords(remarks);
         this.isMatchAll = isMatchAll;
+
+        this.statuses = statusKeywords.map(keywords -> toEnumSet(StatusEnum.class, keywords)).orElse(null);
+        this.locations = locationKeywords.map(keywords -> toEnumSet(LocationEnum.class, keywords)).orElse(null);
+        List<Field> fields = new ArrayList<>();
+        List<String[]> fieldKeywords = new ArrayList<>();
+        // Ordered by the typical length of the field
+        addTextField(fields, fieldKeywords, Field.COMPANY_NAME, companyNameKeywords);
+        addTextField(fields, fieldKeywords, Field.CONTACT_NAME, contactNameKeywords);
+        addTextField(fields, fieldKeywords, Field.ROLE, roleKeywords);
+        addTextField(fields, fieldKeywords, Field.REMARK, remarkKeywords);
+        addTextField(fields, fieldKeywords, Field.DESCRIPTION, descriptionKeywords);
+        this.textFields = fields.toArray(new Field[0]);
+        this.textFieldKeywords = fieldKeywords.toArray(new String[0][]);
+    }
+
+    private static <E extends Enum<E>> EnumSet<E> toEnumSet(Class<E> enumClass, Set<String> keywords) {
+        EnumSet<E> values = EnumSet.noneOf(enumClass);
+        for (E value : enumClass.getEnumConstants()) {
+            for (String keyword : keywords) {
+                if (value.toString().equalsIgnoreCase(keyword)) {
+                    values.add(value);
+                }
+            }
+        }
+        return values;
+    }
+
+    private static void addTextField(List<Field> fields, List<String[]> fieldKeywords, Field field,
+                                     Optional<Set<String>> keywords) {
+        if (keywords.isPresent()) {
+            fields.add(field);
+            fieldKeywords.add(keywords.get().stream().filter(keyword -> !keyword.isEmpty()).toArray(String[]::new));
+        }
     }
 
     /**
      * Tests if the given internship contains any of the keywords specified for all fields (when isMatchAll is true) or
      * any of the keywords specified for any field (when isMatchAll is false).
+     * Fields are tested from the cheapest to the most expensive, stopping as soon as the result is known.
      */
     @Override
     public boolean test(Internship internship) {
-        boolean foundInCompanyName = companyNameKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(internship.getCompanyName().companyName, keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInContactName = contactNameKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(internship.getContactName().contactName, keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInLocation = locationKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(internship.getLocation().toString(), keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInStatus = statusKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(internship.getApplicationStatus().toString(), keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInDescription = descriptionKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(internship.getDescription().description, keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInRole = roleKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        internship.getRole().role, keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        boolean foundInRemark = remarkKeywords.stream()
-                .map(set -> set.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        internship.getRemark().value, keyword)))
-                .reduce((a, b) -> a || b).orElse(isMatchAll);
-        if (isMatchAll) {
-            return foundInCompanyName && foundInContactName && foundInLocation
-                    && foundInStatus && foundInDescription && foundInRole && foundInRemark;
-        } else { // match any
-            return foundInCompanyName || foundInContactName || foundInLocation
-                    || foundInStatus || foundInDescription || foundInRole || foundInRemark;
+        // A field decides the result when it is not found in match-all mode, or found in match-any mode
+        if (statuses != null) {
+            boolean isFound = statuses.contains(internship.getApplicationStatus().getStatus());
+            if (isFound != isMatchAll) {
+                return isFound;
+            }
+        }
+        if (locations != null) {
+            boolean isFound = locations.contains(internship.getLocation().getLocation());
+            if (isFound != isMatchAll) {
+                return isFound;
+            }
+        }
+        for (int i = 0; i < textFields.length; i++) {
+            boolean isFound = StringUtil.containsAnyWordIgnoreCase(textFields[i].getText(internship),
+                    textFieldKeywords[i]);
+            if (isFound != isMatchAll) {
+                return isFound;
+            }
+        }
+        return isMatchAll;
+    }
+
+    /**
+     * Returns a predicate equivalent to this one that looks up the matching internships in {@code index} instead
+     * of searching the fields of each internship it tests. The lookup is done once, when the first internship is
+     * tested. Internships tested after the index has changed, such as an internship that was just edited, have
+     * their fields searched instead, so that a single change does not repeat the lookup.
+     */
+    public Predicate<Internship> withIndex(InternshipTokenIndex index) {
+        requireNonNull(index);
+        return new Predicate<>() {
+            private boolean isLookedUp;
+            private int version;
+            private Set<Internship> matches;
+
+            @Override
+            public boolean test(Internship internship) {
+                if (!isLookedUp) {
+                    matches = findMatches(index);
+                    version = index.getVersion();
+                    isLookedUp = true;
+                }
+                return matches == null || version != index.getVersion()
+                        ? InternshipContainsKeywordsPredicate.this.test(internship)
+                        : matches.contains(internship);
+            }
+        };
+    }
+
+    /**
+     * Returns the internships in {@code index} that this predicate accepts, or null if it accepts every internship.
+     */
+    private Set<Internship> findMatches(InternshipTokenIndex index) {
+        List<Set<Internship>> fieldMatches = new ArrayList<>();
+        addFieldMatches(fieldMatches, index, Field.COMPANY_NAME, companyNameKeywords);
+        addFieldMatches(fieldMatches, index, Field.CONTACT_NAME, contactNameKeywords);
+        addFieldMatches(fieldMatches, index, Field.LOCATION, locationKeywords);
+        addFieldMatches(fieldMatches, index, Field.STATUS, statusKeywords);
+        addFieldMatches(fieldMatches, index, Field.DESCRIPTION, descriptionKeywords);
+        addFieldMatches(fieldMatches, index, Field.ROLE, roleKeywords);
+        addFieldMatches(fieldMatches, index, Field.REMARK, remarkKeywords);
+        if (fieldMatches.isEmpty()) {
+            return isMatchAll ? null : Collections.emptySet();
+        }
+
+        Set<Internship> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (!isMatchAll) {
+            fieldMatches.forEach(matches::addAll);
+            return matches;
+        }
+
+        // Intersect starting from the smallest set, so that the cost depends on the size of the result
+        fieldMatches.sort(Comparator.comparingInt(Set::size));
+        matches.addAll(fieldMatches.get(0));
+        for (int i = 1; i < fieldMatches.size() && !matches.isEmpty(); i++) {
+            matches.retainAll(fieldMatches.get(i));
+        }
+        return matches;
+    }
+
+    /**
+     * Adds the internships in {@code index} whose {@code field} contains any of {@code keywords} to
+     * {@code fieldMatches}, if there are any keywords.
+     */
+    private static void addFieldMatches(List<Set<Internship>> fieldMatches, InternshipTokenIndex index, Field field,
+                                        Optional<Set<String>> keywords) {
+        if (!keywords.isPresent()) {
+            return;
+        }
+        Set<Internship> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords.get()) {
+            matches.addAll(index.getPostings(field, keyword));
         }
+        fieldMatches.add(matches);
     }
 
     @Override
@@ -0,0 +1,63 @@
+package seedu.address.model.internship;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents the identity fields of an {@code Internship}, suitable for use as a hash key.
+ * Two internships have equal identities if and only if {@code Internship#isSameInternship(Internship)} holds
+ * between them.
+ *
+ * @see Internship#isSameInternship(Internship)
+ */
+public final class InternshipIdentity {
+    private final CompanyName companyName;
+    private final ContactName contactName;
+    private final ContactEmail contactEmail;
+    private final ContactNumber contactNumber;
+    private final ApplicationStatus applicationStatus;
+    private final Description description;
+    private final int hashCode;
+
+    /**
+     * Constructs the identity of the given {@code internship}.
+     */
+    public InternshipIdentity(Internship internship) {
+        requireNonNull(internship);
+        this.companyName = internship.getCompanyName();
+        this.contactName = internship.getContactName();
+        this.contactEmail = internship.getContactEmail();
+        this.contactNumber = internship.getContactNumber();
+        this.applicationStatus = internship.getApplicationStatus();
+        this.description = internship.getDescription();
+        this.hashCode = Objects.hash(companyName, contactName, contactEmail, contactNumber, applicationStatus,
+                description);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof InternshipIdentity)) {
+            return false;
+        }
+
+        InternshipIdentity otherIdentity = (InternshipIdentity) other;
+        return hashCode == otherIdentity.hashCode
+                && companyName.equals(otherIdentity.companyName)
+                && contactName.equals(otherIdentity.contactName)
+                && contactEmail.equals(otherIdentity.contactEmail)
+                && contactNumber.equals(otherIdentity.contactNumber)
+                && applicationStatus.equals(otherIdentity.applicationStatus)
+                && description.equals(otherIdentity.description);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
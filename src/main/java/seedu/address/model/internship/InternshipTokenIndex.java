@@ -0,0 +1,130 @@
+package seedu.address.model.internship;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words in the searchable fields of internships to the internships containing them.
+ * Words are matched case-insensitively, in the same way as
+ * {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+ *
+ * Internships are indexed by reference, so an internship must be removed from the index before it is changed.
+ */
+public class InternshipTokenIndex {
+
+    /**
+     * The fields of an internship that are indexed.
+     */
+    public enum Field {
+        COMPANY_NAME(internship -> internship.getCompanyName().companyName),
+        CONTACT_NAME(internship -> internship.getContactName().contactName),
+        LOCATION(internship -> internship.getLocation().toString()),
+        STATUS(internship -> internship.getApplicationStatus().toString()),
+        DESCRIPTION(internship -> internship.getDescription().description),
+        ROLE(internship -> internship.getRole().role),
+        REMARK(internship -> internship.getRemark().value);
+
+        private final Function<Internship, String> getter;
+
+        Field(Function<Internship, String> getter) {
+            this.getter = getter;
+        }
+
+        String getText(Internship internship) {
+            return getter.apply(internship);
+        }
+    }
+
+    private final Map<Field, Map<String, Set<Internship>>> postings = new EnumMap<>(Field.class);
+    private int version;
+
+    /**
+     * Creates an empty {@code InternshipTokenIndex}.
+     */
+    public InternshipTokenIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds the words of {@code internship} to the index.
+     */
+    public void add(Internship internship) {
+        requireNonNull(internship);
+        for (Field field : Field.values()) {
+            Map<String, Set<Internship>> fieldPostings = postings.get(field);
+            for (String token : field.getText(internship).split("\\s+")) {
+                if (!token.isEmpty()) {
+                    fieldPostings.computeIfAbsent(normalize(token), unused ->
+                            Collections.newSetFromMap(new IdentityHashMap<>())).add(internship);
+                }
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Removes the words of {@code internship} from the index.
+     */
+    public void remove(Internship internship) {
+        requireNonNull(internship);
+        for (Field field : Field.values()) {
+            Map<String, Set<Internship>> fieldPostings = postings.get(field);
+            for (String token : field.getText(internship).split("\\s+")) {
+                String key = normalize(token);
+                Set<Internship> internships = fieldPostings.get(key);
+                if (internships != null) {
+                    internships.remove(internship);
+                    if (internships.isEmpty()) {
+                        fieldPostings.remove(key);
+                    }
+                }
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Removes all internships from the index.
+     */
+    public void clear() {
+        postings.values().forEach(Map::clear);
+        version++;
+    }
+
+    /**
+     * Returns an unmodifiable view of the internships whose {@code field} contains {@code word}, ignoring case.
+     * The view is compared by reference and reflects later changes to the index.
+     */
+    public Set<Internship> getPostings(Field field, String word) {
+        requireNonNull(field);
+        requireNonNull(word);
+        Set<Internship> internships = postings.get(field).get(normalize(word.trim()));
+        return internships == null ? Collections.emptySet() : Collections.unmodifiableSet(internships);
+    }
+
+    /**
+     * Returns a number that changes whenever the index is changed.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Folds the case of {@code word}, so that two words are equal ignoring case if and only if their normalized forms
+     * are equal.
+     */
+    private static String normalize(String word) {
+        return StringUtil.foldCase(word);
+    }
+}
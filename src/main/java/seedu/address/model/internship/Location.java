@@ -3,6 +3,10 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Internship's location in the internship data.
  */
@@ -21,6 +25,10 @@ public class Location {
         UNKNOWN
     }
 
+    private static final LocationEnum[] LOCATIONS = LocationEnum.values();
+    private static final Location[] SHARED_LOCATIONS = Arrays.stream(LOCATIONS).map(Location::new)
+            .toArray(Location[]::new);
+
     private final LocationEnum location;
 
     /**
@@ -29,16 +37,42 @@ public class Location {
      * @param location A valid location.
      */
     public Location(String location) {
+        this(toLocationEnum(location));
+    }
+
+    private Location(LocationEnum location) {
+        this.location = location;
+    }
+
+    /**
+     * Returns the shared {@code Location} of {@code location}, so that the internships with the same
+     * location share one object.
+     *
+     * @throws IllegalArgumentException if {@code location} is not a valid location.
+     */
+    public static Location of(String location) {
+        return SHARED_LOCATIONS[toLocationEnum(location).ordinal()];
+    }
+
+    private static LocationEnum toLocationEnum(String location) {
         requireNonNull(location);
-        checkArgument(isValidLocation(location), MESSAGE_CONSTRAINTS);
-        this.location = Location.LocationEnum.valueOf(location.toUpperCase());
+        LocationEnum value = ValidationUtil.findConstantIgnoreCase(LOCATIONS, location);
+        checkArgument(value != null, MESSAGE_CONSTRAINTS);
+        return value;
+    }
+
+    /**
+     * Returns the shared {@code Location} that is equal to this one.
+     */
+    public Location intern() {
+        return SHARED_LOCATIONS[location.ordinal()];
     }
 
     /**
      * Returns true if a given string is a valid ApplicationStatus.
      */
     public static boolean isValidLocation(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.findConstantIgnoreCase(LOCATIONS, test) != null;
     }
 
     @Override
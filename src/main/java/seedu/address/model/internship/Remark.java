@@ -2,12 +2,15 @@ package seedu.address.model.internship;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an Internship's remarks in the internship data.
  * Guarantees: immutable; is always valid
  */
 public class Remark {
     public final String value;
+    private String sortKey;
 
     /**
      * Constructs an {@code Remark}.
@@ -19,6 +22,17 @@ public class Remark {
         value = remark;
     }
 
+    /**
+     * Returns the remark folded to a single case, so that remarks can be sorted case-insensitively with
+     * {@link String#compareTo(String)}. It is computed once, when first needed.
+     */
+    public String getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.foldCase(value);
+        }
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return value;
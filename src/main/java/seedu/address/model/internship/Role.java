@@ -3,6 +3,10 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.commons.util.WeakValuePool;
+
 /**
  * Represents an internship's role in the internship data.
  */
@@ -15,7 +19,10 @@ public class Role {
      */
     public static final String VALIDATION_REGEX = "^(?!\\s*$).+";
 
+    private static final WeakValuePool<String, Role> pool = new WeakValuePool<>();
+
     public final String role;
+    private String sortKey;
 
     /**
      * Constructs a {@code Role}.
@@ -23,19 +30,53 @@ public class Role {
      * @param role A valid role.
      */
     public Role(String role) {
+        this(role, false);
+    }
+
+    private Role(String role, boolean isValidated) {
         requireNonNull(role);
-        checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
+        }
         this.role = role;
     }
 
+    /**
+     * Returns the shared {@code Role} of {@code role}, which the caller has already checked with
+     * {@link #isValidRole(String)}, without checking it again.
+     */
+    public static Role ofValidated(String role) {
+        assert isValidRole(role) : role;
+        return pool.get(role, value -> new Role(value, true));
+    }
+
+    /**
+     * Returns the shared {@code Role} that is equal to this one, so that the equal roles of many
+     * internships are kept in memory only once.
+     */
+    public Role intern() {
+        return pool.get(role, value -> this);
+    }
+
     /**
      * Returns true if a given string is a valid role.
      */
     public static boolean isValidRole(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
 
+    /**
+     * Returns the role folded to a single case, so that roles can be sorted case-insensitively with
+     * {@link String#compareTo(String)}. It is computed once, when first needed.
+     */
+    public String getSortKey() {
+        if (sortKey == null) {
+            sortKey = StringUtil.foldCase(role);
+        }
+        return sortKey;
+    }
+
     @Override
     public String toString() {
         return role;
@@ -2,13 +2,14 @@ package seedu.address.model.internship;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.model.internship.Deadline.isValidDeadline;
 
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an internship's Task in the internship data.
  */
@@ -23,9 +24,9 @@ public class Task {
 
     public final String task;
 
-    private Deadline deadline;
+    private final Deadline deadline;
 
-    private boolean isDeadlineSet = false;
+    private final boolean isDeadlineSet;
 
     /**
      * Constructs a {@code Task}.
@@ -33,9 +34,23 @@ public class Task {
      * @param task A valid task.
      */
     public Task(String task) {
+        this(task, false);
+    }
+
+    private Task(String task, boolean isValidated) {
         requireNonNull(task);
-        checkArgument(isValidTask(task), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidTask(task), MESSAGE_CONSTRAINTS);
+        }
         this.task = task;
+        this.deadline = null;
+        this.isDeadlineSet = false;
+    }
+
+    private Task(String task, Deadline deadline) {
+        this.task = task;
+        this.deadline = deadline;
+        this.isDeadlineSet = true;
     }
 
     /**
@@ -47,7 +62,6 @@ public class Task {
         requireNonNull(task);
         requireNonNull(deadline);
         checkArgument(isValidTask(task), MESSAGE_CONSTRAINTS);
-        checkArgument(isValidDeadline(deadline), MESSAGE_CONSTRAINTS);
         this.task = task;
         this.deadline = new Deadline(deadline);
         isDeadlineSet = true;
@@ -77,19 +91,35 @@ public class Task {
     }
 
 
+    /**
+     * Returns a {@code Task} without a deadline of {@code task}, which the caller has already checked with
+     * {@link #isValidTask(String)}, without checking it again.
+     */
+    public static Task ofValidated(String task) {
+        assert isValidTask(task) : task;
+        return new Task(task, true);
+    }
+
     /**
      * Returns true if a given string is a valid task.
      */
     public static boolean isValidTask(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
     /**
-     * Replace deadline with {@code deadline}.
+     * Returns the deadline of this task, or null if it has none.
      */
-    public void setDeadline(Deadline deadline) {
-        this.deadline = deadline;
-        isDeadlineSet = true;
+    public Deadline getDeadline() {
+        return isDeadlineSet ? deadline : null;
+    }
+
+    /**
+     * Returns a copy of this task that is due on {@code deadline}.
+     */
+    public Task withDeadline(Deadline deadline) {
+        requireNonNull(deadline);
+        return new Task(task, deadline);
     }
 
     /**
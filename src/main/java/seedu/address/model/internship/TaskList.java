@@ -1,12 +1,21 @@
 package seedu.address.model.internship;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 
 /**
  * Represents the list of tasks in an Internship.
+ * Guarantees: immutable. The methods that change the tasks return a new {@code TaskList}, so that an internship can
+ * be shared with a snapshot of the data that is saved in the background.
  */
 public class TaskList {
+    // Stands for an earliest deadline that has not been found yet, as the epoch day of a deadline fits in an int
+    private static final long UNKNOWN_EPOCH_DAY = Long.MIN_VALUE;
+
     private final ArrayList<Task> taskList;
+    // Found when it is first needed, such as to sort by deadline, and kept as the tasks do not change
+    private long earliestDeadlineEpochDay = UNKNOWN_EPOCH_DAY;
 
     /**
      * Constructs a TaskList object.
@@ -16,7 +25,7 @@ public class TaskList {
     }
 
     /**
-     * Constructs a TaskList object from an existing list of tasks.
+     * Constructs a TaskList object from an existing list of tasks, which must not be changed afterwards.
      */
     public TaskList(ArrayList<Task> taskList) {
         this.taskList = taskList;
@@ -50,20 +59,40 @@ public class TaskList {
 
     /**
      * Returns the taskList with {@code ArrayList<Task>} type. Primarily for JSON purposes.
+     * The list must not be changed.
      */
     public ArrayList<Task> getArrayListTaskList() {
         return taskList;
     }
 
-    public void addTask(Task task) {
-        taskList.add(task);
+    /**
+     * Returns a copy of this task list with {@code task} added at the end.
+     */
+    public TaskList withTask(Task task) {
+        requireNonNull(task);
+        ArrayList<Task> tasks = new ArrayList<>(taskList.size() + 1);
+        tasks.addAll(taskList);
+        tasks.add(task);
+        return new TaskList(tasks);
+    }
+
+    /**
+     * Returns a copy of this task list without the task at {@code index}.
+     */
+    public TaskList withoutTask(int index) {
+        ArrayList<Task> tasks = new ArrayList<>(taskList);
+        tasks.remove(index);
+        return new TaskList(tasks);
     }
 
     /**
-     * Deletes a task from the task list based on the index.
+     * Returns a copy of this task list in which the task at {@code index} is due on {@code deadline}.
      */
-    public void deleteTask(int index) {
-        taskList.remove(index);
+    public TaskList withDeadline(int index, Deadline deadline) {
+        requireNonNull(deadline);
+        ArrayList<Task> tasks = new ArrayList<>(taskList);
+        tasks.set(index, tasks.get(index).withDeadline(deadline));
+        return new TaskList(tasks);
     }
 
     public Task getTask(int index) {
@@ -71,21 +100,28 @@ public class TaskList {
     }
 
     /**
-     * Returns the size of the task list.
+     * Returns the {@link Deadline#toEpochDay() epoch day} of the earliest deadline of the tasks, or
+     * {@code Long.MAX_VALUE} if no task has a deadline.
      */
-    public int getTaskListSize() {
-        return taskList.size();
+    public long getEarliestDeadlineEpochDay() {
+        if (earliestDeadlineEpochDay == UNKNOWN_EPOCH_DAY) {
+            long earliest = Long.MAX_VALUE;
+            for (Task task : taskList) {
+                Deadline deadline = task.getDeadline();
+                if (deadline != null) {
+                    earliest = Math.min(earliest, deadline.toEpochDay());
+                }
+            }
+            earliestDeadlineEpochDay = earliest;
+        }
+        return earliestDeadlineEpochDay;
     }
 
     /**
-     * Returns a copy of the task list as a different TaskList.
+     * Returns the size of the task list.
      */
-    public TaskList copy() {
-        ArrayList<Task> copiedTaskList = new ArrayList<>();
-        for (Task task : taskList) {
-            copiedTaskList.add(task);
-        }
-        return new TaskList(copiedTaskList);
+    public int getTaskListSize() {
+        return taskList.size();
     }
 
     @Override
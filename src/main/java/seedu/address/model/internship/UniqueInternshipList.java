@@ -3,8 +3,10 @@ package seedu.address.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +21,11 @@ import seedu.address.model.internship.exceptions.InternshipNotFoundException;
  * UniqueInternshipList. However, the removal of a internship uses Internship#equals(Object),to
  * ensure that the internship with exactly the same fields will be removed.
  *
+ * The identities of all internships in the list are additionally indexed in a hash set that is kept in sync on
+ * every mutation, so that duplicate checks do not need to scan the list. The words in their searchable fields are
+ * likewise kept in an {@code InternshipTokenIndex}, the deadlines of their tasks in a {@code DeadlineIndex}, and
+ * their fields, for counting, in {@code InternshipColumns}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Internship#isSameInternship(Internship)
@@ -28,6 +35,10 @@ public class UniqueInternshipList implements Iterable<Internship> {
     private final ObservableList<Internship> internalList = FXCollections.observableArrayList();
     private final ObservableList<Internship> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<InternshipIdentity> identities = new HashSet<>();
+    private final InternshipTokenIndex tokenIndex = new InternshipTokenIndex();
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+    private final InternshipColumns columns = new InternshipColumns();
 
     /**
      * Returns true if the list contains an equivalent internship as the given argument.
@@ -35,7 +46,7 @@ public class UniqueInternshipList implements Iterable<Internship> {
      */
     public boolean contains(Internship toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameInternship);
+        return identities.contains(new InternshipIdentity(toCheck));
     }
 
     /**
@@ -47,9 +58,32 @@ public class UniqueInternshipList implements Iterable<Internship> {
         if (contains(toAdd)) {
             throw new DuplicateInternshipException();
         }
+        identities.add(new InternshipIdentity(toAdd));
+        tokenIndex.add(toAdd);
+        deadlineIndex.add(toAdd);
+        columns.add(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list, notifying listeners of the list of a single change.
+     * The internships must not already exist in the list, and must not be duplicates of each other.
+     */
+    public void addAll(List<Internship> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<InternshipIdentity> addedIdentities = indexUniqueInternships(toAdd);
+        if (addedIdentities == null || addedIdentities.stream().anyMatch(identities::contains)) {
+            throw new DuplicateInternshipException();
+        }
+        identities.addAll(addedIdentities);
+        for (Internship internship : toAdd) {
+            tokenIndex.add(internship);
+            deadlineIndex.add(internship);
+            columns.add(internship);
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the internship {@code target} in the list with {@code editedInternship}.
      * {@code target} must exist in the list.
@@ -68,6 +102,13 @@ public class UniqueInternshipList implements Iterable<Internship> {
             throw new DuplicateInternshipException();
         }
 
+        identities.remove(new InternshipIdentity(target));
+        identities.add(new InternshipIdentity(editedInternship));
+        tokenIndex.remove(internalList.get(index));
+        tokenIndex.add(editedInternship);
+        deadlineIndex.remove(internalList.get(index));
+        deadlineIndex.add(editedInternship);
+        columns.set(index, editedInternship);
         internalList.set(index, editedInternship);
     }
 
@@ -77,13 +118,28 @@ public class UniqueInternshipList implements Iterable<Internship> {
      */
     public void remove(Internship toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new InternshipNotFoundException();
         }
+        identities.remove(new InternshipIdentity(toRemove));
+        Internship removed = internalList.get(index);
+        tokenIndex.remove(removed);
+        deadlineIndex.remove(removed);
+        columns.remove(index);
+        internalList.remove(index);
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * The identities indexed by {@code replacement} are copied without checking its internships for duplicates again,
+     * as a {@code UniqueInternshipList} cannot hold duplicates.
+     */
     public void setInternships(UniqueInternshipList replacement) {
         requireNonNull(replacement);
+        identities.clear();
+        identities.addAll(replacement.identities);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -93,13 +149,52 @@ public class UniqueInternshipList implements Iterable<Internship> {
      */
     public void setInternships(List<Internship> internships) {
         requireAllNonNull(internships);
-        if (!internshipsAreUnique(internships)) {
+        Set<InternshipIdentity> replacementIdentities = indexUniqueInternships(internships);
+        if (replacementIdentities == null) {
             throw new DuplicateInternshipException();
         }
 
+        identities.clear();
+        identities.addAll(replacementIdentities);
+        rebuildIndexes(internships);
         internalList.setAll(internships);
     }
 
+    private void rebuildIndexes(List<Internship> internships) {
+        tokenIndex.clear();
+        deadlineIndex.clear();
+        columns.clear();
+        for (Internship internship : internships) {
+            tokenIndex.add(internship);
+            deadlineIndex.add(internship);
+            columns.add(internship);
+        }
+    }
+
+    /**
+     * Returns the index of the words in the internships of this list.
+     * The index is updated before listeners of this list are notified of a change.
+     */
+    public InternshipTokenIndex getTokenIndex() {
+        return tokenIndex;
+    }
+
+    /**
+     * Returns the index of the deadlines of the tasks of the internships in this list.
+     * The index is updated before listeners of this list are notified of a change.
+     */
+    public DeadlineIndex getDeadlineIndex() {
+        return deadlineIndex;
+    }
+
+    /**
+     * Returns the fields of the internships in this list, stored column by column.
+     * The columns are updated before listeners of this list are notified of a change.
+     */
+    public InternshipColumns getColumns() {
+        return columns;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -138,17 +233,17 @@ public class UniqueInternshipList implements Iterable<Internship> {
     }
 
     /**
-     * Returns true if {@code internships} contains only unique internships.
+     * Returns the set of identities of {@code internships}, or null if {@code internships} contains
+     * internships with the same identity.
      */
-    private boolean internshipsAreUnique(List<Internship> internships) {
-        for (int i = 0; i < internships.size() - 1; i++) {
-            for (int j = i + 1; j < internships.size(); j++) {
-                if (internships.get(i).isSameInternship(internships.get(j))) {
-                    return false;
-                }
+    private Set<InternshipIdentity> indexUniqueInternships(List<Internship> internships) {
+        Set<InternshipIdentity> seen = new HashSet<>();
+        for (Internship internship : internships) {
+            if (!seen.add(new InternshipIdentity(internship))) {
+                return null;
             }
         }
-        return true;
+        return seen;
     }
 
     /**
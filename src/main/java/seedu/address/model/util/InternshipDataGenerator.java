@@ -0,0 +1,229 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.InternshipData;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.ApplicationStatus;
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
+import seedu.address.model.internship.CompanyName;
+import seedu.address.model.internship.ContactEmail;
+import seedu.address.model.internship.ContactName;
+import seedu.address.model.internship.ContactNumber;
+import seedu.address.model.internship.Description;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Location;
+import seedu.address.model.internship.Location.LocationEnum;
+import seedu.address.model.internship.Remark;
+import seedu.address.model.internship.Role;
+import seedu.address.model.internship.Task;
+import seedu.address.model.internship.TaskList;
+
+/**
+ * Generates any number of distinct internships in the style of {@link InternshipSampleDataUtil}.
+ * Generators created with the same seed and base date generate the same internships.
+ *
+ * Companies are drawn from a long-tailed distribution, so that a few companies account for most applications,
+ * and statuses, locations, tasks and deadlines are drawn with weights resembling a real application season.
+ * Every internship is determined by its position in the sequence alone, so any part of a large data set can be
+ * generated, or regenerated, without generating the rest.
+ */
+public class InternshipDataGenerator {
+    /** The base date of generators that are not given one, so that their deadlines do not depend on today. */
+    public static final LocalDate DEFAULT_BASE_DATE = LocalDate.of(2024, 1, 1);
+
+    private static final String[] COMPANIES = {"Google", "Facebook", "Amazon", "Microsoft", "Apple", "Netflix",
+        "Tiktok", "Shopee", "Grab", "Stripe", "OpenAI", "Nvidia", "Salesforce", "Oracle", "Adobe", "Spotify"};
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Mark", "Alice", "Benson", "Carl", "Daniel",
+        "Elle", "Fiona", "George", "Hoon", "Ida", "Wei Ming", "Priya", "Ahmad", "Siti"};
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Johnson", "Pauline", "Meier", "Kurz", "Tan",
+        "Lim", "Kunz", "Best", "Mueller", "Wong", "Kumar", "Rahman", "Ng", "Lee"};
+    private static final String[] AREAS = {"Software Engineering", "Product Management", "Business Development",
+        "Data Science", "Machine Learning", "Site Reliability", "Security", "Design", "Marketing", "Finance"};
+    private static final String[] ROLES = {"Software Engineer", "Product Manager", "Business Development Associate",
+        "Data Scientist", "Machine Learning Engineer", "Site Reliability Engineer", "Security Analyst",
+        "UX Designer", "Marketing Associate", "Financial Analyst"};
+    private static final String[] REMARKS = {"", "", "", "Referred by a friend", "OA due tomorrow!",
+        "Has a behavioural interview", "Follow up next week"};
+    private static final String[] TASKS = {"Submit resume", "Complete online assessment", "Prepare for interview",
+        "Send thank you email", "Follow up with recruiter", "Sign offer letter", "Submit transcript"};
+
+    private static final StatusEnum[] STATUSES = StatusEnum.values();
+    private static final LocationEnum[] LOCATIONS = LocationEnum.values();
+
+    private static final double[] COMPANY_WEIGHTS = getLongTailedWeights(COMPANIES.length);
+    // TO_APPLY, PENDING, REJECTED, ACCEPTED, ONGOING
+    private static final double[] STATUS_WEIGHTS = getCumulativeWeights(20, 35, 30, 5, 10);
+    // LOCAL, OVERSEAS, REMOTE, UNKNOWN
+    private static final double[] LOCATION_WEIGHTS = getCumulativeWeights(55, 15, 25, 5);
+    // 0 to 4 tasks
+    private static final double[] TASK_COUNT_WEIGHTS = getCumulativeWeights(35, 30, 20, 10, 5);
+
+    private static final double DEADLINE_PROBABILITY = 0.6;
+    private static final int EARLIEST_DEADLINE_DAYS = -30;
+    private static final int LATEST_DEADLINE_DAYS = 120;
+    private static final DateTimeFormatter DEADLINE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final LocalDate baseDate;
+    private int count;
+
+    /**
+     * Creates a {@code InternshipDataGenerator} that generates internships determined by {@code seed}, with
+     * deadlines around {@link #DEFAULT_BASE_DATE}.
+     */
+    public InternshipDataGenerator(long seed) {
+        this(seed, DEFAULT_BASE_DATE);
+    }
+
+    /**
+     * Creates a {@code InternshipDataGenerator} that generates internships determined by {@code seed}, with
+     * deadlines around {@code baseDate}.
+     */
+    public InternshipDataGenerator(long seed, LocalDate baseDate) {
+        requireNonNull(baseDate);
+        this.seed = seed;
+        this.baseDate = baseDate;
+    }
+
+    /**
+     * Returns the next internship. Its identity differs from that of every internship generated before it.
+     */
+    public Internship next() {
+        return getInternship(count++);
+    }
+
+    /**
+     * Returns the next {@code count} internships.
+     */
+    public List<Internship> generate(int count) {
+        List<Internship> internships = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            internships.add(next());
+        }
+        return internships;
+    }
+
+    /**
+     * Returns an {@code InternshipData} holding the next {@code count} internships.
+     */
+    public InternshipData generateInternshipData(int count) {
+        InternshipData internshipData = new InternshipData();
+        internshipData.setInternships(generate(count));
+        return internshipData;
+    }
+
+    /**
+     * Returns the internship at {@code index} in the sequence of internships of this generator, regardless of how
+     * many internships have been generated. Internships at different indexes have different identities.
+     */
+    public Internship getInternship(int index) {
+        SplittableRandom random = new SplittableRandom(seed + GOLDEN_GAMMA * index);
+        String firstName = pick(FIRST_NAMES, random);
+        String lastName = pick(LAST_NAMES, random);
+        int area = random.nextInt(AREAS.length);
+        return new Internship(new CompanyName(pick(COMPANIES, COMPANY_WEIGHTS, random)),
+                new ContactName(firstName + " " + lastName),
+                new ContactEmail(toEmailName(firstName) + "." + toEmailName(lastName) + index + "@example.com"),
+                new ContactNumber(String.valueOf(80000000L + index)),
+                new Location(pick(LOCATIONS, LOCATION_WEIGHTS, random).toString()),
+                new ApplicationStatus(pick(STATUSES, STATUS_WEIGHTS, random).toString()),
+                new Description(AREAS[area] + " Internship"),
+                new Role(ROLES[area]),
+                new Remark(pick(REMARKS, random)),
+                generateTaskList(random));
+    }
+
+    /**
+     * Returns a {@code ReadOnlyInternshipData} holding the first {@code count} internships of this generator.
+     * Each internship is generated whenever it is read, so that the data can be saved to storage without holding
+     * all the internships in memory.
+     */
+    public ReadOnlyInternshipData asInternshipData(int count) {
+        ObservableList<Internship> internships = new ObservableListBase<>() {
+            @Override
+            public Internship get(int index) {
+                if (index < 0 || index >= count) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return getInternship(index);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+        return () -> internships;
+    }
+
+    private TaskList generateTaskList(SplittableRandom random) {
+        int taskCount = pickIndex(TASK_COUNT_WEIGHTS, random);
+        ArrayList<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            String task = pick(TASKS, random);
+            if (random.nextDouble() < DEADLINE_PROBABILITY) {
+                LocalDate deadline = baseDate.plusDays(
+                        random.nextInt(EARLIEST_DEADLINE_DAYS, LATEST_DEADLINE_DAYS + 1));
+                tasks.add(new Task(task, deadline.format(DEADLINE_FORMATTER)));
+            } else {
+                tasks.add(new Task(task));
+            }
+        }
+        return new TaskList(tasks);
+    }
+
+    private static <T> T pick(T[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static <T> T pick(T[] values, double[] cumulativeWeights, SplittableRandom random) {
+        return values[pickIndex(cumulativeWeights, random)];
+    }
+
+    /**
+     * Returns an index drawn with the probabilities given by {@code cumulativeWeights}, which end with 1.
+     */
+    private static int pickIndex(double[] cumulativeWeights, SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index + 1, cumulativeWeights.length - 1);
+    }
+
+    private static double[] getCumulativeWeights(double... weights) {
+        double total = Arrays.stream(weights).sum();
+        double[] cumulativeWeights = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulativeWeights[i] = sum / total;
+        }
+        return cumulativeWeights;
+    }
+
+    /**
+     * Returns cumulative weights in which the value at rank {@code r} is {@code r + 1} times less likely than the
+     * most likely value.
+     */
+    private static double[] getLongTailedWeights(int size) {
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1.0 / (i + 1);
+        }
+        return getCumulativeWeights(weights);
+    }
+
+    private static String toEmailName(String name) {
+        return name.replace(" ", "").toLowerCase();
+    }
+}
@@ -0,0 +1,382 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
+import seedu.address.model.internship.Deadline;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Location.LocationEnum;
+import seedu.address.model.internship.Task;
+
+/**
+ * A class to access InternshipData data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a header and a dictionary of every distinct string in the data, followed by one
+ * length-prefixed record per internship. Records refer to strings by their dictionary index and store the
+ * application status and location as enum ordinals, so repeated company names, contacts and deadlines are
+ * stored once. All integers are unsigned variable-length quantities.
+ *
+ * The data can be imported from and exported to the json format used by {@link JsonInternshipDataStorage}.
+ */
+public class BinaryInternshipDataStorage implements InternshipDataStorage {
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_INVALID_FILE = "Not an internship data binary file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported internship data binary file version: %d";
+    public static final String MESSAGE_CORRUPT_RECORD = "Internship record %d is corrupt";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryInternshipDataStorage.class);
+
+    private static final int MAGIC = 0x43534944; // "CSID"
+    private static final int FORMAT_VERSION = 1;
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final StatusEnum[] STATUSES = StatusEnum.values();
+    private static final LocationEnum[] LOCATIONS = LocationEnum.values();
+
+    private final Path filePath;
+    private final ChecksummedDataFile checksummedDataFile;
+
+    /**
+     * Creates a {@code BinaryInternshipDataStorage} at {@code filePath}.
+     */
+    public BinaryInternshipDataStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.checksummedDataFile = new ChecksummedDataFile(filePath);
+    }
+
+    /**
+     * Returns the path of the binary file that stands in for the json data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getInternshipDataFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInternshipData> readInternshipData() throws DataLoadingException {
+        return readInternshipData(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInternshipData()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyInternshipData> readInternshipData(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return getDataFile(filePath).read(this::readGeneration);
+    }
+
+    /**
+     * Reads the internships at {@code filePath}, a generation of the data file.
+     */
+    private Optional<ReadOnlyInternshipData> readGeneration(Path filePath) throws DataLoadingException {
+        try {
+            if (!Files.exists(filePath)) {
+                return Optional.empty();
+            }
+            logger.info("Binary file " + filePath + " found.");
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            return Optional.of(JsonSerializableInternshipData.toInternshipData(readInternships(buffer)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveInternshipData(ReadOnlyInternshipData internshipData) throws IOException {
+        saveInternshipData(internshipData, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInternshipData(ReadOnlyInternshipData)}.
+     * The file is replaced atomically and its previous version kept as a backup, see {@link ChecksummedDataFile}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath) throws IOException {
+        requireNonNull(internshipData);
+        requireNonNull(filePath);
+        getDataFile(filePath).write(out -> writeInternships(internshipData.getInternshipList(), out));
+    }
+
+    /**
+     * Returns the data file at {@code filePath}, which is that of this storage if the paths are the same, so that
+     * what it last wrote is known.
+     */
+    private ChecksummedDataFile getDataFile(Path filePath) {
+        return filePath.equals(this.filePath) ? checksummedDataFile : new ChecksummedDataFile(filePath);
+    }
+
+    /**
+     * Replaces the data in this storage with the data in the json file at {@code jsonFilePath}.
+     *
+     * @return false if there is no json file at {@code jsonFilePath}.
+     * @throws DataLoadingException if the json file could not be loaded.
+     * @throws IOException if there was any problem writing to the binary file.
+     */
+    public boolean importFromJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<ReadOnlyInternshipData> internshipData =
+                new JsonInternshipDataStorage(jsonFilePath, true).readInternshipData();
+        if (!internshipData.isPresent()) {
+            return false;
+        }
+        saveInternshipData(internshipData.get());
+        logger.info("Imported " + jsonFilePath + " into " + filePath);
+        return true;
+    }
+
+    /**
+     * Writes the data in this storage to the json file at {@code jsonFilePath}.
+     *
+     * @return false if there is no data to export.
+     * @throws DataLoadingException if the data in this storage could not be loaded.
+     * @throws IOException if there was any problem writing to the json file.
+     */
+    public boolean exportToJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<ReadOnlyInternshipData> internshipData = readInternshipData();
+        if (!internshipData.isPresent()) {
+            return false;
+        }
+        new JsonInternshipDataStorage(jsonFilePath, true).saveInternshipData(internshipData.get(), jsonFilePath);
+        logger.info("Exported " + filePath + " to " + jsonFilePath);
+        return true;
+    }
+
+    //=========== Writing ==================================================================================
+
+    private static void writeInternships(List<Internship> internships, OutputStream out) throws IOException {
+        StringDictionary dictionary = new StringDictionary();
+        for (Internship internship : internships) {
+            dictionary.addAll(internship);
+        }
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        writeFixedInt(header, MAGIC);
+        writeVarInt(header, FORMAT_VERSION);
+        writeVarInt(header, dictionary.strings.size());
+        for (String string : dictionary.strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(header, bytes.length);
+            header.write(bytes);
+        }
+        writeVarInt(header, internships.size());
+        header.writeTo(out);
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        for (Internship internship : internships) {
+            record.reset();
+            writeRecord(record, internship, dictionary);
+            writeVarInt(out, record.size());
+            record.writeTo(out);
+        }
+    }
+
+    private static void writeRecord(OutputStream out, Internship internship, StringDictionary dictionary)
+            throws IOException {
+        writeVarInt(out, dictionary.indexOf(internship.getCompanyName().companyName));
+        writeVarInt(out, dictionary.indexOf(internship.getContactName().contactName));
+        writeVarInt(out, dictionary.indexOf(internship.getContactEmail().value));
+        writeVarInt(out, dictionary.indexOf(internship.getContactNumber().value));
+        writeVarInt(out, internship.getLocation().getLocation().ordinal());
+        writeVarInt(out, internship.getApplicationStatus().getStatus().ordinal());
+        writeVarInt(out, dictionary.indexOf(internship.getDescription().description));
+        writeVarInt(out, dictionary.indexOf(internship.getRole().role));
+        writeVarInt(out, dictionary.indexOf(internship.getRemark().value));
+
+        List<Task> tasks = internship.getTaskList().getArrayListTaskList();
+        writeVarInt(out, tasks.size());
+        for (Task task : tasks) {
+            writeVarInt(out, dictionary.indexOf(task.task));
+            // 0 marks a task without deadline, otherwise the dictionary index of the deadline plus one
+            Deadline deadline = task.getDeadline();
+            writeVarInt(out, deadline == null ? 0 : dictionary.indexOf(deadline.deadline) + 1);
+        }
+    }
+
+    private static void writeFixedInt(OutputStream out, int value) throws IOException {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    //=========== Reading ==================================================================================
+
+    private static List<Internship> readInternships(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException(MESSAGE_INVALID_FILE);
+            }
+            int version = readVarInt(buffer);
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] dictionary = new String[readCount(buffer)];
+            byte[] bytes = new byte[256];
+            for (int i = 0; i < dictionary.length; i++) {
+                int length = readCount(buffer);
+                if (bytes.length < length) {
+                    bytes = new byte[Math.max(length, bytes.length * 2)];
+                }
+                buffer.get(bytes, 0, length);
+                dictionary[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+
+            int internshipCount = readCount(buffer);
+            List<Internship> internships = new ArrayList<>(internshipCount);
+            for (int i = 0; i < internshipCount; i++) {
+                int length = readCount(buffer);
+                int end = buffer.position() + length;
+                internships.add(readRecord(buffer, dictionary));
+                if (buffer.position() != end) {
+                    throw new IOException(String.format(MESSAGE_CORRUPT_RECORD, i));
+                }
+            }
+            return internships;
+        } catch (RuntimeException e) {
+            // A corrupt file can fail in many ways while it is decoded, but must never stop the app from starting
+            throw new IOException(MESSAGE_INVALID_FILE, e);
+        }
+    }
+
+    private static Internship readRecord(ByteBuffer buffer, String[] dictionary)
+            throws IOException, IllegalValueException {
+        String companyName = dictionary[readVarInt(buffer)];
+        String contactName = dictionary[readVarInt(buffer)];
+        String contactEmail = dictionary[readVarInt(buffer)];
+        String contactNumber = dictionary[readVarInt(buffer)];
+        String location = LOCATIONS[readVarInt(buffer)].toString();
+        String applicationStatus = STATUSES[readVarInt(buffer)].toString();
+        String description = dictionary[readVarInt(buffer)];
+        String role = dictionary[readVarInt(buffer)];
+        String remark = dictionary[readVarInt(buffer)];
+
+        int taskCount = readCount(buffer);
+        ArrayList<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            String task = dictionary[readVarInt(buffer)];
+            int deadlineIndex = readVarInt(buffer);
+            if (!Task.isValidTask(task)) {
+                throw new IllegalValueException(Task.MESSAGE_CONSTRAINTS);
+            }
+            if (deadlineIndex == 0) {
+                tasks.add(Task.ofValidated(task));
+                continue;
+            }
+            String deadline = dictionary[deadlineIndex - 1];
+            if (!Deadline.isValidDeadline(deadline)) {
+                throw new IllegalValueException(Deadline.MESSAGE_CONSTRAINTS);
+            }
+            tasks.add(new Task(task, deadline));
+        }
+
+        return new JsonAdaptedInternship(companyName, contactName, contactEmail, contactNumber, location,
+                applicationStatus, description, role, remark, tasks).toModelType();
+    }
+
+    /**
+     * Reads a count of items or bytes that follow in {@code buffer}. Every item takes at least one byte, so a count
+     * that is negative or larger than the bytes remaining can only come from a corrupt file.
+     */
+    private static int readCount(ByteBuffer buffer) throws IOException {
+        int count = readVarInt(buffer);
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException(MESSAGE_INVALID_FILE);
+        }
+        return count;
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException();
+    }
+
+    /**
+     * The distinct strings of a data set, in order of first appearance.
+     */
+    private static class StringDictionary {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        void addAll(Internship internship) {
+            add(internship.getCompanyName().companyName);
+            add(internship.getContactName().contactName);
+            add(internship.getContactEmail().value);
+            add(internship.getContactNumber().value);
+            add(internship.getDescription().description);
+            add(internship.getRole().role);
+            add(internship.getRemark().value);
+            for (Task task : internship.getTaskList().getArrayListTaskList()) {
+                add(task.task);
+                if (task.getDeadline() != null) {
+                    add(task.getDeadline().deadline);
+                }
+            }
+        }
+
+        private void add(String string) {
+            if (!indexes.containsKey(string)) {
+                indexes.put(string, strings.size());
+                strings.add(string);
+            }
+        }
+
+        int indexOf(String string) {
+            return indexes.get(string);
+        }
+    }
+}
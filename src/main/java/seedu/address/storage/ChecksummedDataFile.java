@@ -0,0 +1,219 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.StreamWriter;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A data file that is replaced atomically on every write and keeps its previous generation as a backup.
+ *
+ * The checksums of the current and previous generations are kept in a sidecar file, so that a corrupt data file
+ * can be detected and the previous generation read instead. A data file that does not pass its checksum is still read
+ * first, with a warning, as it may have been edited by hand; the backup is only read if the data file cannot be.
+ * Files without a sidecar are trusted as they are.
+ */
+public class ChecksummedDataFile {
+    private static final Logger logger = LogsCenter.getLogger(ChecksummedDataFile.class);
+
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final String CHECKSUM_FILE_SUFFIX = ".crc";
+
+    /**
+     * Reads a generation of the data file.
+     */
+    @FunctionalInterface
+    public interface GenerationReader<T> {
+        T read(Path filePath) throws DataLoadingException;
+    }
+
+    private final Path filePath;
+    private final Path backupFilePath;
+    private final Path checksumFilePath;
+
+    // the data file as it was last written by this instance, so that it is only checksummed again if it was changed
+    private volatile WrittenFile lastWrittenFile;
+
+    /**
+     * Creates a {@code ChecksummedDataFile} for the data file at {@code filePath}.
+     */
+    public ChecksummedDataFile(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.backupFilePath = filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+        this.checksumFilePath = filePath.resolveSibling(filePath.getFileName() + CHECKSUM_FILE_SUFFIX);
+    }
+
+    public Path getBackupFilePath() {
+        return backupFilePath;
+    }
+
+    public Path getChecksumFilePath() {
+        return checksumFilePath;
+    }
+
+    /**
+     * Replaces the data file with the content produced by {@code writer}. The content is first written and forced to
+     * a temporary file, and its checksum recorded, before the current data file is moved to the backup and the
+     * temporary file moved in its place, and the directory forced. A crash at any point leaves a data file or backup
+     * that passes its checksum.
+     */
+    public void write(StreamWriter writer) throws IOException {
+        requireNonNull(writer);
+        CRC32 crc = new CRC32();
+        Path tempFilePath = FileUtil.writeToTempFile(filePath, out -> {
+            CheckedOutputStream checkedOut = new CheckedOutputStream(out, crc);
+            writer.writeTo(checkedOut);
+            checkedOut.flush();
+        });
+        try {
+            List<Long> checksums = new ArrayList<>();
+            checksums.add(crc.getValue());
+            boolean isFileExisting = Files.exists(filePath);
+            if (isFileExisting) {
+                checksums.add(getCurrentChecksum());
+            }
+            FileUtil.writeToFile(checksumFilePath, JsonUtil.toJsonString(new JsonAdaptedChecksums(checksums)));
+
+            if (isFileExisting) {
+                FileUtil.moveAtomically(filePath, backupFilePath);
+            }
+            FileUtil.moveAtomically(tempFilePath, filePath);
+            FileUtil.forceParentDirectory(filePath);
+            lastWrittenFile = new WrittenFile(crc.getValue(),
+                    Files.readAttributes(filePath, BasicFileAttributes.class));
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+    }
+
+    /**
+     * Returns the checksum of the data file, which must exist. The checksum of the last write is used if the file
+     * still has the size and modification time it was written with; otherwise the file is checksummed as it is, as it
+     * may have been edited by hand since it was written.
+     */
+    private long getCurrentChecksum() throws IOException {
+        WrittenFile written = lastWrittenFile;
+        if (written != null && written.isUnchanged(Files.readAttributes(filePath, BasicFileAttributes.class))) {
+            return written.checksum;
+        }
+        return FileUtil.computeChecksum(filePath);
+    }
+
+    /**
+     * Reads the data file with {@code reader}, or the backup if the data file cannot be read and the backup passes its
+     * checksum. A data file that is missing, or does not pass its checksum, is only read if there is no such backup.
+     *
+     * @throws DataLoadingException if the checksums cannot be verified, or no generation can be read.
+     */
+    public <T> T read(GenerationReader<T> reader) throws DataLoadingException {
+        requireNonNull(reader);
+        List<Path> filePaths;
+        try {
+            filePaths = getReadableFilePaths();
+        } catch (IOException e) {
+            logger.warning("Error verifying data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        for (int i = 0; i < filePaths.size() - 1; i++) {
+            try {
+                return reader.read(filePaths.get(i));
+            } catch (DataLoadingException e) {
+                logger.warning("Could not read " + filePaths.get(i) + ", reading " + filePaths.get(i + 1)
+                        + " instead: " + e.getMessage());
+            }
+        }
+        return reader.read(filePaths.get(filePaths.size() - 1));
+    }
+
+    /**
+     * Returns the paths of the generations that can be read, in the order they should be tried: the data file if it
+     * exists or there is no valid backup, then the backup if it passes its checksum and the data file does not.
+     */
+    List<Path> getReadableFilePaths() throws IOException {
+        if (!Files.exists(checksumFilePath)) {
+            return List.of(filePath);
+        }
+        List<Long> checksums = readChecksums();
+        boolean isFileExisting = Files.exists(filePath);
+        if (isFileExisting && checksums.contains(FileUtil.computeChecksum(filePath))) {
+            return List.of(filePath);
+        }
+        boolean isBackupValid = Files.exists(backupFilePath)
+                && checksums.contains(FileUtil.computeChecksum(backupFilePath));
+        if (isFileExisting) {
+            logger.warning("Data file " + filePath + " does not match its checksum. "
+                    + "It may have been edited by hand, so it is still read.");
+            return isBackupValid ? List.of(filePath, backupFilePath) : List.of(filePath);
+        }
+        if (isBackupValid) {
+            logger.warning("Data file " + filePath + " is missing, using backup " + backupFilePath);
+            return List.of(backupFilePath);
+        }
+        return List.of(filePath);
+    }
+
+    private List<Long> readChecksums() throws IOException {
+        try {
+            return JsonUtil.fromJsonString(FileUtil.readFromFile(checksumFilePath), JsonAdaptedChecksums.class)
+                    .getChecksums();
+        } catch (IOException e) {
+            logger.warning("Could not read checksum file " + checksumFilePath + ": " + e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * The checksum, size and modification time of the data file when it was written.
+     */
+    private static class WrittenFile {
+        private final long checksum;
+        private final long size;
+        private final FileTime lastModifiedTime;
+
+        WrittenFile(long checksum, BasicFileAttributes attributes) {
+            this.checksum = checksum;
+            this.size = attributes.size();
+            this.lastModifiedTime = attributes.lastModifiedTime();
+        }
+
+        boolean isUnchanged(BasicFileAttributes attributes) {
+            return attributes.size() == size && attributes.lastModifiedTime().equals(lastModifiedTime);
+        }
+    }
+
+    /**
+     * Jackson-friendly version of the checksums of the current and previous generations.
+     */
+    private static class JsonAdaptedChecksums {
+        private final List<Long> checksums = new ArrayList<>();
+
+        @JsonCreator
+        JsonAdaptedChecksums(@JsonProperty("checksums") List<Long> checksums) {
+            if (checksums != null) {
+                this.checksums.addAll(checksums);
+            }
+        }
+
+        List<Long> getChecksums() {
+            return checksums;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.InternshipData;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.util.InternshipSampleDataUtil;
+
+/**
+ * Loads the internship data from an {@code InternshipStorage} into an {@code InternshipModel} without blocking the
+ * thread that owns the model, so that the UI can be shown before the data is loaded.
+ *
+ * The data file is read on a background thread. Its internships are then added to the model in batches of
+ * {@code batchSize}, each batch in a separate task given to {@code modelExecutor}, so that the model's thread can
+ * handle other events, such as redrawing the UI, between batches.
+ *
+ * Except for {@link #start()}, the methods of this class must be called on the thread of {@code modelExecutor}.
+ * The handlers are also called on that thread.
+ */
+public class InternshipDataLoader {
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(InternshipDataLoader.class);
+
+    private final InternshipStorage storage;
+    private final InternshipModel model;
+    private final Executor modelExecutor;
+    private final int batchSize;
+
+    private final List<Runnable> loadedHandlers = new ArrayList<>();
+    private BiConsumer<Integer, Integer> progressHandler = (loadedCount, totalCount) -> {};
+    private boolean isLoading = true;
+
+    /**
+     * Creates an {@code InternshipDataLoader} that adds the internship data in {@code storage} to {@code model},
+     * which should be empty, in batches of {@code batchSize} run by {@code modelExecutor}.
+     */
+    public InternshipDataLoader(InternshipStorage storage, InternshipModel model, Executor modelExecutor,
+                                int batchSize) {
+        requireNonNull(storage);
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.storage = storage;
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Starts reading the internship data on a background thread.
+     */
+    public void start() {
+        Thread thread = new Thread(this::load, "internship-data-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns true until every internship has been added to the model.
+     */
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    /**
+     * Sets the handler that is given the number of internships added to the model so far, and the total number of
+     * internships, after each batch is added.
+     */
+    public void setProgressHandler(BiConsumer<Integer, Integer> progressHandler) {
+        requireNonNull(progressHandler);
+        this.progressHandler = progressHandler;
+    }
+
+    /**
+     * Adds a handler that is called once every internship has been added to the model.
+     * The handler is called at once if that has already happened.
+     */
+    public void addLoadedHandler(Runnable loadedHandler) {
+        requireNonNull(loadedHandler);
+        if (!isLoading) {
+            loadedHandler.run();
+            return;
+        }
+        loadedHandlers.add(loadedHandler);
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        List<Internship> internships;
+        try {
+            internships = new ArrayList<>(readInternshipData(storage).getInternshipList());
+        } catch (RuntimeException e) {
+            // the model must still be marked as loaded, or commands would wait for it forever
+            logger.severe("Internship data could not be read: " + StringUtil.getDetails(e));
+            internships = List.of();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info(String.format("Read %d internships in %d ms", internships.size(), elapsedMillis));
+        List<Internship> readInternships = internships;
+        modelExecutor.execute(() -> addBatch(readInternships, 0));
+    }
+
+    /**
+     * Adds the batch of {@code internships} starting at {@code from} to the model, and schedules the next batch.
+     */
+    private void addBatch(List<Internship> internships, int from) {
+        int to = Math.min(from + batchSize, internships.size());
+        model.addInternships(internships.subList(from, to));
+        progressHandler.accept(to, internships.size());
+        if (to < internships.size()) {
+            modelExecutor.execute(() -> addBatch(internships, to));
+            return;
+        }
+        isLoading = false;
+        loadedHandlers.forEach(Runnable::run);
+        loadedHandlers.clear();
+    }
+
+    /**
+     * Returns the internship data in {@code storage}. <br>
+     * The sample internship data is returned instead if {@code storage}'s internship data is not found,
+     * or an empty internship data if errors occur when reading {@code storage}'s internship data.
+     */
+    public static ReadOnlyInternshipData readInternshipData(InternshipStorage storage) {
+        logger.info("Using data file : " + storage.getInternshipDataFilePath());
+
+        try {
+            Optional<ReadOnlyInternshipData> internshipDataOptional = storage.readInternshipData();
+            if (!internshipDataOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getInternshipDataFilePath()
+                        + " populated with a sample InternshipData.");
+            }
+            return internshipDataOptional.orElseGet(InternshipSampleDataUtil::getSampleInternshipData);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getInternshipDataFilePath() + " could not be loaded."
+                    + " Will be starting with an empty InternshipData.");
+            return new InternshipData();
+        }
+    }
+}
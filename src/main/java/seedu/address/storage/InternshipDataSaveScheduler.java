@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+
+/**
+ * Saves InternshipData to an {@code InternshipDataStorage} on a background thread.
+ * Save requests made within {@code delayMillis} of each other are coalesced, so that a burst of mutations
+ * results in a single write of the latest data.
+ */
+public class InternshipDataSaveScheduler {
+    public static final long DEFAULT_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(InternshipDataSaveScheduler.class);
+
+    private final InternshipDataStorage storage;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+    private final Object saveLock = new Object();
+
+    private Consumer<IOException> saveFailureHandler = unused -> {};
+    private LongConsumer saveTimeListener = unused -> {};
+
+    // Guarded by this
+    private ReadOnlyInternshipData pendingData;
+    private boolean isSaveScheduled;
+
+    /**
+     * Creates a {@code InternshipDataSaveScheduler} that saves to {@code storage} at most once every
+     * {@code delayMillis} milliseconds.
+     */
+    public InternshipDataSaveScheduler(InternshipDataStorage storage, long delayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "internship-data-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler to be called, on the saving thread, when a background save fails.
+     */
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Sets the listener to be called, on the saving thread, with the number of nanoseconds each successful save took.
+     */
+    public void setSaveTimeListener(LongConsumer saveTimeListener) {
+        requireNonNull(saveTimeListener);
+        this.saveTimeListener = saveTimeListener;
+    }
+
+    /**
+     * Schedules {@code internshipData} to be saved.
+     * A snapshot of {@code internshipData} is taken on the calling thread, so it may be modified afterwards.
+     */
+    public synchronized void requestSave(ReadOnlyInternshipData internshipData) {
+        requireNonNull(internshipData);
+        pendingData = new InternshipDataSnapshot(internshipData);
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            executor.schedule(this::savePendingDataInBackground, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves any pending data on the calling thread, waiting for an in-progress background save to finish first.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void flush() throws IOException {
+        savePendingData();
+    }
+
+    /**
+     * Saves any pending data and stops the background thread.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void shutdown() throws IOException {
+        executor.shutdown();
+        flush();
+    }
+
+    private void savePendingDataInBackground() {
+        try {
+            savePendingData();
+        } catch (IOException e) {
+            logger.warning("Failed to save internship data in background: " + StringUtil.getDetails(e));
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    private void savePendingData() throws IOException {
+        synchronized (saveLock) {
+            ReadOnlyInternshipData dataToSave;
+            synchronized (this) {
+                dataToSave = pendingData;
+                pendingData = null;
+                isSaveScheduled = false;
+            }
+            if (dataToSave != null) {
+                long start = System.nanoTime();
+                storage.saveInternshipData(dataToSave);
+                saveTimeListener.accept(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * A copy of the list of internships of an InternshipData, which is not affected by later changes to the original.
+     * The internships themselves are shared, as they are immutable, so only their references are copied.
+     */
+    private static class InternshipDataSnapshot implements ReadOnlyInternshipData {
+        private final ObservableList<Internship> internships;
+
+        InternshipDataSnapshot(ReadOnlyInternshipData source) {
+            internships = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getInternshipList()));
+        }
+
+        @Override
+        public ObservableList<Internship> getInternshipList() {
+            return internships;
+        }
+    }
+}
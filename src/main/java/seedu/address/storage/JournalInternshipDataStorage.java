@@ -0,0 +1,304 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.storage.JsonAdaptedJournalEntry.Operation;
+
+/**
+ * A class to access InternshipData data stored as a json snapshot plus an append-only journal of changes.
+ *
+ * Once {@link #track(ObservableList)} has been called with the internship list being saved, every change to that
+ * list is recorded as a single-line journal entry, and saving only appends the entries recorded since the last save.
+ * The journal is compacted into a new snapshot once it reaches {@code compactionThreshold} entries.
+ *
+ * The first line of the journal holds the checksum of the snapshot it applies to, so that a journal left over from
+ * an interrupted compaction is never replayed on top of the newer snapshot. A journal that belongs to neither the
+ * snapshot nor its backup, e.g. because the snapshot was edited by hand, is moved aside instead of being overwritten.
+ *
+ * Saving is expected to happen on the thread that changes the tracked list, right after the change.
+ */
+public class JournalInternshipDataStorage implements InternshipDataStorage {
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalInternshipDataStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String STALE_JOURNAL_FILE_SUFFIX = ".stale";
+
+    private final Path filePath;
+    private final JsonInternshipDataStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    // Guarded by this
+    private final List<String> pendingEntries = new ArrayList<>();
+    private ObservableList<Internship> trackedInternships;
+    private int journalLength;
+    private boolean isCompactionNeeded = true;
+
+    /**
+     * Creates a {@code JournalInternshipDataStorage} with its snapshot at {@code filePath}.
+     */
+    public JournalInternshipDataStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonInternshipDataStorage(filePath, true);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getInternshipDataFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Starts recording the changes made to {@code internships}, which should be the list that is saved through
+     * this storage. The next save writes a full snapshot.
+     */
+    public synchronized void track(ObservableList<Internship> internships) {
+        requireNonNull(internships);
+        trackedInternships = internships;
+        isCompactionNeeded = true;
+        pendingEntries.clear();
+        internships.addListener(this::recordChange);
+    }
+
+    private synchronized void recordChange(ListChangeListener.Change<? extends Internship> change) {
+        while (change.next()) {
+            if (isCompactionNeeded) {
+                continue;
+            }
+            if (change.wasPermutated() || change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+                // Bulk changes such as clearing the list are cheaper to save as a snapshot
+                requestCompaction();
+                continue;
+            }
+
+            int index = change.getFrom();
+            if (change.wasReplaced()) {
+                recordEntry(new JsonAdaptedJournalEntry(Operation.SET, index, change.getAddedSubList().get(0)));
+            } else if (change.wasRemoved()) {
+                recordEntry(new JsonAdaptedJournalEntry(index));
+            } else if (change.wasAdded()) {
+                recordEntry(new JsonAdaptedJournalEntry(Operation.ADD, index, change.getAddedSubList().get(0)));
+            }
+        }
+    }
+
+    private void recordEntry(JsonAdaptedJournalEntry entry) {
+        try {
+            pendingEntries.add(JsonUtil.toCompactJsonString(entry));
+        } catch (IOException e) {
+            logger.warning("Could not record journal entry, will save a snapshot instead: " + e);
+            requestCompaction();
+        }
+    }
+
+    private void requestCompaction() {
+        isCompactionNeeded = true;
+        pendingEntries.clear();
+    }
+
+    @Override
+    public Optional<ReadOnlyInternshipData> readInternshipData() throws DataLoadingException {
+        return readInternshipData(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays the journal next to it, if the journal belongs to it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyInternshipData> readInternshipData(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyInternshipData> snapshot = snapshotStorage.readInternshipData(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() || !Files.exists(journalPath)) {
+            return snapshot;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return snapshot;
+            }
+            long snapshotChecksum = JsonUtil.fromJsonString(headerLine, JsonAdaptedJournalHeader.class)
+                    .getSnapshotChecksum();
+            if (!isChecksumOf(filePath, snapshotChecksum)) {
+                reader.close();
+                ignoreJournal(journalPath, filePath, snapshotChecksum);
+                return snapshot;
+            }
+
+            List<Internship> internships = new ArrayList<>(snapshot.get().getInternshipList());
+            int replayedCount = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    if (nextLine != null) {
+                        throw e;
+                    }
+                    // Only the last entry can be incomplete, if the app stopped while appending it
+                    logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                    break;
+                }
+                entry.applyTo(internships);
+                replayedCount++;
+                line = nextLine;
+            }
+            logger.info("Replayed " + replayedCount + " journal entries from " + journalPath);
+            return Optional.of(JsonSerializableInternshipData.toInternshipData(internships));
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static boolean isChecksumOf(Path file, long checksum) throws IOException {
+        return Files.exists(file) && FileUtil.computeChecksum(file) == checksum;
+    }
+
+    /**
+     * Ignores the journal at {@code journalPath}, which does not belong to the snapshot at {@code filePath}.
+     * A journal of the backup of the snapshot is left over from an interrupted compaction, and its entries are already
+     * in the snapshot. Any other journal may hold changes that are in neither, so it is moved aside to be recovered by
+     * hand rather than overwritten at the next compaction.
+     */
+    private static void ignoreJournal(Path journalPath, Path filePath, long snapshotChecksum) {
+        try {
+            if (isChecksumOf(new ChecksummedDataFile(filePath).getBackupFilePath(), snapshotChecksum)) {
+                logger.info("Journal " + journalPath + " was already compacted into " + filePath + ", ignoring it.");
+                return;
+            }
+            Path staleJournalPath = journalPath.resolveSibling(journalPath.getFileName() + "."
+                    + System.currentTimeMillis() + STALE_JOURNAL_FILE_SUFFIX);
+            Files.move(journalPath, staleJournalPath);
+            logger.warning("Journal " + journalPath + " does not belong to " + filePath
+                    + ", which may have been edited by hand or read from its backup. Its changes are not applied, "
+                    + "and it was moved to " + staleJournalPath);
+        } catch (IOException e) {
+            logger.warning("Journal " + journalPath + " does not belong to " + filePath
+                    + " and could not be moved aside, its changes are not applied: " + e);
+        }
+    }
+
+    @Override
+    public void saveInternshipData(ReadOnlyInternshipData internshipData) throws IOException {
+        saveInternshipData(internshipData, filePath);
+    }
+
+    /**
+     * Saves {@code internshipData}. If it is the tracked data, only the changes recorded since the last save are
+     * appended to the journal. Otherwise, or if {@code filePath} is not the snapshot of this storage, a full snapshot
+     * is written instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath)
+            throws IOException {
+        requireNonNull(internshipData);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveInternshipData(internshipData, filePath);
+            return;
+        }
+
+        if (isCompactionNeeded || internshipData.getInternshipList() != trackedInternships
+                || journalLength + pendingEntries.size() > compactionThreshold) {
+            compact(internshipData);
+            return;
+        }
+
+        try {
+            appendToJournal(pendingEntries);
+        } catch (IOException e) {
+            // Some of the entries may have been appended, so they are saved in a snapshot rather than appended again
+            requestCompaction();
+            throw e;
+        }
+        journalLength += pendingEntries.size();
+        pendingEntries.clear();
+    }
+
+    /**
+     * Writes {@code internshipData} as the new snapshot and starts an empty journal for it.
+     */
+    private void compact(ReadOnlyInternshipData internshipData) throws IOException {
+        // The snapshot is replaced atomically
+        snapshotStorage.saveInternshipData(internshipData, filePath);
+
+        // A crash from here on leaves a journal whose header does not match the new snapshot, so it is ignored
+        String header = JsonUtil.toCompactJsonString(
+                new JsonAdaptedJournalHeader(FileUtil.computeChecksum(filePath)));
+        Path journalPath = getJournalFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeLine(channel, header);
+            channel.force(false);
+        }
+
+        journalLength = 0;
+        isCompactionNeeded = false;
+        pendingEntries.clear();
+        logger.fine("Compacted internship data journal into " + filePath);
+    }
+
+    private void appendToJournal(List<String> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            for (String entry : entries) {
+                writeLine(channel, entry);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static void writeLine(FileChannel channel, String line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -111,7 +111,7 @@ public class JsonAdaptedInternship {
         if (!CompanyName.isValidCompanyName(companyName)) {
             throw new IllegalValueException(CompanyName.MESSAGE_CONSTRAINTS);
         }
-        return new CompanyName(companyName);
+        return CompanyName.ofValidated(companyName);
     }
 
     private ContactName getValidContactName() throws IllegalValueException {
@@ -123,7 +123,7 @@ public class JsonAdaptedInternship {
         if (!ContactName.isValidContactName(contactName)) {
             throw new IllegalValueException(ContactName.MESSAGE_CONSTRAINTS);
         }
-        return new ContactName(contactName);
+        return ContactName.ofValidated(contactName);
     }
 
     private ContactEmail getValidContactEmail() throws IllegalValueException {
@@ -135,7 +135,7 @@ public class JsonAdaptedInternship {
         if (!ContactEmail.isValidContactEmail(contactEmail)) {
             throw new IllegalValueException(ContactEmail.MESSAGE_CONSTRAINTS);
         }
-        return new ContactEmail(contactEmail);
+        return ContactEmail.ofValidated(contactEmail);
     }
 
     private ContactNumber getValidContactNumber() throws IllegalValueException {
@@ -147,7 +147,7 @@ public class JsonAdaptedInternship {
         if (!ContactNumber.isValidContactNumber(contactNumber)) {
             throw new IllegalValueException(ContactNumber.MESSAGE_CONSTRAINTS);
         }
-        return new ContactNumber(contactNumber);
+        return ContactNumber.ofValidated(contactNumber);
     }
 
     private Location getValidLocation() throws IllegalValueException {
@@ -159,7 +159,7 @@ public class JsonAdaptedInternship {
         if (!Location.isValidLocation(location)) {
             throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
         }
-        return new Location(location);
+        return Location.of(location);
     }
 
     private ApplicationStatus getValidApplicationStatus() throws IllegalValueException {
@@ -171,7 +171,7 @@ public class JsonAdaptedInternship {
         if (!ApplicationStatus.isValidApplicationStatus(applicationStatus)) {
             throw new IllegalValueException(ApplicationStatus.MESSAGE_CONSTRAINTS);
         }
-        return new ApplicationStatus(applicationStatus);
+        return ApplicationStatus.of(applicationStatus);
     }
 
     private Description getValidDescription() throws IllegalValueException {
@@ -183,7 +183,7 @@ public class JsonAdaptedInternship {
         if (!Description.isValidDescription(description)) {
             throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
         }
-        return new Description(description);
+        return Description.ofValidated(description);
     }
 
     private Role getValidRole() throws IllegalValueException {
@@ -195,7 +195,7 @@ public class JsonAdaptedInternship {
         if (!Role.isValidRole(role)) {
             throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
         }
-        return new Role(role);
+        return Role.ofValidated(role);
     }
 
     private Remark getValidRemark() throws IllegalValueException {
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.internship.Internship;
+
+/**
+ * Converts {@code JsonAdaptedInternship}s into the model's {@code Internship}s, in chunks that are converted in
+ * parallel on a {@code ForkJoinPool}.
+ *
+ * Records can also be added one at a time through a {@code Conversion}, which submits each chunk as soon as it is
+ * full. Every record is converted even after one of them is found to be invalid, so that all the invalid records can
+ * be reported together. The converted internships, and the invalid records, are kept in the order of the records.
+ */
+public class JsonAdaptedInternshipConverter {
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+    public static final int MAX_REPORTED_RECORDS = 20;
+
+    public static final String MESSAGE_INVALID_RECORD = "Internship record %1$d: %2$s";
+    public static final String MESSAGE_MORE_INVALID_RECORDS = "... and %1$d more invalid internship record(s)";
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates a {@code JsonAdaptedInternshipConverter} that converts chunks of {@code DEFAULT_CHUNK_SIZE} records on
+     * the common {@code ForkJoinPool}.
+     */
+    public JsonAdaptedInternshipConverter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a {@code JsonAdaptedInternshipConverter} that converts chunks of {@code chunkSize} records on
+     * {@code pool}. The last chunk, including a list of at most {@code chunkSize} records, is converted on the calling
+     * thread.
+     */
+    public JsonAdaptedInternshipConverter(ForkJoinPool pool, int chunkSize) {
+        requireNonNull(pool);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Converts {@code records} into the model's {@code Internship}s, in the same order.
+     *
+     * @throws IllegalValueException if any record violates the data constraints. Its message lists the invalid
+     *     records, numbered from 1 in the order of {@code records}, up to {@code MAX_REPORTED_RECORDS} of them.
+     */
+    public List<Internship> convert(List<JsonAdaptedInternship> records) throws IllegalValueException {
+        requireNonNull(records);
+        Conversion conversion = startConversion();
+        records.forEach(conversion::add);
+        return conversion.finish();
+    }
+
+    /**
+     * Returns a {@code Conversion} that records can be added to one at a time, such as while they are read from a
+     * file.
+     */
+    public Conversion startConversion() {
+        return new Conversion();
+    }
+
+    /**
+     * A conversion of records that are added one at a time. Each chunk is submitted to the pool as soon as it is
+     * full, and its records are dropped once they are converted, so that the records of the whole file are not held
+     * at once. The last chunk is converted on the calling thread when the conversion is finished.
+     */
+    public class Conversion {
+        private final List<ForkJoinTask<ConvertedChunk>> submittedChunks = new ArrayList<>();
+        private List<JsonAdaptedInternship> chunk = new ArrayList<>();
+        private int chunkFrom;
+
+        private Conversion() {}
+
+        /**
+         * Adds {@code record} after the records that were added before.
+         */
+        public void add(JsonAdaptedInternship record) {
+            requireNonNull(record);
+            if (chunk.size() == chunkSize) {
+                submitChunk();
+            }
+            chunk.add(record);
+        }
+
+        private void submitChunk() {
+            List<JsonAdaptedInternship> records = chunk;
+            int from = chunkFrom;
+            // the records are counted before the task is submitted, as the task clears them
+            chunk = new ArrayList<>();
+            chunkFrom += records.size();
+            submittedChunks.add(pool.submit(() -> {
+                // the task keeps this lambda until it is joined, so the records are cleared once converted
+                ConvertedChunk convertedChunk = convertChunk(records, from);
+                records.clear();
+                return convertedChunk;
+            }));
+        }
+
+        /**
+         * Returns the model's {@code Internship}s converted from the records that were added, in the same order.
+         *
+         * @throws IllegalValueException if any record violates the data constraints. Its message lists the invalid
+         *     records, numbered from 1 in the order they were added, up to {@code MAX_REPORTED_RECORDS} of them.
+         */
+        public List<Internship> finish() throws IllegalValueException {
+            ConvertedChunk lastChunk = convertChunk(chunk, chunkFrom);
+            List<Internship> internships = new ArrayList<>(chunkFrom + chunk.size());
+            List<String> errors = new ArrayList<>();
+            // the chunks are joined in order, so the internships and errors stay in the order of the records
+            for (ForkJoinTask<ConvertedChunk> submittedChunk : submittedChunks) {
+                submittedChunk.join().addTo(internships, errors);
+            }
+            lastChunk.addTo(internships, errors);
+
+            if (!errors.isEmpty()) {
+                throw new IllegalValueException(formatErrors(errors));
+            }
+            return internships;
+        }
+    }
+
+    /**
+     * The internships converted from a chunk of records, and the errors of its invalid records.
+     */
+    private static class ConvertedChunk {
+        private final List<Internship> internships = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        private void addTo(List<Internship> internships, List<String> errors) {
+            internships.addAll(this.internships);
+            errors.addAll(this.errors);
+        }
+    }
+
+    /**
+     * Converts {@code records}, the chunk of records that starts at index {@code from}.
+     */
+    private static ConvertedChunk convertChunk(List<JsonAdaptedInternship> records, int from) {
+        ConvertedChunk convertedChunk = new ConvertedChunk();
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                convertedChunk.internships.add(records.get(i).toModelType());
+            } catch (IllegalValueException ive) {
+                convertedChunk.errors.add(String.format(MESSAGE_INVALID_RECORD, from + i + 1, ive.getMessage()));
+            }
+        }
+        return convertedChunk;
+    }
+
+    private static String formatErrors(List<String> errors) {
+        StringJoiner joiner = new StringJoiner("\n");
+        errors.stream().limit(MAX_REPORTED_RECORDS).forEach(joiner::add);
+        if (errors.size() > MAX_REPORTED_RECORDS) {
+            joiner.add(String.format(MESSAGE_MORE_INVALID_RECORDS, errors.size() - MAX_REPORTED_RECORDS));
+        }
+        return joiner.toString();
+    }
+}
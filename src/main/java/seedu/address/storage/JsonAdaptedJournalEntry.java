@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.internship.Internship;
+
+/**
+ * Jackson-friendly version of a single change to the internship list, as recorded in the journal.
+ */
+class JsonAdaptedJournalEntry {
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry's index %d is out of bounds!";
+
+    /**
+     * Enum of the changes that can be made to the internship list.
+     */
+    enum Operation {
+        ADD,
+        SET,
+        REMOVE
+    }
+
+    private final Operation operation;
+    private final int index;
+    private final JsonAdaptedInternship internship;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") Operation operation,
+                                   @JsonProperty("index") int index,
+                                   @JsonProperty("internship") JsonAdaptedInternship internship) {
+        this.operation = operation;
+        this.index = index;
+        this.internship = internship;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} for an {@code ADD} or {@code SET} of {@code internship}
+     * at {@code index}.
+     */
+    public JsonAdaptedJournalEntry(Operation operation, int index, Internship internship) {
+        this(operation, index, new JsonAdaptedInternship(requireNonNull(internship)));
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} for a {@code REMOVE} at {@code index}.
+     */
+    public JsonAdaptedJournalEntry(int index) {
+        this(Operation.REMOVE, index, (JsonAdaptedInternship) null);
+    }
+
+    /**
+     * Applies this change to {@code internships}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public void applyTo(List<Internship> internships) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        int upperBound = operation == Operation.ADD ? internships.size() : internships.size() - 1;
+        if (index < 0 || index > upperBound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index));
+        }
+
+        switch (operation) {
+        case ADD:
+            internships.add(index, getValidInternship());
+            break;
+        case SET:
+            internships.set(index, getValidInternship());
+            break;
+        case REMOVE:
+            internships.remove(index);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+    }
+
+    private Internship getValidInternship() throws IllegalValueException {
+        if (internship == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "internship"));
+        }
+        return internship.toModelType();
+    }
+}
@@ -2,35 +2,67 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
 
 /**
  * A class to access InternshipData data stored as a json file on the hard disk.
+ *
+ * In streaming mode, the internships are read and written one record at a time instead of binding the whole
+ * document in memory, so that peak memory use is bounded by a single record rather than by the file size.
+ * Both modes read and write the same file format.
  */
 public class JsonInternshipDataStorage implements InternshipDataStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonInternshipDataStorage.class);
 
+    private static final String INTERNSHIPS_FIELD = "internships";
+
     private Path filePath;
+    private final boolean isStreaming;
+    private final ChecksummedDataFile checksummedDataFile;
 
     public JsonInternshipDataStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonInternshipDataStorage} at {@code filePath}, reading and writing records one at a time
+     * if {@code isStreaming} is true.
+     */
+    public JsonInternshipDataStorage(Path filePath, boolean isStreaming) {
         this.filePath = filePath;
+        this.isStreaming = isStreaming;
+        this.checksummedDataFile = new ChecksummedDataFile(filePath);
     }
 
     public Path getInternshipDataFilePath() {
         return filePath;
     }
 
+    public boolean isStreaming() {
+        return isStreaming;
+    }
+
     @Override
     public Optional<ReadOnlyInternshipData> readInternshipData() throws DataLoadingException {
         return readInternshipData(filePath);
@@ -44,6 +76,17 @@ public class JsonInternshipDataStorage implements InternshipDataStorage {
      */
     public Optional<ReadOnlyInternshipData> readInternshipData(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return getDataFile(filePath).read(this::readGeneration);
+    }
+
+    /**
+     * Reads the internships at {@code filePath}, a generation of the data file.
+     */
+    private Optional<ReadOnlyInternshipData> readGeneration(Path filePath) throws DataLoadingException {
+        if (isStreaming) {
+            return readStreamedInternshipData(filePath);
+        }
+
         Optional<JsonSerializableInternshipData> jsonInternshipData = JsonUtil.readJsonFile(
                 filePath, JsonSerializableInternshipData.class);
         if (!jsonInternshipData.isPresent()) {
@@ -57,6 +100,43 @@ public class JsonInternshipDataStorage implements InternshipDataStorage {
         }
     }
 
+    /**
+     * Reads the internships at {@code filePath} one {@code JsonAdaptedInternship} at a time, converting each chunk of
+     * them in parallel as soon as it has been read.
+     */
+    private Optional<ReadOnlyInternshipData> readStreamedInternshipData(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        JsonAdaptedInternshipConverter.Conversion conversion = new JsonAdaptedInternshipConverter().startConversion();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+             JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!INTERNSHIPS_FIELD.equals(fieldName) || valueToken != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    conversion.add(parser.readValueAs(JsonAdaptedInternship.class));
+                }
+            }
+            return Optional.of(JsonSerializableInternshipData.toInternshipData(conversion.finish()));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
     /**
      * {inheritDoc InternshipDataStorage#saveInternshipData(ReadOnlyInternshipData)}
      */
@@ -67,13 +147,45 @@ public class JsonInternshipDataStorage implements InternshipDataStorage {
 
     /**
      * Similar to {@link #saveInternshipData(ReadOnlyInternshipData)}.
+     * The file is replaced atomically and its previous version kept as a backup, see {@link ChecksummedDataFile}.
      *
      * @param filePath location of the data. Cannot be null.
      */
     public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath) throws IOException {
         requireNonNull(internshipData);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableInternshipData(internshipData), filePath);
+        ChecksummedDataFile dataFile = getDataFile(filePath);
+        if (isStreaming) {
+            dataFile.write(out -> writeStreamedInternshipData(internshipData, out));
+            return;
+        }
+        String json = JsonUtil.toJsonString(new JsonSerializableInternshipData(internshipData));
+        dataFile.write(out -> out.write(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the data file at {@code filePath}, which is that of this storage if the paths are the same, so that
+     * what it last wrote is known.
+     */
+    private ChecksummedDataFile getDataFile(Path filePath) {
+        return filePath.equals(this.filePath) ? checksummedDataFile : new ChecksummedDataFile(filePath);
+    }
+
+    /**
+     * Writes the internships in {@code internshipData} to {@code out} one {@code JsonAdaptedInternship} at a time.
+     */
+    private void writeStreamedInternshipData(ReadOnlyInternshipData internshipData, OutputStream out)
+            throws IOException {
+        JsonGenerator generator = JsonUtil.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (generator) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(INTERNSHIPS_FIELD);
+            for (Internship internship : internshipData.getInternshipList()) {
+                generator.writeObject(new JsonAdaptedInternship(internship));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
     }
 }
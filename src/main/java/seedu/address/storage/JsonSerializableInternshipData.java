@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.InternshipData;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.exceptions.DuplicateInternshipException;
 
 /**
  * An Immutable InternshipData that is serializable to JSON format.
@@ -42,17 +43,26 @@ public class JsonSerializableInternshipData {
 
     /**
      * Converts this internshipdata into the model's {@code InternshipData} object.
+     * All internships are converted first, in parallel, and then handed to the model in a single bulk replacement,
+     * which also checks them for duplicates.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing every invalid internship.
      */
     public InternshipData toModelType() throws IllegalValueException {
+        return toInternshipData(new JsonAdaptedInternshipConverter().convert(internships));
+    }
+
+    /**
+     * Wraps the already converted {@code internships} into the model's {@code InternshipData} object.
+     *
+     * @throws IllegalValueException if {@code internships} contains duplicate internships.
+     */
+    static InternshipData toInternshipData(List<Internship> internships) throws IllegalValueException {
         InternshipData internshipData = new InternshipData();
-        for (JsonAdaptedInternship jsonAdaptedInternship : internships) {
-            Internship internship = jsonAdaptedInternship.toModelType();
-            if (internshipData.hasInternship(internship)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_INTERNSHIP);
-            }
-            internshipData.addInternship(internship);
+        try {
+            internshipData.setInternships(internships);
+        } catch (DuplicateInternshipException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_INTERNSHIP);
         }
         return internshipData;
     }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -18,6 +20,7 @@ import seedu.address.model.internship.TaskList;
 
 /**
  * A UI component that displays information of a {@code Internship}.
+ * A card can be reused to display other internships, so that list cells do not load a new card for every update.
  */
 public class DetailedInternshipCard extends UiPart<Region> {
 
@@ -55,12 +58,28 @@ public class DetailedInternshipCard extends UiPart<Region> {
     protected Label tasks;
 
     /**
-     * Creates a {@code InternshipCard} with the given {@code Internship}.
+     * Creates an empty {@code DetailedInternshipCard}, to be given an internship with
+     * {@link #setInternship(Internship)}.
      */
-    public DetailedInternshipCard(Internship internship) {
+    public DetailedInternshipCard() {
         super(FXML);
         setStyles(true, companyNameAndRole, status, description, loc,
                 cName, cEmail, cNum, remark, tasks);
+    }
+
+    /**
+     * Creates a {@code InternshipCard} with the given {@code Internship}.
+     */
+    public DetailedInternshipCard(Internship internship) {
+        this();
+        setInternship(internship);
+    }
+
+    /**
+     * Displays the given {@code Internship} on this card, in place of what it displayed before.
+     */
+    public void setInternship(Internship internship) {
+        requireNonNull(internship);
         setCompanyNameAndRoleLabel(internship.getCompanyName(), internship.getRole());
         setStatusLabel(internship.getApplicationStatus());
         setDescriptionLabel(internship.getDescription());
@@ -29,8 +29,11 @@ public class DetailedInternshipListPanel extends UiPart<Region> {
     }
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Internship} using a {@code InternshipCard}.
+     * Each cell creates its card once and reuses it for every internship the cell is given.
      */
     class InternshipListViewCell extends ListCell<Internship> {
+        private final DetailedInternshipCard detailedInternshipCard = new DetailedInternshipCard();
+
         @Override
         protected void updateItem(Internship internship, boolean empty) {
             super.updateItem(internship, empty);
@@ -39,7 +42,8 @@ public class DetailedInternshipListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DetailedInternshipCard(internship).getRoot());
+                detailedInternshipCard.setInternship(internship);
+                setGraphic(detailedInternshipCard.getRoot());
             }
         }
     }
@@ -47,8 +47,11 @@ public class InternshipListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Internship} using a {@code InternshipCard}.
+     * Each cell creates its card once and reuses it for every internship the cell is given.
      */
     class InternshipListViewCell extends ListCell<Internship> {
+        private final InternshipCard internshipCard = new InternshipCard();
+
         public InternshipListViewCell() {
             setOnMousePressed((MouseEvent event) -> {
                 lastSelectedInternship = getItem();
@@ -64,7 +67,8 @@ public class InternshipListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new InternshipCard(internship, getIndex() + 1).getRoot());
+                internshipCard.setInternship(internship, getIndex() + 1);
+                setGraphic(internshipCard.getRoot());
             }
         }
     }
@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,9 +19,11 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.InternshipLogic;
+import seedu.address.logic.InternshipMessages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.internship.DeadlineIndex;
 import seedu.address.model.internship.Internship;
 
 /**
@@ -27,6 +34,9 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
+    // The number of days ahead that the reminder shown at startup counts tasks as due soon
+    private static final int REMINDER_DAYS = 7;
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
@@ -37,6 +47,10 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private DetailedInternshipWindow detailedInternshipWindow;
+    private StatusBarFooter statusBarFooter;
+
+    // Commands entered while the internship data is being loaded, run in order once it has been loaded
+    private final List<String> queuedCommandTexts = new ArrayList<>();
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -152,14 +166,55 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getInternshipDataFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getInternshipDataFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setLoadingProgressHandler((loadedCount, totalCount) -> statusBarFooter.setLoadingStatus(
+                String.format(InternshipMessages.MESSAGE_LOADING_PROGRESS, loadedCount, totalCount)));
+        logic.setLoadedHandler(this::handleLoaded);
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows the reminder of the tasks due, and runs the commands entered while the internship data was being loaded.
+     */
+    private void handleLoaded() {
+        statusBarFooter.setLoadingStatus("");
+        showDeadlineReminder();
+        if (queuedCommandTexts.isEmpty()) {
+            return;
+        }
+
+        // the feedback of every queued command is shown, not only that of the last one
+        StringJoiner feedback = new StringJoiner("\n");
+        for (String commandText : queuedCommandTexts) {
+            try {
+                feedback.add(executeCommand(commandText).getFeedbackToUser());
+            } catch (CommandException | ParseException e) {
+                feedback.add(e.getMessage());
+            }
+        }
+        queuedCommandTexts.clear();
+        resultDisplay.setFeedbackToUser(feedback.toString());
+    }
+
+    /**
+     * Reminds the user of the tasks that are overdue or due soon, if there are any.
+     */
+    private void showDeadlineReminder() {
+        LocalDate today = LocalDate.now();
+        DeadlineIndex deadlineIndex = logic.getDeadlineIndex();
+        int dueSoonCount = deadlineIndex.countTasksDueBetween(today, today.plusDays(REMINDER_DAYS));
+        int overdueCount = deadlineIndex.countTasksDueBefore(today);
+        if (dueSoonCount > 0 || overdueCount > 0) {
+            resultDisplay.setFeedbackToUser(String.format(InternshipMessages.MESSAGE_DEADLINE_REMINDER,
+                    dueSoonCount, REMINDER_DAYS, overdueCount));
+        }
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -207,10 +262,18 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Executes the internship command and returns the result.
+     * While the internship data is being loaded, the command is queued to be executed once it has been loaded.
      *
      * @see seedu.address.logic.InternshipLogic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        if (logic.isLoading()) {
+            queuedCommandTexts.add(commandText);
+            String feedback = String.format(InternshipMessages.MESSAGE_COMMAND_QUEUED, commandText.trim());
+            resultDisplay.setFeedbackToUser(feedback);
+            return new CommandResult(feedback);
+        }
+
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
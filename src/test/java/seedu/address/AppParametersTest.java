@@ -39,10 +39,24 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_exitAfterStartup_success() {
+        parametersStub.namedParameters.put("exit-after-startup", "true");
+        expected.setExitAfterStartup(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidExitAfterStartup_doesNotExit() {
+        parametersStub.namedParameters.put("exit-after-startup", "yes please");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", isExitAfterStartup=" + appParameters.isExitAfterStartup() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +80,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different exit after startup -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setExitAfterStartup(true);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
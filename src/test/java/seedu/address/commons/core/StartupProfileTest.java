@@ -0,0 +1,69 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupProfileTest {
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private final AtomicLong nanoTime = new AtomicLong(5 * NANOS_PER_MILLI);
+    private final StartupProfile profile = new StartupProfile(nanoTime::get);
+
+    @Test
+    public void mark_nullPhase_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> profile.mark(null));
+    }
+
+    @Test
+    public void mark_phases_recordsTimeSincePreviousMark() {
+        advanceMillis(12);
+        profile.mark("config");
+        advanceMillis(3);
+        profile.mark("prefs");
+
+        Map<String, Long> phaseMillis = profile.getPhaseMillis();
+        assertEquals(List.of("config", "prefs"), List.copyOf(phaseMillis.keySet()));
+        assertEquals(12, phaseMillis.get("config"));
+        assertEquals(3, phaseMillis.get("prefs"));
+        assertEquals(15, profile.getTotalMillis());
+    }
+
+    @Test
+    public void mark_samePhaseAgain_addsTime() {
+        advanceMillis(2);
+        profile.mark("config");
+        advanceMillis(4);
+        profile.mark("prefs");
+        advanceMillis(1);
+        profile.mark("config");
+
+        assertEquals(Map.of("config", 3L, "prefs", 4L), profile.getPhaseMillis());
+    }
+
+    @Test
+    public void format() {
+        advanceMillis(12);
+        profile.mark("config");
+        advanceMillis(3);
+        profile.mark("prefs");
+        assertEquals("config=12ms prefs=3ms total=15ms", profile.format());
+    }
+
+    @Test
+    public void constructor_default_startsWithJvmPhase() {
+        StartupProfile defaultProfile = new StartupProfile();
+        if (ProcessHandle.current().info().startInstant().isPresent()) {
+            assertEquals(List.of(StartupProfile.JVM_PHASE), List.copyOf(defaultProfile.getPhaseMillis().keySet()));
+        }
+    }
+
+    private void advanceMillis(long millis) {
+        nanoTime.addAndGet(millis * NANOS_PER_MILLI);
+    }
+}
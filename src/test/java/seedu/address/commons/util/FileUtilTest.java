@@ -1,13 +1,29 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +36,59 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutTempFiles() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("file.txt");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_existingFile_keepsPermissions() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        assumeTrue(Files.getFileStore(testFolder).supportsFileAttributeView(PosixFileAttributeView.class));
+        FileUtil.writeToFile(file, "first");
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFile(file, "second");
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void forceParentDirectory_fileInDirectory_success() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        FileUtil.forceParentDirectory(file);
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToTempFile_writerFails_tempFileDeleted() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        assertThrows(IOException.class, () -> FileUtil.writeToTempFile(file, out -> {
+            out.write(1);
+            throw new IOException();
+        }));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void computeChecksum() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        long checksum = FileUtil.computeChecksum(file);
+        assertEquals(checksum, FileUtil.computeChecksum(file));
+
+        FileUtil.writeToFile(file, "contents");
+        assertNotEquals(checksum, FileUtil.computeChecksum(file));
+    }
+
 }
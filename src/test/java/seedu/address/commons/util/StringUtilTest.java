@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -123,6 +125,28 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsAnyWordIgnoreCase ----------------------------------
+
+    @Test
+    public void containsAnyWordIgnoreCase_validInputs_correctResult() {
+        // Empty sentence or no words
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("", new String[] {"abc"}));
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("    ", new String[] {"abc"}));
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bbb", new String[0]));
+
+        // Matches a partial word only
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bbb ccc", new String[] {"bb", "bbbb"}));
+
+        // Matches word in the sentence, different upper/lower case letters
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("aaa bBb ccc", new String[] {"Bbb"})); // middle word
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("aaa bBb ccc@1", new String[] {"CCc@1"})); // last word
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("  AAA   bBb   ccc  ", new String[] {"aaa"})); // spaces
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("aaa\tbbb\nccc", new String[] {"bbb"})); // other whitespace
+
+        // Matches any of multiple words
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("AAA bBb ccc", new String[] {"ddd", "ccc"}));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -140,4 +164,27 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_alreadyFolded_returnsSameInstance() {
+        String folded = "google 123";
+        assertSame(folded, StringUtil.foldCase(folded));
+    }
+
+    @Test
+    public void foldCase_mixedCase_ordersLikeCaseInsensitiveOrder() {
+        assertEquals("google", StringUtil.foldCase("GoOgLe"));
+        String[][] pairs = {{"Apple", "banana"}, {"a_b", "A[B"}, {"zeta", "ZETA"}, {"Stra\u00dfe", "strasse"}};
+        for (String[] pair : pairs) {
+            assertEquals(Integer.signum(String.CASE_INSENSITIVE_ORDER.compare(pair[0], pair[1])),
+                    Integer.signum(StringUtil.foldCase(pair[0]).compareTo(StringUtil.foldCase(pair[1]))));
+        }
+    }
+
 }
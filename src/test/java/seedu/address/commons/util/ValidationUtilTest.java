@@ -0,0 +1,68 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+    private static final List<String> INPUTS = List.of("", " ", "  ", "\t", "a", "Z", "0", "9", "ab cd", "a  b", " a",
+            "a ", "a\tb", "a\nb", "a\n", "\na", "a\rb", "a\u0085b", "a\u2028b", "a\u2029b", "a\u000Bb", "a\fb",
+            "\u000B", "\f", "\u00A0", "a\u00A0b", "\u00E9", "caf\u00E9", "a_b", "a-b", "1234567", "123456",
+            "12345678901", "123 4567", "+6512345", "\u0661\u0662\u0663\u0664\u0665\u0666\u0667", "\uFF11234567",
+            "LOCAL", "local", "LoCaL", "locale", "loca", "to_apply", "TO_APPLY", "to apply",
+            "pend\u0131ng", "PEND\u0130NG", "\u017Fix");
+
+    private enum Constant {
+        LOCAL,
+        TO_APPLY,
+        PENDING,
+        SIX
+    }
+
+    @Test
+    public void isAlphanumericWithSpaces_sameAsRegex() {
+        for (String input : INPUTS) {
+            assertEquals(input.matches("[\\p{Alnum}][\\p{Alnum} ]*"), ValidationUtil.isAlphanumericWithSpaces(input),
+                    input);
+        }
+    }
+
+    @Test
+    public void isNonBlankLine_sameAsRegex() {
+        for (String input : INPUTS) {
+            assertEquals(input.matches("^(?!\\s*$).+"), ValidationUtil.isNonBlankLine(input), input);
+        }
+    }
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        for (String input : INPUTS) {
+            assertEquals(input.matches("\\d{7,}"), ValidationUtil.isDigits(input, 7), input);
+            assertEquals(input.matches("\\d{0,}"), ValidationUtil.isDigits(input, 0), input);
+        }
+    }
+
+    @Test
+    public void findConstantIgnoreCase_sameAsRegex() {
+        for (String input : INPUTS) {
+            Constant constant = ValidationUtil.findConstantIgnoreCase(Constant.values(), input);
+            if (input.matches("(?i)local|to_apply|pending|six")) {
+                assertEquals(input.toUpperCase(), constant.name(), input);
+            } else {
+                assertNull(constant, input);
+            }
+        }
+    }
+
+    @Test
+    public void nullInput_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWithSpaces(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isNonBlankLine(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 7));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.findConstantIgnoreCase(Constant.values(), null));
+    }
+}
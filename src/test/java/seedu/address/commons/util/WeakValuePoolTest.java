@@ -0,0 +1,72 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakValuePoolTest {
+    private final WeakValuePool<String, StringBuilder> pool = new WeakValuePool<>();
+
+    @Test
+    public void get_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> pool.get(null, StringBuilder::new));
+        assertThrows(NullPointerException.class, () -> pool.get("key", null));
+    }
+
+    @Test
+    public void get_equalKeys_returnsSameValue() {
+        StringBuilder value = pool.get("key", StringBuilder::new);
+        assertSame(value, pool.get(new String("key"), key -> new StringBuilder("other")));
+        assertEquals("key", value.toString());
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void get_differentKeys_returnsDifferentValues() {
+        assertNotSame(pool.get("first", StringBuilder::new), pool.get("second", StringBuilder::new));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void get_manyThreads_createsOneValuePerKey() throws Exception {
+        int keyCount = 100;
+        AtomicInteger createdCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<StringBuilder>>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                results.add(executor.submit(() -> {
+                    List<StringBuilder> values = new ArrayList<>();
+                    for (int i = 0; i < keyCount; i++) {
+                        values.add(pool.get("key" + i, key -> {
+                            createdCount.incrementAndGet();
+                            return new StringBuilder(key);
+                        }));
+                    }
+                    return values;
+                }));
+            }
+
+            List<StringBuilder> firstValues = results.get(0).get();
+            for (Future<List<StringBuilder>> result : results) {
+                List<StringBuilder> values = result.get();
+                for (int i = 0; i < keyCount; i++) {
+                    assertSame(firstValues.get(i), values.get(i));
+                }
+            }
+            assertEquals(keyCount, createdCount.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -1,28 +1,48 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_INTERNSHIP_DISPLAYED_INDEX;
 import static seedu.address.logic.InternshipMessages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalInternships.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.InternshipAddCommand;
+import seedu.address.logic.commands.InternshipDeleteCommand;
+import seedu.address.logic.commands.InternshipGroupStatsCommand;
 import seedu.address.logic.commands.InternshipListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.CommandStatistics;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.InternshipData;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.InternshipModelManager;
 import seedu.address.model.InternshipUserPrefs;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.internship.Internship;
+import seedu.address.storage.InternshipDataLoader;
+import seedu.address.storage.InternshipDataSaveScheduler;
 import seedu.address.storage.InternshipStorageManager;
 import seedu.address.storage.JsonInternshipDataStorage;
 import seedu.address.storage.JsonInternshipUserPrefsStorage;
@@ -81,6 +101,120 @@ public class InternshipLogicManagerTest {
                 InternshipLogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_whileLoading_throwsCommandExceptionAndDoesNotSave() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        InternshipStorageManager storage = getCountingStorage(saveCount);
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        InternshipDataLoader dataLoader = new InternshipDataLoader(storage, model, modelTasks::add,
+                InternshipDataLoader.DEFAULT_BATCH_SIZE);
+        InternshipLogicManager logicManager = new InternshipLogicManager(model, storage);
+        logicManager.setDataLoader(dataLoader);
+        logic = logicManager;
+        AtomicInteger loadedCalls = new AtomicInteger();
+        logic.setLoadedHandler(loadedCalls::incrementAndGet);
+
+        dataLoader.start();
+        assertTrue(logic.isLoading());
+        assertCommandException(InternshipListCommand.COMMAND_WORD, InternshipMessages.MESSAGE_DATA_LOADING);
+        assertEquals(0, saveCount.get());
+
+        modelTasks.poll(10, TimeUnit.SECONDS).run();
+        assertFalse(logic.isLoading());
+        assertEquals(1, loadedCalls.get());
+        logic.execute(InternshipListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void setLoadedHandler_notLoading_runsAtOnce() {
+        AtomicInteger loadedCalls = new AtomicInteger();
+        assertFalse(logic.isLoading());
+        logic.setLoadedHandler(loadedCalls::incrementAndGet);
+        assertEquals(1, loadedCalls.get());
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterSave_doesNotSave() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        logic = new InternshipLogicManager(model, getCountingStorage(saveCount));
+
+        // the data is saved after the first command
+        logic.execute(InternshipListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount.get());
+
+        logic.execute(InternshipListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount.get());
+
+        logic.execute(InternshipUtil.getAddCommand(new InternshipBuilder(AMY).build()));
+        assertEquals(2, saveCount.get());
+    }
+
+    @Test
+    public void execute_withCommandMetrics_recordsEachCommand() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        logic = new InternshipLogicManager(model, getCountingStorage(new AtomicInteger()), null, commandMetrics);
+
+        logic.execute(InternshipUtil.getAddCommand(new InternshipBuilder(AMY).build()));
+        logic.execute(" " + InternshipListCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        logic.execute(InternshipGroupStatsCommand.COMMAND_WORD + " " + PREFIX_STATUS);
+
+        Map<String, CommandStatistics> statistics = commandMetrics.getStatistics();
+        assertEquals(1, statistics.get(InternshipAddCommand.COMMAND_WORD).getSaveNanos().getCount());
+        assertEquals(0, statistics.get(InternshipListCommand.COMMAND_WORD).getSaveNanos().getCount());
+        assertEquals(1, statistics.get(InternshipDeleteCommand.COMMAND_WORD).getFailedCount());
+        assertEquals(1, statistics.get(CommandMetrics.INVALID_COMMAND_WORD).getFailedCount());
+        assertEquals(Set.of(InternshipAddCommand.COMMAND_WORD, InternshipListCommand.COMMAND_WORD,
+                InternshipDeleteCommand.COMMAND_WORD, InternshipGroupStatsCommand.METRICS_COMMAND_WORD,
+                CommandMetrics.INVALID_COMMAND_WORD), statistics.keySet());
+    }
+
+    @Test
+    public void execute_withSaveScheduler_savesThroughScheduler() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        InternshipStorageManager storage = getCountingStorage(saveCount);
+        InternshipDataSaveScheduler saveScheduler = new InternshipDataSaveScheduler(storage, 60_000);
+        logic = new InternshipLogicManager(model, storage, saveScheduler);
+
+        logic.execute(InternshipUtil.getAddCommand(new InternshipBuilder(AMY).build()));
+        logic.execute(InternshipListCommand.COMMAND_WORD);
+        assertEquals(0, saveCount.get());
+
+        saveScheduler.shutdown();
+        assertEquals(1, saveCount.get());
+        assertEquals(model.getInternshipData(), new InternshipData(storage.readInternshipData().get()));
+    }
+
+    @Test
+    public void execute_withFailingSaveScheduler_failureReported() throws Exception {
+        Path prefPath = temporaryFolder.resolve("ExceptionInternshipUserPrefs.json");
+        JsonInternshipDataStorage internshipDataStorage = new JsonInternshipDataStorage(prefPath) {
+            @Override
+            public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath)
+                    throws IOException {
+                throw DUMMY_AD_EXCEPTION;
+            }
+        };
+        InternshipStorageManager storage = new InternshipStorageManager(internshipDataStorage,
+                new JsonInternshipUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        InternshipDataSaveScheduler saveScheduler = new InternshipDataSaveScheduler(storage, 0);
+        logic = new InternshipLogicManager(model, storage, saveScheduler);
+
+        CountDownLatch reported = new CountDownLatch(1);
+        List<String> messages = new ArrayList<>();
+        logic.setSaveFailureHandler(message -> {
+            messages.add(message);
+            reported.countDown();
+        });
+        logic.execute(InternshipListCommand.COMMAND_WORD);
+
+        assertTrue(reported.await(10, TimeUnit.SECONDS));
+        assertEquals(String.format(InternshipLogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT,
+                DUMMY_AD_EXCEPTION.getMessage()), messages.get(0));
+    }
+
     @Test
     public void getFilteredInternshipList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredInternshipList().remove(0));
@@ -140,6 +274,24 @@ public class InternshipLogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Returns a storage in the temporary folder that increments {@code saveCount} whenever internship data is saved.
+     */
+    private InternshipStorageManager getCountingStorage(AtomicInteger saveCount) {
+        JsonInternshipDataStorage internshipDataStorage =
+                new JsonInternshipDataStorage(temporaryFolder.resolve("internshipdata.json")) {
+                    @Override
+                    public void saveInternshipData(ReadOnlyInternshipData internshipData, Path filePath)
+                            throws IOException {
+                        saveCount.incrementAndGet();
+                        super.saveInternshipData(internshipData, filePath);
+                    }
+                };
+        JsonInternshipUserPrefsStorage userPrefsStorage =
+                new JsonInternshipUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new InternshipStorageManager(internshipDataStorage, userPrefsStorage);
+    }
+
     /**
      * Tests the InternshipLogic component's handling of an {@code IOException} thrown by the Storage component.
      *
@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,7 +24,10 @@ import seedu.address.model.InternshipData;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.ReadOnlyInternshipData;
 import seedu.address.model.ReadOnlyInternshipUserPrefs;
+import seedu.address.model.internship.DeadlineIndex;
 import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.InternshipColumns;
+import seedu.address.model.internship.InternshipTokenIndex;
 import seedu.address.testutil.InternshipBuilder;
 
 public class InternshipAddCommandTest {
@@ -125,6 +129,11 @@ public class InternshipAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addInternships(List<Internship> internships) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setInternshipData(ReadOnlyInternshipData newData) {
             throw new AssertionError("This method should not be called.");
@@ -135,6 +144,21 @@ public class InternshipAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public InternshipTokenIndex getInternshipTokenIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DeadlineIndex getDeadlineIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public InternshipColumns getInternshipColumns() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasInternship(Internship internship) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.internship.Deadline;
+import seedu.address.model.internship.Internship;
+import seedu.address.testutil.InternshipBuilder;
+
+public class InternshipDeadlinesCommandTest {
+
+    @Test
+    public void execute_tasksWithDeadlines_listedByDeadline() {
+        Internship google = new InternshipBuilder().withCompanyName("Google")
+                .withTaskList("Interview (08/03/2025); Research; Apply (29/02/2024)").build();
+        Internship meta = new InternshipBuilder().withCompanyName("Meta")
+                .withTaskList("Resume (01/01/2025)").build();
+        InternshipModel model = new InternshipModelManager();
+        model.addInternship(google);
+        model.addInternship(meta);
+
+        String expectedTasks = "29/02/2024 Google: Apply\n01/01/2025 Meta: Resume\n08/03/2025 Google: Interview\n";
+        assertEquals(String.format(InternshipDeadlinesCommand.MESSAGE_SUCCESS, 3, expectedTasks),
+                new InternshipDeadlinesCommand().execute(model).getFeedbackToUser());
+
+        // a deadline set on an edited copy is listed once the internship is replaced
+        model.setInternship(google,
+                google.withTaskList(google.getTaskList().withDeadline(1, new Deadline("02/01/2025"))));
+        expectedTasks = "29/02/2024 Google: Apply\n01/01/2025 Meta: Resume\n02/01/2025 Google: Research\n"
+                + "08/03/2025 Google: Interview\n";
+        assertEquals(String.format(InternshipDeadlinesCommand.MESSAGE_SUCCESS, 4, expectedTasks),
+                new InternshipDeadlinesCommand().execute(model).getFeedbackToUser());
+    }
+}
@@ -30,9 +30,10 @@ public class InternshipDeleteTaskCommandTest {
 
     @Test
     public void execute_internshipTask_success() {
-        Internship internshipWithDeletedTask = getTypicalInternships().get(0);
-        internshipWithDeletedTask.deleteTask(INDEX_FIRST_TASK.getZeroBased());
-        Task taskToDelete = internshipWithDeletedTask.getTaskList().getTask(INDEX_FIRST_TASK.getZeroBased());
+        Internship internship = getTypicalInternships().get(0);
+        Task taskToDelete = internship.getTaskList().getTask(INDEX_FIRST_TASK.getZeroBased());
+        Internship internshipWithDeletedTask = internship.withTaskList(
+                internship.getTaskList().withoutTask(INDEX_FIRST_TASK.getZeroBased()));
         InternshipDeleteTaskCommand deleteTaskCommand = new InternshipDeleteTaskCommand(INDEX_FIRST_INTERNSHIP,
                 INDEX_FIRST_TASK);
 
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandSuccess;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.InternshipMessages;
+import seedu.address.model.InternshipData;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.InternshipUserPrefs;
+import seedu.address.model.internship.DeadlineIndex.DueTask;
+import seedu.address.model.internship.Internship;
+import seedu.address.testutil.InternshipBuilder;
+
+public class InternshipDueSoonCommandTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-01T10:00:00Z"), ZoneOffset.UTC);
+
+    private final Internship google = new InternshipBuilder().withCompanyName("Google")
+            .withTaskList("Apply (29/02/2024); Interview (08/03/2024); Accept offer (09/03/2024)").build();
+    private final Internship meta = new InternshipBuilder().withCompanyName("Meta")
+            .withTaskList("Online assessment (01/03/2024); Research").build();
+
+    @Test
+    public void execute_tasksDueWithinDays_listedByDeadline() {
+        InternshipModel model = new InternshipModelManager();
+        model.addInternship(google);
+        model.addInternship(meta);
+        InternshipModel expectedModel = new InternshipModelManager(new InternshipData(model.getInternshipData()),
+                new InternshipUserPrefs());
+
+        List<DueTask> expectedTasks = List.of(
+                new DueTask(meta, meta.getTaskList().getTask(0), meta.getTaskList().getTask(0).getDeadline()),
+                new DueTask(google, google.getTaskList().getTask(1), google.getTaskList().getTask(1).getDeadline()));
+        String expectedMessage = String.format(InternshipDueSoonCommand.MESSAGE_SUCCESS, 2, 7,
+                InternshipMessages.format(expectedTasks));
+        assertCommandSuccess(new InternshipDueSoonCommand(7, CLOCK), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noTasksDue_emptyList() {
+        InternshipModel model = new InternshipModelManager();
+        model.addInternship(google);
+        String expectedMessage = String.format(InternshipDueSoonCommand.MESSAGE_SUCCESS, 0, 1, "");
+        assertEquals(expectedMessage, new InternshipDueSoonCommand(1, CLOCK).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        InternshipDueSoonCommand command = new InternshipDueSoonCommand(7, CLOCK);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new InternshipDueSoonCommand(7, CLOCK)));
+        assertTrue(new InternshipDueSoonCommand(7).equals(new InternshipDueSoonCommand(7)));
+        assertFalse(command.equals(new InternshipDueSoonCommand(3, CLOCK)));
+        assertFalse(command.equals(new InternshipDueSoonCommand(7)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new InternshipOverdueCommand(CLOCK)));
+    }
+}
@@ -112,9 +112,12 @@ public class InternshipEditCommandTest {
 
         InternshipModel expectedModel = new InternshipModelManager(new InternshipData(model.getInternshipData()),
                 new InternshipUserPrefs());
+        showInternshipAtIndex(expectedModel, INDEX_FIRST_INTERNSHIP);
         expectedModel.setInternship(model.getFilteredInternshipList().get(0), editedInternship);
 
+        // the filter is kept, so the edited internship no longer matches it
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredInternshipList().isEmpty());
     }
 
     @Test
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.InternshipGroupStatsCommand.GroupField;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.internship.Internship;
+import seedu.address.testutil.InternshipBuilder;
+
+public class InternshipGroupStatsCommandTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    public void constructor_noFields_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new InternshipGroupStatsCommand(List.of(), CLOCK));
+    }
+
+    @Test
+    public void execute_groupsInternshipsAndCountsTasks() {
+        InternshipModel model = new InternshipModelManager();
+        Internship google = new InternshipBuilder().withCompanyName("Google").withApplicationStatus("PENDING")
+                .withLocation("LOCAL").withTaskList("Apply (29/02/2024); Interview (01/03/2024); Research").build();
+        Internship meta = new InternshipBuilder().withCompanyName("Meta").withApplicationStatus("PENDING")
+                .withLocation("REMOTE").withTaskList("Resume (01/01/2024)").build();
+        Internship metaIntern = new InternshipBuilder(meta).withRole("Intern").withApplicationStatus("ACCEPTED")
+                .build();
+        model.addInternship(google);
+        model.addInternship(meta);
+        model.addInternship(metaIntern);
+
+        String expectedStatistics = "By status:\n"
+                + "  TO_APPLY: 0 (0 overdue task(s))\n"
+                + "  PENDING: 2 (2 overdue task(s))\n"
+                + "  REJECTED: 0 (0 overdue task(s))\n"
+                + "  ACCEPTED: 1 (1 overdue task(s))\n"
+                + "  ONGOING: 0 (0 overdue task(s))\n"
+                + "By company:\n"
+                + "  Meta: 2 (2 overdue task(s))\n"
+                + "  Google: 1 (1 overdue task(s))\n"
+                + String.format(InternshipGroupStatsCommand.MESSAGE_TASKS, 2, 3);
+        String expectedMessage = String.format(InternshipGroupStatsCommand.MESSAGE_SUCCESS, 3, expectedStatistics);
+        InternshipGroupStatsCommand command =
+                new InternshipGroupStatsCommand(List.of(GroupField.STATUS, GroupField.COMPANY), CLOCK);
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+
+        model.deleteInternship(metaIntern);
+        expectedStatistics = "By company:\n"
+                + "  Google: 1 (1 overdue task(s))\n"
+                + "  Meta: 1 (1 overdue task(s))\n"
+                + String.format(InternshipGroupStatsCommand.MESSAGE_TASKS, 2, 2);
+        expectedMessage = String.format(InternshipGroupStatsCommand.MESSAGE_SUCCESS, 2, expectedStatistics);
+        command = new InternshipGroupStatsCommand(List.of(GroupField.COMPANY), CLOCK);
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        InternshipGroupStatsCommand command = new InternshipGroupStatsCommand(List.of(GroupField.STATUS), CLOCK);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new InternshipGroupStatsCommand(List.of(GroupField.STATUS), CLOCK)));
+        assertFalse(command.equals(new InternshipGroupStatsCommand(List.of(GroupField.ROLE), CLOCK)));
+
+        // the clock is not compared
+        assertTrue(command.equals(new InternshipGroupStatsCommand(List.of(GroupField.STATUS))));
+
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new InternshipListCommand()));
+    }
+}
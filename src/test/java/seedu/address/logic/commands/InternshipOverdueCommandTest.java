@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.InternshipMessages;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.internship.DeadlineIndex.DueTask;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Task;
+import seedu.address.testutil.InternshipBuilder;
+
+public class InternshipOverdueCommandTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    public void execute_tasksDueBeforeToday_listedByDeadline() {
+        Internship google = new InternshipBuilder().withCompanyName("Google")
+                .withTaskList("Apply (29/02/2024); Interview (01/03/2024)").build();
+        Internship meta = new InternshipBuilder().withCompanyName("Meta")
+                .withTaskList("Resume (01/01/2024)").build();
+        InternshipModel model = new InternshipModelManager();
+        model.addInternship(google);
+        model.addInternship(meta);
+
+        Task apply = google.getTaskList().getTask(0);
+        Task resume = meta.getTaskList().getTask(0);
+        List<DueTask> expectedTasks = List.of(new DueTask(meta, resume, resume.getDeadline()),
+                new DueTask(google, apply, apply.getDeadline()));
+        String expectedMessage = String.format(InternshipOverdueCommand.MESSAGE_SUCCESS, 2,
+                InternshipMessages.format(expectedTasks));
+        assertEquals(expectedMessage, new InternshipOverdueCommand(CLOCK).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        InternshipOverdueCommand command = new InternshipOverdueCommand(CLOCK);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new InternshipOverdueCommand(CLOCK)));
+        assertTrue(new InternshipOverdueCommand().equals(new InternshipOverdueCommand()));
+        assertFalse(command.equals(new InternshipOverdueCommand()));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new InternshipDeadlinesCommand()));
+    }
+}
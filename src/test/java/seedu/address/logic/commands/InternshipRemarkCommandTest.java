@@ -79,6 +79,7 @@ public class InternshipRemarkCommandTest {
 
         InternshipModel expectedModel = new InternshipModelManager(new InternshipData(model.getInternshipData()),
                 new InternshipUserPrefs());
+        showInternshipAtIndex(expectedModel, INDEX_FIRST_INTERNSHIP);
         expectedModel.setInternship(firstInternship, editedInternship);
 
         assertCommandSuccess(remarkCommand, model, expectedMessage, expectedModel);
@@ -34,8 +34,9 @@ public class InternshipSetDeadlineCommandTest {
     @Test
     public void execute_internshipWithSpecifiedTaskAndDeadline_success() {
         //this is BENSON_GOOGLE
-        Internship internshipWithAddedDeadline = getTypicalInternshipData().getInternshipList().get(1);
-        internshipWithAddedDeadline.getTaskList().getTask(0).setDeadline(DEFAULT_DEADLINE);
+        Internship internship = getTypicalInternshipData().getInternshipList().get(1);
+        Internship internshipWithAddedDeadline = internship.withTaskList(
+                internship.getTaskList().withDeadline(INDEX_FIRST_TASK.getZeroBased(), DEFAULT_DEADLINE));
 
         InternshipSetDeadlineCommand setDeadlineCommand = new InternshipSetDeadlineCommand(INDEX_SECOND_INTERNSHIP,
                 INDEX_FIRST_TASK, DEFAULT_DEADLINE);
@@ -8,10 +8,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
 
 import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.InternshipSortCommand.SortCriterion;
 import seedu.address.logic.parser.InternshipSortCommandParser;
 import seedu.address.model.InternshipModel;
 import seedu.address.model.InternshipModelManager;
@@ -177,12 +179,57 @@ public class InternshipSortCommandTest {
         assertEquals("ZZZ", model.getFilteredInternshipList().get(0).getRole().toString());
     }
 
+    @Test
+    public void execute_sortDeadline_internshipsWithoutDeadlinesLast() {
+        InternshipModel model = new InternshipModelManager();
+        Internship noDeadline = internshipBuilder.withCompanyName("None").withTaskList("Apply").build();
+        Internship early = internshipBuilder.withCompanyName("Early").withContactEmail("early@example.com")
+                .withTaskList("Apply; Interview (01/02/2024)").build();
+        Internship late = internshipBuilder.withCompanyName("Late").withContactEmail("late@example.com")
+                .withTaskList("Interview (05/01/2025); Apply (01/12/2024)").build();
+        model.addInternship(noDeadline);
+        model.addInternship(late);
+        model.addInternship(early);
+
+        new InternshipSortCommand(InternshipSortCommandParser.FieldEnum.DEADLINE, ascending).execute(model);
+        assertEquals(List.of(early, late, noDeadline), model.getFilteredInternshipList());
+
+        new InternshipSortCommand(InternshipSortCommandParser.FieldEnum.DEADLINE, descending).execute(model);
+        assertEquals(List.of(late, early, noDeadline), model.getFilteredInternshipList());
+    }
+
+    @Test
+    public void execute_multipleCriteria_sortsByLaterCriteriaWithinEarlierOnes() {
+        InternshipModel model = new InternshipModelManager();
+        Internship pendingB = internshipBuilder.withCompanyName("b").withApplicationStatus("pending").build();
+        Internship pendingA = internshipBuilder.withCompanyName("A").withApplicationStatus("pending").build();
+        Internship toApplyC = internshipBuilder.withCompanyName("C").withApplicationStatus("to_apply").build();
+        model.addInternship(pendingB);
+        model.addInternship(toApplyC);
+        model.addInternship(pendingA);
+
+        new InternshipSortCommand(List.of(
+                new SortCriterion(InternshipSortCommandParser.FieldEnum.STATUS, ascending),
+                new SortCriterion(fieldCompany, ascending))).execute(model);
+        assertEquals(List.of(toApplyC, pendingA, pendingB), model.getFilteredInternshipList());
+
+        new InternshipSortCommand(List.of(
+                new SortCriterion(InternshipSortCommandParser.FieldEnum.STATUS, descending),
+                new SortCriterion(fieldCompany, descending))).execute(model);
+        assertEquals(List.of(pendingB, pendingA, toApplyC), model.getFilteredInternshipList());
+    }
+
+    @Test
+    public void constructor_noCriteria_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new InternshipSortCommand(List.of()));
+    }
 
     @Test
     public void toString_validFieldAndOrder_success() {
         InternshipSortCommand sortNameCommand = new InternshipSortCommand(fieldCompany, ascending);
-        String expected = InternshipSortCommand.class.getCanonicalName() + "{field="
-                + fieldCompany.toString() + ", order=" + ascending.toString() + "}";
+        String expected = InternshipSortCommand.class.getCanonicalName() + "{criteria=["
+                + SortCriterion.class.getCanonicalName() + "{field=" + fieldCompany.toString()
+                + ", order=" + ascending.toString() + "}]}";
         assertEquals(expected, sortNameCommand.toString());
     }
 }
@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.InternshipCommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+
+public class InternshipStatsCommandTest {
+
+    @Test
+    public void execute_showsRecordedStatistics() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        CommandMetrics.Sample sample = commandMetrics.startSample();
+        sample.startExecute("list");
+        sample.finish();
+
+        InternshipModel model = new InternshipModelManager();
+        InternshipStatsCommand command = new InternshipStatsCommand(commandMetrics);
+        String expectedMessage = String.format(InternshipStatsCommand.MESSAGE_SUCCESS, commandMetrics.format());
+        assertCommandSuccess(command, model, expectedMessage, new InternshipModelManager());
+        assertTrue(expectedMessage.contains("list"));
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        InternshipStatsCommand command = new InternshipStatsCommand(commandMetrics);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new InternshipStatsCommand(commandMetrics)));
+        assertFalse(command.equals(new InternshipStatsCommand(new CommandMetrics())));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new InternshipListCommand()));
+        assertEquals(InternshipStatsCommand.COMMAND_WORD, "stats");
+    }
+}
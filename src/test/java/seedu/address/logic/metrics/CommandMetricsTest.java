@@ -0,0 +1,88 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics.CommandStatistics;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void sample_allPhases_recordsEachPhase() {
+        CommandMetrics.Sample sample = commandMetrics.startSample();
+        sample.startExecute("add");
+        sample.startSave();
+        sample.succeed();
+        sample.finish();
+
+        CommandStatistics statistics = commandMetrics.getStatistics().get("add");
+        assertEquals(1, statistics.getCount());
+        assertEquals(0, statistics.getFailedCount());
+        assertEquals(1, statistics.getParseNanos().getCount());
+        assertEquals(1, statistics.getExecuteNanos().getCount());
+        assertEquals(1, statistics.getSaveNanos().getCount());
+        assertEquals(1, statistics.getAllocatedBytes().getCount());
+    }
+
+    @Test
+    public void sample_noSave_saveNotRecorded() {
+        CommandMetrics.Sample sample = commandMetrics.startSample();
+        sample.startExecute("list");
+        sample.succeed();
+        sample.finish();
+
+        CommandStatistics statistics = commandMetrics.getStatistics().get("list");
+        assertEquals(1, statistics.getExecuteNanos().getCount());
+        assertEquals(0, statistics.getSaveNanos().getCount());
+    }
+
+    @Test
+    public void sample_failedExecution_recordedAsFailed() {
+        CommandMetrics.Sample sample = commandMetrics.startSample();
+        sample.startExecute("delete");
+        sample.finish();
+
+        CommandStatistics statistics = commandMetrics.getStatistics().get("delete");
+        assertEquals(1, statistics.getFailedCount());
+        assertEquals(1, statistics.getExecuteNanos().getCount());
+    }
+
+    @Test
+    public void sample_notParsed_recordedAsInvalid() {
+        commandMetrics.startSample().finish();
+
+        Map<String, CommandStatistics> statistics = commandMetrics.getStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals(1, statistics.get(CommandMetrics.INVALID_COMMAND_WORD).getFailedCount());
+        assertEquals(1, statistics.get(CommandMetrics.INVALID_COMMAND_WORD).getParseNanos().getCount());
+    }
+
+    @Test
+    public void recordBackgroundSave_recordedAsSave() {
+        commandMetrics.recordBackgroundSave(5_000_000);
+
+        CommandStatistics statistics = commandMetrics.getStatistics().get(CommandMetrics.BACKGROUND_SAVE_COMMAND_WORD);
+        assertEquals(1, statistics.getCount());
+        assertEquals(5_000_000, statistics.getSaveNanos().getMax());
+    }
+
+    @Test
+    public void format() {
+        assertEquals("No commands recorded yet.", commandMetrics.format());
+
+        CommandMetrics.Sample sample = commandMetrics.startSample();
+        sample.startExecute("find");
+        sample.finish();
+        String table = commandMetrics.format();
+        assertTrue(table.contains("parse99"));
+        assertTrue(table.contains("find"));
+        assertFalse(table.contains("list"));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getBucketIndex_bucketsContainTheirValues() {
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = Histogram.getBucketIndex(value);
+            assertTrue(value <= Histogram.getBucketUpperBound(index));
+            assertTrue(index == 0 || value > Histogram.getBucketUpperBound(index - 1));
+        }
+        assertEquals(Long.MAX_VALUE, Histogram.getBucketUpperBound(Histogram.getBucketIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void getPercentile_emptyHistogram_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getPercentile(0.5));
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_withinAnEighthOfValue() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500, histogram.getMean());
+        assertWithinAnEighth(500_000, histogram.getPercentile(0.5));
+        assertWithinAnEighth(990_000, histogram.getPercentile(0.99));
+        assertEquals(1_000_000, histogram.getPercentile(1));
+    }
+
+    @Test
+    public void record_negativeValue_recordedAsZero() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        assertEquals(0, histogram.getPercentile(1));
+        assertEquals(1, histogram.getCount());
+    }
+
+    private static void assertWithinAnEighth(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8, actual + " is not close to " + expected);
+    }
+}
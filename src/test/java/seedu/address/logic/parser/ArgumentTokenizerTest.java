@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +138,13 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void getPrefixesInOrder_multipleArguments_orderOfFirstOccurrence() {
+        String argsString = "SomePreambleString ^Q hatQ -t dashT p/ pSlash ^Q again";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        assertEquals(List.of(hatQ, dashT, pSlash), argMultimap.getPrefixesInOrder());
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -10,17 +10,26 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.InternshipTypicalIndexes.INDEX_FIRST_INTERNSHIP;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.InternshipAddCommand;
 import seedu.address.logic.commands.InternshipClearCommand;
+import seedu.address.logic.commands.InternshipDeadlinesCommand;
 import seedu.address.logic.commands.InternshipDeleteCommand;
+import seedu.address.logic.commands.InternshipDueSoonCommand;
 import seedu.address.logic.commands.InternshipEditCommand;
 import seedu.address.logic.commands.InternshipEditCommand.EditInternshipDescriptor;
 import seedu.address.logic.commands.InternshipExitCommand;
 import seedu.address.logic.commands.InternshipFindCommand;
+import seedu.address.logic.commands.InternshipGroupStatsCommand;
+import seedu.address.logic.commands.InternshipGroupStatsCommand.GroupField;
 import seedu.address.logic.commands.InternshipHelpCommand;
 import seedu.address.logic.commands.InternshipListCommand;
+import seedu.address.logic.commands.InternshipOverdueCommand;
+import seedu.address.logic.commands.InternshipStatsCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.internship.Internship;
 import seedu.address.testutil.EditInternshipDescriptorBuilder;
@@ -92,6 +101,27 @@ public class InternshipDataParserTest {
         assertTrue(parser.parseCommand(InternshipListCommand.COMMAND_WORD + " 3") instanceof InternshipListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        InternshipDataParser metricsParser = new InternshipDataParser(commandMetrics);
+        assertEquals(new InternshipStatsCommand(commandMetrics),
+                metricsParser.parseCommand(InternshipStatsCommand.COMMAND_WORD));
+        assertEquals(new InternshipStatsCommand(commandMetrics),
+                metricsParser.parseCommand(InternshipStatsCommand.COMMAND_WORD + " 3"));
+        assertEquals(new InternshipGroupStatsCommand(List.of(GroupField.STATUS)),
+                metricsParser.parseCommand(InternshipStatsCommand.COMMAND_WORD + " /status"));
+    }
+
+    @Test
+    public void parseCommand_deadlineQueries() throws Exception {
+        assertEquals(new InternshipDueSoonCommand(7),
+                parser.parseCommand(InternshipDueSoonCommand.COMMAND_WORD + " 7"));
+        assertTrue(parser.parseCommand(InternshipOverdueCommand.COMMAND_WORD) instanceof InternshipOverdueCommand);
+        assertTrue(parser.parseCommand(InternshipDeadlinesCommand.COMMAND_WORD + " 3")
+                instanceof InternshipDeadlinesCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
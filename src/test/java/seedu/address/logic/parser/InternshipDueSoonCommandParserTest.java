@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.InternshipCommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.InternshipCommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.InternshipDueSoonCommand;
+
+public class InternshipDueSoonCommandParserTest {
+
+    private final InternshipDueSoonCommandParser parser = new InternshipDueSoonCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsInternshipDueSoonCommand() {
+        assertParseSuccess(parser, "7", new InternshipDueSoonCommand(7));
+        assertParseSuccess(parser, "  30  ", new InternshipDueSoonCommand(30));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, InternshipDueSoonCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "-1", expectedMessage);
+        assertParseFailure(parser, "week", expectedMessage);
+        assertParseFailure(parser, "7 days", expectedMessage);
+    }
+}
@@ -4,11 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.InternshipSortCommand;
+import seedu.address.logic.commands.InternshipSortCommand.SortCriterion;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class InternshipSortCommandParserTest {
@@ -83,10 +88,28 @@ public class InternshipSortCommandParserTest {
     }
 
     @Test
-    public void parseMultipleFields() {
-        // Invalid input: multiple fields
+    public void parseMultipleFields() throws ParseException {
+        // Valid input: fields are sorted by in the order given
+        InternshipSortCommand expectedCommand = new InternshipSortCommand(List.of(
+                new SortCriterion(InternshipSortCommandParser.FieldEnum.STATUS,
+                        InternshipSortCommandParser.OrderEnum.ASCENDING),
+                new SortCriterion(InternshipSortCommandParser.FieldEnum.DEADLINE,
+                        InternshipSortCommandParser.OrderEnum.DESCENDING),
+                new SortCriterion(InternshipSortCommandParser.FieldEnum.COMPANY,
+                        InternshipSortCommandParser.OrderEnum.ASCENDING)));
+        assertEquals(expectedCommand, parser.parse(" " + PREFIX_STATUS + " asc " + PREFIX_DEADLINE + " desc "
+                + PREFIX_COMPANY + " asc"));
+
+        // Invalid input: duplicate field
+        assertThrows(ParseException.class, () -> parser.parse(" " + PREFIX_COMPANY.getPrefix()
+                + " asc " + PREFIX_CONTACT_EMAIL + " asc " + PREFIX_COMPANY + " desc"));
+
+        // Invalid input: second field without order
         assertThrows(ParseException.class, () -> parser.parse(" " + PREFIX_COMPANY.getPrefix()
-                + " asc " + PREFIX_CONTACT_EMAIL + " asc"));
+                + " asc " + PREFIX_CONTACT_EMAIL));
+
+        // Invalid input: extra argument before the first field
+        assertThrows(ParseException.class, () -> parser.parse(" extra " + PREFIX_COMPANY.getPrefix() + " asc"));
     }
 
     @Test
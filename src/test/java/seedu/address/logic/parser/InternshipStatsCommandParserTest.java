@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.InternshipMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.InternshipCommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.InternshipCommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.InternshipMessages;
+import seedu.address.logic.commands.InternshipGroupStatsCommand;
+import seedu.address.logic.commands.InternshipGroupStatsCommand.GroupField;
+import seedu.address.logic.commands.InternshipStatsCommand;
+import seedu.address.logic.metrics.CommandMetrics;
+
+public class InternshipStatsCommandParserTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final InternshipStatsCommandParser parser = new InternshipStatsCommandParser(commandMetrics);
+
+    @Test
+    public void parse_noFields_returnsInternshipStatsCommand() {
+        assertParseSuccess(parser, "", new InternshipStatsCommand(commandMetrics));
+        assertParseSuccess(parser, "  ", new InternshipStatsCommand(commandMetrics));
+    }
+
+    @Test
+    public void parse_fields_returnsInternshipGroupStatsCommandInGivenOrder() {
+        assertParseSuccess(parser, " /status", new InternshipGroupStatsCommand(List.of(GroupField.STATUS)));
+        assertParseSuccess(parser, " /role /loc /com /status ", new InternshipGroupStatsCommand(
+                List.of(GroupField.ROLE, GroupField.LOCATION, GroupField.COMPANY, GroupField.STATUS)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                InternshipGroupStatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " all /status", expectedMessage);
+        assertParseFailure(parser, " /status pending", expectedMessage);
+        assertParseFailure(parser, " /status /status",
+                InternshipMessages.getErrorMessageForDuplicatePrefixes(GroupField.STATUS.getPrefix()));
+    }
+}
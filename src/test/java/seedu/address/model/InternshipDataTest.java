@@ -257,6 +257,17 @@ public class InternshipDataTest {
         internshipData.resetData(newData);
         assertEquals(newData, internshipData);
     }
+
+    @Test
+    public void resetData_withInternshipData_keepsIdentityIndex() {
+        InternshipData newData = getTypicalInternshipData();
+        internshipData.addInternship(new InternshipBuilder().withCompanyName("Amazon").build());
+        internshipData.resetData(newData);
+        for (Internship internship : newData.getInternshipList()) {
+            assertTrue(internshipData.hasInternship(internship));
+        }
+        assertFalse(internshipData.hasInternship(new InternshipBuilder().withCompanyName("Amazon").build()));
+    }
     @Test
     public void hasInternship_nullInternship_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> internshipData.hasInternship(null));
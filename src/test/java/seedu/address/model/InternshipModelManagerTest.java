@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -151,6 +152,58 @@ public class InternshipModelManagerTest {
         assertTrue(internshipModelManager.hasInternship(internship2));
     }
 
+    @Test
+    public void setInternship_filteredAndSortedList_keepsFilterAndOnlyTestsReplacedInternship() {
+        InternshipBuilder builder = new InternshipBuilder();
+        Internship apple = builder.withCompanyName("Apple").withApplicationStatus("pending").build();
+        Internship banana = builder.withCompanyName("Banana").withApplicationStatus("pending").build();
+        Internship cherry = builder.withCompanyName("Cherry").withApplicationStatus("pending").build();
+        Internship rejected = builder.withCompanyName("Durian").withApplicationStatus("rejected").build();
+        internshipModelManager.addInternship(cherry);
+        internshipModelManager.addInternship(rejected);
+        internshipModelManager.addInternship(apple);
+        internshipModelManager.addInternship(banana);
+
+        int[] testCount = new int[1];
+        internshipModelManager.updateFilteredInternshipList(internship -> {
+            testCount[0]++;
+            return internship.getApplicationStatus().getStatus() == ApplicationStatus.StatusEnum.PENDING;
+        });
+        internshipModelManager.sortFilteredInternshipList(InternshipComparators.byCompanyName(true));
+        assertEquals(List.of(apple, banana, cherry), internshipModelManager.getFilteredInternshipList());
+
+        // edited internship is moved to its sorted position
+        Internship editedApple = new InternshipBuilder(apple).withCompanyName("Elderberry").build();
+        testCount[0] = 0;
+        internshipModelManager.setInternship(apple, editedApple);
+        assertEquals(1, testCount[0]);
+        assertEquals(List.of(banana, cherry, editedApple), internshipModelManager.getFilteredInternshipList());
+
+        // edited internship no longer matches the filter
+        Internship rejectedBanana = new InternshipBuilder(banana).withApplicationStatus("rejected").build();
+        testCount[0] = 0;
+        internshipModelManager.setInternship(banana, rejectedBanana);
+        assertEquals(1, testCount[0]);
+        assertEquals(List.of(cherry, editedApple), internshipModelManager.getFilteredInternshipList());
+
+        // added internship is tested against the filter
+        Internship fig = builder.withCompanyName("Fig").withApplicationStatus("pending").build();
+        testCount[0] = 0;
+        internshipModelManager.addInternship(fig);
+        assertEquals(1, testCount[0]);
+        assertEquals(List.of(cherry, editedApple, fig), internshipModelManager.getFilteredInternshipList());
+    }
+
+    @Test
+    public void setInternship_selectedInternship_selectsEditedInternship() {
+        Internship editedInternship = new InternshipBuilder(internship).withRemark("Edited").build();
+        internshipModelManager.addInternship(internship);
+        internshipModelManager.setSelectedInternship(internship);
+
+        internshipModelManager.setInternship(internship, editedInternship);
+        assertEquals(List.of(editedInternship), internshipModelManager.getSelectedInternship());
+    }
+
     @Test
     public void getInternshipData() {
         InternshipData internshipData = new InternshipData();
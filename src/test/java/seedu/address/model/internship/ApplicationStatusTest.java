@@ -1,6 +1,7 @@
 package seedu.address.model.internship;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -90,4 +91,11 @@ public class ApplicationStatusTest {
         assertFalse(ongoing.toString().equals("ongoing"));
     }
 
+    @Test
+    public void of_equalApplicationStatuses_returnsSameObject() {
+        ApplicationStatus applicationStatus = ApplicationStatus.of("pending");
+        assertSame(applicationStatus, ApplicationStatus.of("PENDING"));
+        assertSame(applicationStatus, new ApplicationStatus("Pending").intern());
+        assertThrows(IllegalArgumentException.class, () -> ApplicationStatus.of("invalid status"));
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -56,4 +58,22 @@ public class CompanyNameTest {
         // different values -> returns false
         assertFalse(companyName.equals(new CompanyName("Microsoft")));
     }
+
+    @Test
+    public void getSortKey() {
+        assertEquals("google inc", new CompanyName("Google Inc").getSortKey());
+        assertEquals(new CompanyName("GOOGLE").getSortKey(), new CompanyName("google").getSortKey());
+    }
+
+    @Test
+    public void ofValidated_validCompanyName_equalsConstructed() {
+        assertEquals(new CompanyName("Google"), CompanyName.ofValidated("Google"));
+    }
+
+    @Test
+    public void ofValidated_equalCompanyNames_returnsSameObject() {
+        CompanyName companyName = CompanyName.ofValidated("Google");
+        assertSame(companyName, CompanyName.ofValidated(new String("Google")));
+        assertSame(companyName, new CompanyName("Google").intern());
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -88,4 +89,9 @@ public class ContactEmailTest {
         // different values -> returns false
         assertFalse(contactEmail.equals(new ContactEmail("other.valid@email")));
     }
+
+    @Test
+    public void ofValidated_validContactEmail_equalsConstructed() {
+        assertEquals(new ContactEmail("alice@example.com"), ContactEmail.ofValidated("alice@example.com"));
+    }
 }
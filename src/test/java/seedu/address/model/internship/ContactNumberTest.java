@@ -1,5 +1,6 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -57,4 +58,9 @@ public class ContactNumberTest {
         // different values -> returns false
         assertFalse(contactNumber.equals(new ContactNumber("9999995")));
     }
+
+    @Test
+    public void ofValidated_validContactNumber_equalsConstructed() {
+        assertEquals(new ContactNumber("12345678"), ContactNumber.ofValidated("12345678"));
+    }
 }
@@ -0,0 +1,150 @@
+package seedu.address.model.internship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.internship.DeadlineIndex.DueTask;
+import seedu.address.model.util.InternshipDataGenerator;
+import seedu.address.testutil.InternshipBuilder;
+
+public class DeadlineIndexTest {
+
+    private final DeadlineIndex index = new DeadlineIndex();
+    private final Internship google = new InternshipBuilder().withCompanyName("Google")
+            .withTaskList("Interview (10/03/2024); Research; Apply (01/03/2024)").build();
+    private final Internship meta = new InternshipBuilder().withCompanyName("Meta")
+            .withTaskList("Resume (05/03/2024); Offer (10/03/2024)").build();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getTasks_orderedByDeadline() {
+        index.add(google);
+        index.add(meta);
+        assertEquals(List.of("Apply", "Resume", "Interview", "Offer"), getTaskNames(index.getTasks()));
+    }
+
+    @Test
+    public void getTasksDueBetween_inclusiveRange() {
+        index.add(google);
+        index.add(meta);
+        assertEquals(List.of("Resume", "Interview", "Offer"),
+                getTaskNames(index.getTasksDueBetween(LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 10))));
+        assertEquals(List.of("Apply"),
+                getTaskNames(index.getTasksDueBetween(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 4))));
+        assertTrue(index.getTasksDueBetween(LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 5)).isEmpty());
+        assertEquals(4, index.getTasksDueBetween(LocalDate.MIN, LocalDate.MAX).size());
+    }
+
+    @Test
+    public void getTasksDueBefore_exclusive() {
+        index.add(google);
+        index.add(meta);
+        assertEquals(List.of("Apply"), getTaskNames(index.getTasksDueBefore(LocalDate.of(2024, 3, 5))));
+        assertTrue(index.getTasksDueBefore(LocalDate.of(2024, 3, 1)).isEmpty());
+
+        // the latest valid deadline is before any later date, even one whose epoch day does not fit in an int
+        String latestDeadline = LocalDate.ofEpochDay(Integer.MAX_VALUE)
+                .format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        Internship latest = new InternshipBuilder().withCompanyName("Apple")
+                .withTaskList("Apply (" + latestDeadline + ")").build();
+        index.add(latest);
+        assertEquals(5, index.getTasksDueBefore(LocalDate.MAX).size());
+        assertEquals(5, index.countTasksDueBefore(LocalDate.MAX));
+    }
+
+    @Test
+    public void countTasksDueBefore_sameAsTasksDueBefore() {
+        index.add(google);
+        index.add(meta);
+        for (LocalDate date : List.of(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 5), LocalDate.MAX)) {
+            assertEquals(index.getTasksDueBefore(date).size(), index.countTasksDueBefore(date));
+        }
+    }
+
+    @Test
+    public void countTasksDueBetween_sameAsTasksDueBetween() {
+        index.add(google);
+        index.add(meta);
+        List<LocalDate> dates = List.of(LocalDate.MIN, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 5),
+                LocalDate.of(2024, 3, 10), LocalDate.MAX);
+        for (LocalDate start : dates) {
+            for (LocalDate end : dates) {
+                assertEquals(index.getTasksDueBetween(start, end).size(), index.countTasksDueBetween(start, end));
+            }
+        }
+    }
+
+    @Test
+    public void countTasks_afterRandomChanges_sameAsListedTasks() {
+        InternshipDataGenerator generator = new InternshipDataGenerator(3);
+        List<Internship> internships = new ArrayList<>(generator.generate(100));
+        internships.forEach(index::add);
+        Random random = new Random(3);
+        for (int i = 0; i < 100; i++) {
+            Internship removed = internships.remove(random.nextInt(internships.size()));
+            index.remove(removed);
+            if (random.nextBoolean()) {
+                Internship added = generator.next();
+                internships.add(added);
+                index.add(added);
+            }
+        }
+
+        LocalDate baseDate = InternshipDataGenerator.DEFAULT_BASE_DATE;
+        for (int days = -40; days <= 40; days += 7) {
+            LocalDate date = baseDate.plusDays(days);
+            assertEquals(index.getTasksDueBefore(date).size(), index.countTasksDueBefore(date));
+            assertEquals(index.getTasksDueBetween(date, date.plusDays(10)).size(),
+                    index.countTasksDueBetween(date, date.plusDays(10)));
+        }
+        index.clear();
+        assertEquals(0, index.countTasksDueBefore(LocalDate.MAX));
+    }
+
+    @Test
+    public void remove_removesOnlyTasksOfInternship() {
+        index.add(google);
+        index.add(meta);
+        index.remove(google);
+        assertEquals(List.of("Resume", "Offer"), getTaskNames(index.getTasks()));
+
+        // removing an internship that is not indexed does nothing
+        index.remove(google);
+        assertEquals(2, index.getTasks().size());
+
+        index.clear();
+        assertTrue(index.getTasks().isEmpty());
+    }
+
+    @Test
+    public void remove_internshipReplacedByEditedCopy_indexesCopy() {
+        index.add(google);
+        Internship editedGoogle = google.withTaskList(google.getTaskList()
+                .withDeadline(0, new Deadline("01/01/2024")).withoutTask(2));
+
+        index.remove(google);
+        assertTrue(index.getTasks().isEmpty());
+
+        index.add(editedGoogle);
+        assertEquals(List.of("Interview"), getTaskNames(index.getTasks()));
+        assertEquals(new Deadline("01/01/2024"), index.getTasks().get(0).getDeadline());
+    }
+
+    private static List<String> getTaskNames(List<DueTask> dueTasks) {
+        return dueTasks.stream().map(dueTask -> dueTask.getTask().task).collect(Collectors.toList());
+    }
+}
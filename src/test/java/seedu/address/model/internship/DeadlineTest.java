@@ -1,9 +1,15 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class DeadlineTest {
@@ -31,8 +37,11 @@ public class DeadlineTest {
         assertFalse(Deadline.isValidDeadline("23/Mar/2024")); // Example of a invalid deadline using month name
         assertFalse(Deadline.isValidDeadline("23/March/2024")); // Example of a invalid deadline using month name
 
+        assertFalse(Deadline.isValidDeadline("01/01/+9999999")); // Epoch day does not fit in an int
+
         // valid deadlines
         assertTrue(Deadline.isValidDeadline("23/03/2024")); // Example of a valid deadline format (YYYY/MM/DD)
+        assertTrue(Deadline.isValidDeadline("01/01/+5000000")); // Latest years whose epoch days fit in an int
     }
 
     @Test
@@ -54,4 +63,35 @@ public class DeadlineTest {
         // different values -> returns false
         assertFalse(deadline.equals(new Deadline("25/04/2025")));
     }
+
+    @Test
+    public void isValidDeadline_sameAsFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        for (String deadline : List.of("23/03/2024", "01/01/0001", "31/12/9999", "29/02/2024", "29/02/2023",
+                "31/04/2024", "32/01/2024", "00/01/2024", "01/00/2024", "01/13/2024", "01/01/0000", "1/01/2024",
+                "01/1/2024", "01/01/202", "01/01/20240", "01/01/+2024", "01/01/+20240", "01/01/-2024", "01-01-2024",
+                "01/01/2024 ", " 01/01/2024", "ab/cd/efgh", "+1/01/2024")) {
+            LocalDate expectedDate;
+            try {
+                expectedDate = LocalDate.parse(deadline, formatter);
+            } catch (DateTimeParseException e) {
+                expectedDate = null;
+            }
+            assertEquals(expectedDate != null, Deadline.isValidDeadline(deadline), deadline);
+            if (expectedDate != null) {
+                assertEquals(expectedDate.toEpochDay(), new Deadline(deadline).toEpochDay(), deadline);
+            }
+        }
+    }
+
+    @Test
+    public void constructor_yearTooLarge_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Deadline("01/01/+9999999"));
+    }
+
+    @Test
+    public void toEpochDay() {
+        assertEquals(LocalDate.of(2024, 3, 23).toEpochDay(), new Deadline("23/03/2024").toEpochDay());
+        assertEquals(0, new Deadline("01/01/1970").toEpochDay());
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -49,4 +51,16 @@ public class DescriptionTest {
         // different values -> returns false
         assertFalse(description.equals(new Description("Write REST API endpoints")));
     }
+
+    @Test
+    public void ofValidated_validDescription_equalsConstructed() {
+        assertEquals(new Description("Software Internship"), Description.ofValidated("Software Internship"));
+    }
+
+    @Test
+    public void ofValidated_equalDescriptions_returnsSameObject() {
+        Description description = Description.ofValidated("Software Internship");
+        assertSame(description, Description.ofValidated(new String("Software Internship")));
+        assertSame(description, new Description("Software Internship").intern());
+    }
 }
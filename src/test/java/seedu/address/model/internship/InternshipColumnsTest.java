@@ -0,0 +1,160 @@
+package seedu.address.model.internship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.internship.ApplicationStatus.StatusEnum;
+import seedu.address.model.util.InternshipDataGenerator;
+import seedu.address.testutil.InternshipBuilder;
+
+public class InternshipColumnsTest {
+    private final InternshipColumns columns = new InternshipColumns();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> columns.add(null));
+    }
+
+    @Test
+    public void set_rowOutOfBounds_throwsIndexOutOfBoundsException() {
+        columns.add(ALICE_MICROSOFT);
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.set(1, BENSON_GOOGLE));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.remove(-1));
+    }
+
+    @Test
+    public void countByStatus_addedInternships_countsEveryStatus() {
+        columns.add(new InternshipBuilder(ALICE_MICROSOFT).withApplicationStatus("pending").build());
+        columns.add(new InternshipBuilder(BENSON_GOOGLE).withApplicationStatus("PENDING").build());
+
+        Map<StatusEnum, Integer> expectedCounts = new EnumMap<>(StatusEnum.class);
+        for (StatusEnum status : StatusEnum.values()) {
+            expectedCounts.put(status, 0);
+        }
+        expectedCounts.put(StatusEnum.PENDING, 2);
+        assertEquals(expectedCounts, columns.countByStatus());
+    }
+
+    @Test
+    public void countByCompanyName_removedCompany_notCounted() {
+        columns.add(ALICE_MICROSOFT);
+        columns.add(BENSON_GOOGLE);
+        columns.remove(0);
+        assertEquals(Map.of(BENSON_GOOGLE.getCompanyName(), 1), columns.countByCompanyName());
+    }
+
+    @Test
+    public void counts_afterRandomChanges_sameAsCountingInternships() {
+        InternshipDataGenerator generator = new InternshipDataGenerator(7);
+        List<Internship> internships = new ArrayList<>(generator.generate(200));
+        internships.forEach(columns::add);
+
+        Random random = new Random(7);
+        for (int i = 0; i < 100; i++) {
+            int row = random.nextInt(internships.size());
+            if (random.nextBoolean()) {
+                internships.remove(row);
+                columns.remove(row);
+            } else {
+                Internship internship = generator.next();
+                internships.set(row, internship);
+                columns.set(row, internship);
+            }
+        }
+
+        assertEquals(internships.size(), columns.size());
+        assertEquals(count(internships, internship -> internship.getApplicationStatus().getStatus()),
+                withoutZeroCounts(columns.countByStatus()));
+        assertEquals(count(internships, internship -> internship.getLocation().getLocation()),
+                withoutZeroCounts(columns.countByLocation()));
+        assertEquals(count(internships, Internship::getCompanyName), columns.countByCompanyName());
+        assertEquals(count(internships, Internship::getContactName), columns.countByContactName());
+        assertEquals(count(internships, Internship::getRole), columns.countByRole());
+
+        int expectedTaskCount = 0;
+        for (Internship internship : internships) {
+            expectedTaskCount += internship.getTaskList().getArrayListTaskList().size();
+        }
+        assertEquals(expectedTaskCount, columns.getTaskCount());
+
+        LocalDate baseDate = InternshipDataGenerator.DEFAULT_BASE_DATE;
+        for (LocalDate date : List.of(LocalDate.MIN, baseDate.minusDays(20), baseDate, baseDate.plusDays(20),
+                LocalDate.MAX)) {
+            assertEquals(countTasksDueBefore(internships, internship -> internship.getApplicationStatus().getStatus(),
+                    date), withoutZeroCounts(columns.countTasksDueBeforeByStatus(date)));
+            assertEquals(countTasksDueBefore(internships, internship -> internship.getLocation().getLocation(), date),
+                    withoutZeroCounts(columns.countTasksDueBeforeByLocation(date)));
+            assertEquals(countTasksDueBefore(internships, Internship::getCompanyName, date),
+                    withoutZeroCounts(columns.countTasksDueBeforeByCompanyName(date)));
+            assertEquals(countTasksDueBefore(internships, Internship::getRole, date),
+                    withoutZeroCounts(columns.countTasksDueBeforeByRole(date)));
+        }
+    }
+
+    @Test
+    public void countTasksDueBeforeByStatus_rowsReplacedAndRemoved_countsCurrentDeadlines() {
+        Internship google = new InternshipBuilder(BENSON_GOOGLE).withApplicationStatus("PENDING")
+                .withTaskList("Apply (01/03/2024); Research; Interview (10/03/2024)").build();
+        columns.add(ALICE_MICROSOFT);
+        columns.add(google);
+        columns.set(0, new InternshipBuilder(ALICE_MICROSOFT).withApplicationStatus("ACCEPTED")
+                .withTaskList("Offer (02/03/2024)").build());
+        LocalDate date = LocalDate.of(2024, 3, 5);
+        assertEquals(1, columns.countTasksDueBeforeByStatus(date).get(StatusEnum.PENDING));
+        assertEquals(1, columns.countTasksDueBeforeByStatus(date).get(StatusEnum.ACCEPTED));
+
+        columns.remove(0);
+        columns.set(0, new InternshipBuilder(google).withTaskList("Apply (01/02/2024); Interview (01/03/2024)")
+                .build());
+        assertEquals(2, columns.countTasksDueBeforeByStatus(date).get(StatusEnum.PENDING));
+        assertEquals(0, columns.countTasksDueBeforeByStatus(date).get(StatusEnum.ACCEPTED));
+        assertEquals(Map.of(google.getCompanyName(), 2), columns.countTasksDueBeforeByCompanyName(date));
+    }
+
+    @Test
+    public void clear_removesEveryRow() {
+        columns.add(ALICE_MICROSOFT);
+        columns.clear();
+        assertEquals(0, columns.size());
+        assertEquals(Map.of(), columns.countByRole());
+        assertEquals(0, columns.getTaskCount());
+    }
+
+    private static <T> Map<T, Integer> count(List<Internship> internships, Function<Internship, T> field) {
+        Map<T, Integer> counts = new HashMap<>();
+        internships.forEach(internship -> counts.merge(field.apply(internship), 1, Integer::sum));
+        return counts;
+    }
+
+    private static <T> Map<T, Integer> countTasksDueBefore(List<Internship> internships,
+            Function<Internship, T> field, LocalDate date) {
+        Map<T, Integer> counts = new HashMap<>();
+        for (Internship internship : internships) {
+            for (Task task : internship.getTaskList().getArrayListTaskList()) {
+                if (task.getDeadline() != null && task.getDeadline().toEpochDay() < date.toEpochDay()) {
+                    counts.merge(field.apply(internship), 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static <T> Map<T, Integer> withoutZeroCounts(Map<T, Integer> counts) {
+        Map<T, Integer> nonZeroCounts = new HashMap<>(counts);
+        nonZeroCounts.values().removeIf(count -> count == 0);
+        return nonZeroCounts;
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.internship;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternships;
+
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -64,6 +68,95 @@ public class InternshipContainsKeywordsPredicateTest {
                 null, null, null, null, false);
         assertTrue(predicate.test(new InternshipBuilder().withCompanyName("Microsoft Google").build()));
     }
+    @Test
+    public void test_statusAndLocationKeywords_matchedAgainstValues() {
+        Internship internship = new InternshipBuilder().withApplicationStatus("pending").withLocation("remote")
+                .build();
+        assertTrue(new InternshipContainsKeywordsPredicate(null, null, "REMOTE", "accepted PenDing", null, null,
+                null, true).test(internship));
+        assertFalse(new InternshipContainsKeywordsPredicate(null, null, "local", "pending", null, null,
+                null, true).test(internship));
+        assertTrue(new InternshipContainsKeywordsPredicate(null, null, "local", "pending", null, null,
+                null, false).test(internship));
+
+        // partial values do not match
+        assertFalse(new InternshipContainsKeywordsPredicate(null, null, "remo", "pend", null, null,
+                null, false).test(internship));
+    }
+
+    @Test
+    public void test_keywordLongerWhenLowerCased_returnsTrue() {
+        // '\u0130' lower-cases to two characters, but matches itself ignoring case
+        Internship internship = new InternshipBuilder().withDescription("Office in \u0130stanbul").build();
+        assertTrue(new InternshipContainsKeywordsPredicate(null, null, null, null, "\u0130stanbul", null, null,
+                false).test(internship));
+    }
+
+    @Test
+    public void test_matchAllAndMatchAny_correctResult() {
+        Internship internship = new InternshipBuilder().withCompanyName("Google").withRole("Software Engineer")
+                .withDescription("Build search").build();
+
+        // all fields match
+        assertTrue(new InternshipContainsKeywordsPredicate("google", null, null, null, "SEARCH", "engineer",
+                null, true).test(internship));
+
+        // one field does not match
+        assertFalse(new InternshipContainsKeywordsPredicate("google", null, null, null, "maps", "engineer",
+                null, true).test(internship));
+        assertTrue(new InternshipContainsKeywordsPredicate("google", null, null, null, "maps", "engineer",
+                null, false).test(internship));
+
+        // no field matches
+        assertFalse(new InternshipContainsKeywordsPredicate("apple", null, null, null, "maps", "designer",
+                null, false).test(internship));
+
+        // no fields specified
+        assertTrue(new InternshipContainsKeywordsPredicate(null, null, null, null, null, null, null, true)
+                .test(internship));
+        assertFalse(new InternshipContainsKeywordsPredicate(null, null, null, null, null, null, null, false)
+                .test(internship));
+    }
+
+    @Test
+    public void withIndex_sameResultAsTest() {
+        UniqueInternshipList internships = new UniqueInternshipList();
+        getTypicalInternships().forEach(internships::add);
+        InternshipTokenIndex index = internships.getTokenIndex();
+
+        List<InternshipContainsKeywordsPredicate> predicates = List.of(
+                new InternshipContainsKeywordsPredicate("google MICROSOFT", null, null, null, null, null, null, false),
+                new InternshipContainsKeywordsPredicate("Google", null, null, "pending", null, null, null, true),
+                new InternshipContainsKeywordsPredicate("Google", null, null, "pending", null, null, null, false),
+                new InternshipContainsKeywordsPredicate(null, "meier", "remote local", null, null, "engineer", null,
+                        true),
+                new InternshipContainsKeywordsPredicate(null, null, null, null, "nothing", null, null, false),
+                new InternshipContainsKeywordsPredicate(null, null, null, null, null, null, null, true),
+                new InternshipContainsKeywordsPredicate(null, null, null, null, null, null, null, false));
+        for (InternshipContainsKeywordsPredicate predicate : predicates) {
+            Predicate<Internship> indexedPredicate = predicate.withIndex(index);
+            for (Internship internship : internships) {
+                assertEquals(predicate.test(internship), indexedPredicate.test(internship));
+            }
+        }
+    }
+
+    @Test
+    public void withIndex_indexChanged_changedInternshipsSearched() {
+        UniqueInternshipList internships = new UniqueInternshipList();
+        Predicate<Internship> predicate = new InternshipContainsKeywordsPredicate("Google", null, null,
+                null, null, null, null, false).withIndex(internships.getTokenIndex());
+        Internship google = new InternshipBuilder().withCompanyName("Google").build();
+        assertFalse(predicate.test(google));
+
+        internships.add(google);
+        assertTrue(predicate.test(google));
+
+        Internship facebook = new InternshipBuilder(google).withCompanyName("Facebook").build();
+        internships.setInternship(google, facebook);
+        assertFalse(predicate.test(facebook));
+    }
+
     @Test
     public void toStringMethod() {
         String companyNameKeywords = "Google";
@@ -0,0 +1,49 @@
+package seedu.address.model.internship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.InternshipBuilder;
+
+public class InternshipIdentityTest {
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InternshipIdentity(null));
+    }
+
+    @Test
+    public void equals() {
+        InternshipIdentity aliceIdentity = new InternshipIdentity(ALICE_MICROSOFT);
+
+        // same values -> returns true
+        assertTrue(aliceIdentity.equals(new InternshipIdentity(ALICE_MICROSOFT)));
+
+        // same object -> returns true
+        assertTrue(aliceIdentity.equals(aliceIdentity));
+
+        // null -> returns false
+        assertFalse(aliceIdentity.equals(null));
+
+        // different types -> returns false
+        assertFalse(aliceIdentity.equals(ALICE_MICROSOFT));
+
+        // different internship -> returns false
+        assertFalse(aliceIdentity.equals(new InternshipIdentity(BENSON_GOOGLE)));
+
+        // same identity fields, different data fields -> returns true
+        Internship editedAlice = new InternshipBuilder(ALICE_MICROSOFT).withLocation("local")
+                .withRole("Backend Engineer").build();
+        assertTrue(aliceIdentity.equals(new InternshipIdentity(editedAlice)));
+        assertEquals(aliceIdentity.hashCode(), new InternshipIdentity(editedAlice).hashCode());
+
+        // different identity field -> returns false
+        editedAlice = new InternshipBuilder(ALICE_MICROSOFT).withApplicationStatus("rejected").build();
+        assertFalse(aliceIdentity.equals(new InternshipIdentity(editedAlice)));
+    }
+}
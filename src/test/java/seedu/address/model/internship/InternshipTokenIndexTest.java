@@ -0,0 +1,69 @@
+package seedu.address.model.internship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.internship.InternshipTokenIndex.Field;
+import seedu.address.testutil.InternshipBuilder;
+
+public class InternshipTokenIndexTest {
+
+    private final InternshipTokenIndex index = new InternshipTokenIndex();
+
+    @Test
+    public void getPostings_wordInField_returnsInternship() {
+        Internship internship = new InternshipBuilder().withCompanyName("Hewlett Packard")
+                .withRole("Software Engineer").build();
+        index.add(internship);
+
+        assertEquals(Set.of(internship), index.getPostings(Field.COMPANY_NAME, "packard"));
+        assertEquals(Set.of(internship), index.getPostings(Field.COMPANY_NAME, "HEWLETT"));
+        assertEquals(Set.of(internship), index.getPostings(Field.ROLE, "engineer"));
+
+        // partial word -> no postings
+        assertTrue(index.getPostings(Field.COMPANY_NAME, "Hewlett Pack").isEmpty());
+        assertTrue(index.getPostings(Field.COMPANY_NAME, "Pack").isEmpty());
+
+        // word in another field -> no postings
+        assertTrue(index.getPostings(Field.ROLE, "Packard").isEmpty());
+    }
+
+    @Test
+    public void remove_indexedInternship_removesPostings() {
+        Internship internship = new InternshipBuilder().withCompanyName("Google").build();
+        index.add(internship);
+        int version = index.getVersion();
+        index.remove(internship);
+
+        assertTrue(index.getPostings(Field.COMPANY_NAME, "Google").isEmpty());
+        assertNotEquals(version, index.getVersion());
+    }
+
+    @Test
+    public void remove_equalInternship_keepsIndexedInternship() {
+        Internship internship = new InternshipBuilder().withCompanyName("Google").build();
+        index.add(internship);
+        index.remove(new InternshipBuilder(internship).build());
+
+        assertEquals(1, index.getPostings(Field.COMPANY_NAME, "Google").size());
+    }
+
+    @Test
+    public void clear_removesAllPostings() {
+        index.add(new InternshipBuilder().withCompanyName("Google").build());
+        index.clear();
+        assertTrue(index.getPostings(Field.COMPANY_NAME, "Google").isEmpty());
+    }
+
+    @Test
+    public void getPostings_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getPostings(null, "Google"));
+        assertThrows(NullPointerException.class, () -> index.getPostings(Field.COMPANY_NAME, null));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.internship;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -70,4 +71,12 @@ public class LocationTest {
         assertFalse(remote.toString().equals("remote"));
         assertFalse(overseas.toString().equals("overseas"));
     }
+
+    @Test
+    public void of_equalLocations_returnsSameObject() {
+        Location location = Location.of("remote");
+        assertSame(location, Location.of("REMOTE"));
+        assertSame(location, new Location("Remote").intern());
+        assertThrows(IllegalArgumentException.class, () -> Location.of("invalid location"));
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -44,4 +46,16 @@ public class RoleTest {
         // different values -> returns false
         assertFalse(role.equals(new Role("Backend Engineer")));
     }
+
+    @Test
+    public void ofValidated_validRole_equalsConstructed() {
+        assertEquals(new Role("Software Engineer"), Role.ofValidated("Software Engineer"));
+    }
+
+    @Test
+    public void ofValidated_equalRoles_returnsSameObject() {
+        Role role = Role.ofValidated("Software Engineer");
+        assertSame(role, Role.ofValidated(new String("Software Engineer")));
+        assertSame(role, new Role("Software Engineer").intern());
+    }
 }
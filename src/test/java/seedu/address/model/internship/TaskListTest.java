@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 public class TaskListTest {
 
@@ -17,8 +19,8 @@ public class TaskListTest {
     @Test
     public void addTaskTest() {
         TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents"));
-        taskList.addTask(new Task("Finish Resume"));
+        taskList = taskList.withTask(new Task("Submit Supporting Documents"));
+        taskList = taskList.withTask(new Task("Finish Resume"));
         assertEquals(taskList.getTaskListSize(), 2);
     }
 
@@ -27,19 +29,19 @@ public class TaskListTest {
         TaskList taskList = new TaskList();
         Task task = new Task("Submit Supporting Documents");
         Task task2 = new Task("Finish Resume");
-        taskList.addTask(task);
-        taskList.addTask(task2);
-        taskList.deleteTask(0);
+        taskList = taskList.withTask(task);
+        taskList = taskList.withTask(task2);
+        taskList = taskList.withoutTask(0);
         assertEquals(taskList.getTaskListSize(), 1);
-        taskList.deleteTask(0);
+        taskList = taskList.withoutTask(0);
         assertEquals(taskList.getTaskListSize(), 0);
     }
 
     @Test
     public void getTaskTest() {
         TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents"));
-        taskList.addTask(new Task("Finish Resume"));
+        taskList = taskList.withTask(new Task("Submit Supporting Documents"));
+        taskList = taskList.withTask(new Task("Finish Resume"));
         assertEquals(taskList.getTask(0), new Task("Submit Supporting Documents"));
         assertEquals(taskList.getTask(1), new Task("Finish Resume"));
     }
@@ -47,36 +49,44 @@ public class TaskListTest {
     @Test
     public void getTaskListSizeTest() {
         TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents"));
-        taskList.addTask(new Task("Finish Resume"));
+        taskList = taskList.withTask(new Task("Submit Supporting Documents"));
+        taskList = taskList.withTask(new Task("Finish Resume"));
         assertEquals(taskList.getTaskListSize(), 2);
     }
 
     @Test
-    public void copyTest() {
-        TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents"));
-        taskList.addTask(new Task("Finish Resume"));
-        TaskList taskListCopy = taskList.copy();
-        assertEquals(taskList, taskListCopy);
+    public void withTask_originalUnchanged() {
+        TaskList taskList = new TaskList().withTask(new Task("Submit Supporting Documents"));
+        TaskList taskListWithTask = taskList.withTask(new Task("Finish Resume"));
+        assertEquals(1, taskList.getTaskListSize());
+        assertEquals(2, taskListWithTask.getTaskListSize());
+        assertEquals(new Task("Finish Resume"), taskListWithTask.getTask(1));
+    }
+
+    @Test
+    public void withDeadline_originalUnchanged() {
+        TaskList taskList = new TaskList("Apply; Interview");
+        TaskList taskListWithDeadline = taskList.withDeadline(1, new Deadline("01/01/2024"));
+        assertEquals(new TaskList("Apply; Interview"), taskList);
+        assertEquals(new TaskList("Apply; Interview (01/01/2024)"), taskListWithDeadline);
     }
 
     @Test
     public void equals() {
         TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents", "24/04/2024"));
-        taskList.addTask(new Task("Finish Resume", "25/05/2025"));
+        taskList = taskList.withTask(new Task("Submit Supporting Documents", "24/04/2024"));
+        taskList = taskList.withTask(new Task("Finish Resume", "25/05/2025"));
 
         // same values -> returns true
         TaskList taskList2 = new TaskList();
-        taskList2.addTask(new Task("Submit Supporting Documents", "24/04/2024"));
-        taskList2.addTask(new Task("Finish Resume", "25/05/2025"));
+        taskList2 = taskList2.withTask(new Task("Submit Supporting Documents", "24/04/2024"));
+        taskList2 = taskList2.withTask(new Task("Finish Resume", "25/05/2025"));
         assertTrue(taskList2.equals(taskList));
 
         // one task has a different deadline -> returns false
         TaskList taskList3 = new TaskList();
-        taskList2.addTask(new Task("Submit Supporting Documents", "26/06/2026"));
-        taskList2.addTask(new Task("Finish Resume", "25/05/2025"));
+        taskList2 = taskList2.withTask(new Task("Submit Supporting Documents", "26/06/2026"));
+        taskList2 = taskList2.withTask(new Task("Finish Resume", "25/05/2025"));
         assertFalse(taskList3.equals(taskList));
 
         // same object -> returns true
@@ -90,7 +100,7 @@ public class TaskListTest {
 
         // different values -> returns false
         TaskList taskList4 = new TaskList();
-        taskList3.addTask(new Task("Submit Supporting Documents"));
+        taskList3 = taskList3.withTask(new Task("Submit Supporting Documents"));
         assertFalse(taskList4.equals(taskList));
     }
 
@@ -98,15 +108,32 @@ public class TaskListTest {
     public void string() {
         // without deadline
         TaskList taskList = new TaskList();
-        taskList.addTask(new Task("Submit Supporting Documents"));
-        taskList.addTask(new Task("Finish Resume"));
+        taskList = taskList.withTask(new Task("Submit Supporting Documents"));
+        taskList = taskList.withTask(new Task("Finish Resume"));
         assertEquals(taskList.toString(), "1. Submit Supporting Documents\n2. Finish Resume\n");
 
         // with deadline
         TaskList taskList2 = new TaskList();
-        taskList2.addTask(new Task("Submit Supporting Documents", "24/04/2024"));
-        taskList2.addTask(new Task("Finish Resume"));
+        taskList2 = taskList2.withTask(new Task("Submit Supporting Documents", "24/04/2024"));
+        taskList2 = taskList2.withTask(new Task("Finish Resume"));
         assertEquals(taskList2.toString(), "1. Submit Supporting Documents Deadline: 24/04/2024"
                 + "\n2. Finish Resume\n");
     }
+
+    @Test
+    public void getEarliestDeadlineEpochDay() {
+        // no tasks
+        assertEquals(Long.MAX_VALUE, new TaskList().getEarliestDeadlineEpochDay());
+
+        // no task with a deadline
+        assertEquals(Long.MAX_VALUE, new TaskList("Apply; Interview").getEarliestDeadlineEpochDay());
+
+        // earliest of several deadlines
+        TaskList taskList = new TaskList("Apply (24/04/2024); Prepare; Interview (01/02/2024)");
+        assertEquals(LocalDate.of(2024, 2, 1).toEpochDay(), taskList.getEarliestDeadlineEpochDay());
+
+        // deadline set on a copy
+        taskList = taskList.withDeadline(1, new Deadline("01/01/2024"));
+        assertEquals(LocalDate.of(2024, 1, 1).toEpochDay(), taskList.getEarliestDeadlineEpochDay());
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -32,6 +34,12 @@ public class TaskTest {
         assertTrue(Task.isValidTask("Submit Supporting Documents"));
     }
 
+    @Test
+    public void getDeadline() {
+        assertNull(new Task("Submit Resume").getDeadline());
+        assertEquals(new Deadline("11/01/2024"), new Task("Submit Resume", "11/01/2024").getDeadline());
+    }
+
     @Test
     public void equals() {
         Task task = new Task("Submit Supporting Documents");
@@ -51,4 +59,9 @@ public class TaskTest {
         // different values -> returns false
         assertFalse(task.equals(new Task("Complete Behavioural Assessment Form")));
     }
+
+    @Test
+    public void ofValidated_validTask_equalsConstructed() {
+        assertEquals(new Task("Submit resume"), Task.ofValidated("Submit resume"));
+    }
 }
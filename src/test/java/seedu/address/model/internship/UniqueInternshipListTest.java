@@ -10,9 +10,12 @@ import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.internship.InternshipTokenIndex.Field;
 import seedu.address.model.internship.exceptions.DuplicateInternshipException;
 import seedu.address.model.internship.exceptions.InternshipNotFoundException;
 import seedu.address.testutil.InternshipBuilder;
@@ -56,6 +59,32 @@ public class UniqueInternshipListTest {
         assertThrows(DuplicateInternshipException.class, () -> uniqueInternshipList.add(ALICE_MICROSOFT));
     }
 
+    @Test
+    public void addAll_uniqueInternships_appendsInOrder() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        Internship other = new InternshipBuilder().withCompanyName("Other").build();
+        uniqueInternshipList.addAll(List.of(BENSON_GOOGLE, other));
+        assertEquals(List.of(ALICE_MICROSOFT, BENSON_GOOGLE, other),
+                uniqueInternshipList.asUnmodifiableObservableList());
+        assertEquals(Set.of(BENSON_GOOGLE), uniqueInternshipList.getTokenIndex()
+                .getPostings(Field.COMPANY_NAME, "google"));
+    }
+
+    @Test
+    public void addAll_duplicateOfExistingInternship_throwsDuplicateInternshipException() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        assertThrows(DuplicateInternshipException.class, () ->
+                uniqueInternshipList.addAll(List.of(BENSON_GOOGLE, ALICE_MICROSOFT)));
+        assertFalse(uniqueInternshipList.contains(BENSON_GOOGLE));
+    }
+
+    @Test
+    public void addAll_duplicateInternships_throwsDuplicateInternshipException() {
+        assertThrows(DuplicateInternshipException.class, () ->
+                uniqueInternshipList.addAll(List.of(ALICE_MICROSOFT, ALICE_MICROSOFT)));
+        assertFalse(uniqueInternshipList.contains(ALICE_MICROSOFT));
+    }
+
     @Test
     public void setInternship_nullTargetInternship_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueInternshipList.setInternship(null, ALICE_MICROSOFT));
@@ -165,6 +194,74 @@ public class UniqueInternshipListTest {
                 uniqueInternshipList.setInternships(listWithDuplicateInternships));
     }
 
+    @Test
+    public void setInternships_listWithDuplicateInternships_keepsOwnList() {
+        uniqueInternshipList.add(BENSON_GOOGLE);
+        List<Internship> listWithDuplicateInternships = Arrays.asList(ALICE_MICROSOFT, ALICE_MICROSOFT);
+        assertThrows(DuplicateInternshipException.class, () ->
+                uniqueInternshipList.setInternships(listWithDuplicateInternships));
+        assertTrue(uniqueInternshipList.contains(BENSON_GOOGLE));
+        assertFalse(uniqueInternshipList.contains(ALICE_MICROSOFT));
+    }
+
+    @Test
+    public void add_afterRemove_success() {
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        uniqueInternshipList.remove(ALICE_MICROSOFT);
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        assertTrue(uniqueInternshipList.contains(ALICE_MICROSOFT));
+    }
+
+    @Test
+    public void getTokenIndex_afterMutations_inSync() {
+        InternshipTokenIndex index = uniqueInternshipList.getTokenIndex();
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        assertEquals(Set.of(ALICE_MICROSOFT), index.getPostings(Field.COMPANY_NAME, "microsoft"));
+
+        uniqueInternshipList.setInternship(ALICE_MICROSOFT, BENSON_GOOGLE);
+        assertTrue(index.getPostings(Field.COMPANY_NAME, "microsoft").isEmpty());
+        assertEquals(Set.of(BENSON_GOOGLE), index.getPostings(Field.COMPANY_NAME, "google"));
+
+        uniqueInternshipList.setInternships(List.of(ALICE_MICROSOFT));
+        assertTrue(index.getPostings(Field.COMPANY_NAME, "google").isEmpty());
+
+        uniqueInternshipList.remove(ALICE_MICROSOFT);
+        assertTrue(index.getPostings(Field.COMPANY_NAME, "microsoft").isEmpty());
+    }
+
+    @Test
+    public void getColumns_afterMutations_inSync() {
+        InternshipColumns columns = uniqueInternshipList.getColumns();
+        uniqueInternshipList.add(ALICE_MICROSOFT);
+        assertEquals(Map.of(ALICE_MICROSOFT.getCompanyName(), 1), columns.countByCompanyName());
+
+        uniqueInternshipList.setInternship(ALICE_MICROSOFT, BENSON_GOOGLE);
+        assertEquals(Map.of(BENSON_GOOGLE.getCompanyName(), 1), columns.countByCompanyName());
+
+        uniqueInternshipList.setInternships(List.of(ALICE_MICROSOFT, BENSON_GOOGLE));
+        uniqueInternshipList.remove(ALICE_MICROSOFT);
+        assertEquals(Map.of(BENSON_GOOGLE.getCompanyName(), 1), columns.countByCompanyName());
+        assertEquals(1, columns.size());
+    }
+
+    @Test
+    public void getDeadlineIndex_afterMutations_inSync() {
+        DeadlineIndex index = uniqueInternshipList.getDeadlineIndex();
+        Internship withDeadline = new InternshipBuilder(ALICE_MICROSOFT).withTaskList("Apply (01/02/2024)").build();
+        uniqueInternshipList.add(withDeadline);
+        assertEquals(1, index.getTasks().size());
+
+        Internship withoutDeadline = new InternshipBuilder(withDeadline).withTaskList("Apply").build();
+        uniqueInternshipList.setInternship(withDeadline, withoutDeadline);
+        assertTrue(index.getTasks().isEmpty());
+
+        uniqueInternshipList.setInternships(List.of(withDeadline));
+        assertEquals(1, index.getTasks().size());
+
+        uniqueInternshipList.remove(withDeadline);
+        assertTrue(index.getTasks().isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
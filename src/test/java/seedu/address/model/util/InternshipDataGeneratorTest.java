@@ -0,0 +1,54 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.InternshipData;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+
+public class InternshipDataGeneratorTest {
+
+    @Test
+    public void generate_sameSeed_sameInternships() {
+        List<Internship> internships = new InternshipDataGenerator(1).generate(100);
+        assertEquals(internships, new InternshipDataGenerator(1).generate(100));
+        assertNotEquals(internships, new InternshipDataGenerator(2).generate(100));
+    }
+
+    @Test
+    public void generateInternshipData_distinctInternships() {
+        // throws DuplicateInternshipException if any two internships have the same identity
+        InternshipData internshipData = new InternshipDataGenerator(1).generateInternshipData(5000);
+        assertEquals(5000, internshipData.getInternshipList().size());
+    }
+
+    @Test
+    public void generate_differentBaseDate_differentDeadlines() {
+        List<Internship> internships = new InternshipDataGenerator(1).generate(100);
+        assertNotEquals(internships.toString(),
+                new InternshipDataGenerator(1, LocalDate.of(2025, 1, 1)).generate(100).toString());
+    }
+
+    @Test
+    public void getInternship_sameAsNext() {
+        InternshipDataGenerator generator = new InternshipDataGenerator(1);
+        List<Internship> internships = generator.generate(100);
+        assertEquals(internships.get(42), generator.getInternship(42));
+        assertEquals(internships.get(42).getTaskList(), new InternshipDataGenerator(1).getInternship(42).getTaskList());
+        assertEquals(new InternshipDataGenerator(1).getInternship(100), generator.next());
+    }
+
+    @Test
+    public void asInternshipData_sameAsGenerate() {
+        ReadOnlyInternshipData internshipData = new InternshipDataGenerator(1).asInternshipData(100);
+        assertEquals(new InternshipDataGenerator(1).generate(100), internshipData.getInternshipList());
+        assertThrows(IndexOutOfBoundsException.class, () -> internshipData.getInternshipList().get(100));
+    }
+}
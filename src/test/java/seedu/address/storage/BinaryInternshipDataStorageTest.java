@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.InternshipData;
+import seedu.address.model.ReadOnlyInternshipData;
+
+public class BinaryInternshipDataStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "internshipdata.bin"),
+                BinaryInternshipDataStorage.getBinaryFilePath(Paths.get("data", "internshipdata.json")));
+        assertEquals(Paths.get("data", "internshipdata.bin"),
+                BinaryInternshipDataStorage.getBinaryFilePath(Paths.get("data", "internshipdata")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        BinaryInternshipDataStorage storage = new BinaryInternshipDataStorage(testFolder.resolve("missing.bin"));
+        assertFalse(storage.readInternshipData().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.bin");
+        Files.write(filePath, "{ \"internships\": [] }".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> new BinaryInternshipDataStorage(filePath)
+                .readInternshipData());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        BinaryInternshipDataStorage storage = new BinaryInternshipDataStorage(filePath);
+        storage.saveInternshipData(getTypicalInternshipData());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.delete(new ChecksummedDataFile(filePath).getChecksumFilePath());
+        Files.write(filePath, Arrays.copyOf(content, content.length - 3));
+
+        assertThrows(DataLoadingException.class, storage::readInternshipData);
+    }
+
+    @Test
+    public void read_corruptCounts_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("corrupt.bin");
+        BinaryInternshipDataStorage storage = new BinaryInternshipDataStorage(filePath);
+        byte[] header = {0x43, 0x53, 0x49, 0x44, 1};
+
+        // a dictionary larger than the file, and a negative dictionary size
+        Files.write(filePath, concat(header, new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}));
+        assertThrows(DataLoadingException.class, storage::readInternshipData);
+        Files.write(filePath, concat(header, new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F}));
+        assertThrows(DataLoadingException.class, storage::readInternshipData);
+
+        // an empty dictionary, and one internship whose record refers to a string in it
+        Files.write(filePath, concat(header, new byte[] {0, 1, 12, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}));
+        assertThrows(DataLoadingException.class, storage::readInternshipData);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] bytes = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, bytes, first.length, second.length);
+        return bytes;
+    }
+
+    @Test
+    public void readAndSaveInternshipData_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempInternshipData.bin");
+        InternshipData original = getTypicalInternshipData();
+        BinaryInternshipDataStorage storage = new BinaryInternshipDataStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveInternshipData(original, filePath);
+        ReadOnlyInternshipData readBack = storage.readInternshipData(filePath).get();
+        assertEquals(original, new InternshipData(readBack));
+        assertEquals(original.getInternshipList().get(0).getTaskList(),
+                readBack.getInternshipList().get(0).getTaskList());
+
+        // Modify data, overwrite exiting file, and read back
+        original.addInternship(HOON_APPLE);
+        original.removeInternship(ALICE_MICROSOFT);
+        storage.saveInternshipData(original, filePath);
+        readBack = storage.readInternshipData(filePath).get();
+        assertEquals(original, new InternshipData(readBack));
+
+        // Save and read without specifying file path
+        storage.saveInternshipData(new InternshipData());
+        assertEquals(new InternshipData(), new InternshipData(storage.readInternshipData().get()));
+    }
+
+    @Test
+    public void saveInternshipData_typicalInternships_smallerThanJson() throws Exception {
+        InternshipData original = getTypicalInternshipData();
+        Path jsonFilePath = testFolder.resolve("data.json");
+        Path binaryFilePath = testFolder.resolve("data.bin");
+        new JsonInternshipDataStorage(jsonFilePath).saveInternshipData(original);
+        new BinaryInternshipDataStorage(binaryFilePath).saveInternshipData(original);
+
+        assertTrue(Files.size(binaryFilePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void importAndExportJson_roundTrip_success() throws Exception {
+        InternshipData original = getTypicalInternshipData();
+        Path jsonFilePath = testFolder.resolve("data.json");
+        BinaryInternshipDataStorage storage = new BinaryInternshipDataStorage(testFolder.resolve("data.bin"));
+
+        // nothing to import or export
+        assertFalse(storage.importFromJson(jsonFilePath));
+        assertFalse(storage.exportToJson(jsonFilePath));
+
+        new JsonInternshipDataStorage(jsonFilePath).saveInternshipData(original);
+        assertTrue(storage.importFromJson(jsonFilePath));
+        assertEquals(original, new InternshipData(storage.readInternshipData().get()));
+
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        assertTrue(storage.exportToJson(exportedFilePath));
+        assertEquals(original, new InternshipData(
+                new JsonInternshipDataStorage(exportedFilePath).readInternshipData().get()));
+    }
+
+    @Test
+    public void saveInternshipData_nullInternshipData_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryInternshipDataStorage(testFolder.resolve("a.bin"))
+                .saveInternshipData(null));
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+public class ChecksummedDataFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_newFile_noBackup() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath);
+        write(dataFile, "first");
+
+        assertEquals("first", FileUtil.readFromFile(filePath));
+        assertFalse(Files.exists(dataFile.getBackupFilePath()));
+        assertTrue(Files.exists(dataFile.getChecksumFilePath()));
+        assertEquals(List.of(filePath), dataFile.getReadableFilePaths());
+    }
+
+    @Test
+    public void write_existingFile_keepsPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath);
+        write(dataFile, "first");
+        write(dataFile, "second");
+
+        assertEquals("second", FileUtil.readFromFile(filePath));
+        assertEquals("first", FileUtil.readFromFile(dataFile.getBackupFilePath()));
+        try (var files = Files.list(testFolder)) {
+            assertEquals(3, files.count()); // no temporary files left behind
+        }
+    }
+
+    @Test
+    public void getReadableFilePaths_fileFailsChecksum_returnsFileThenBackup() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath);
+        write(dataFile, "first");
+        write(dataFile, "second");
+
+        Files.write(filePath, "sec".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of(filePath, dataFile.getBackupFilePath()), dataFile.getReadableFilePaths());
+
+        // missing file
+        Files.delete(filePath);
+        assertEquals(List.of(dataFile.getBackupFilePath()), dataFile.getReadableFilePaths());
+    }
+
+    @Test
+    public void getReadableFilePaths_fileAndBackupFailChecksums_returnsFile() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath);
+        write(dataFile, "first");
+        write(dataFile, "second");
+
+        Files.write(filePath, "sec".getBytes(StandardCharsets.UTF_8));
+        Files.write(dataFile.getBackupFilePath(), "fir".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of(filePath), dataFile.getReadableFilePaths());
+    }
+
+    @Test
+    public void getReadableFilePaths_noChecksumFile_returnsFile() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Files.write(filePath, "edited by hand".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of(filePath), new ChecksummedDataFile(filePath).getReadableFilePaths());
+    }
+
+    @Test
+    public void read_fileEditedByHand_readsFile() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath);
+        write(dataFile, "first");
+        write(dataFile, "second");
+
+        Files.write(filePath, "edited by hand".getBytes(StandardCharsets.UTF_8));
+        assertEquals("edited by hand", dataFile.read(ChecksummedDataFileTest::readFile));
+    }
+
+    @Test
+    public void read_unreadableFile_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath);
+        write(dataFile, "first");
+        write(dataFile, "second");
+
+        Files.write(filePath, "sec".getBytes(StandardCharsets.UTF_8));
+        assertEquals("first", dataFile.read(path -> {
+            String content = readFile(path);
+            if (!content.equals("first")) {
+                throw new DataLoadingException(new IOException("Cannot parse " + content));
+            }
+            return content;
+        }));
+
+        // without a valid backup, the error of the data file is thrown
+        Files.write(dataFile.getBackupFilePath(), "fir".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> dataFile.read(path -> {
+            throw new DataLoadingException(new IOException());
+        }));
+    }
+
+    @Test
+    public void write_afterHandEdit_backupPassesChecksum() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath);
+        write(dataFile, "first");
+        Files.write(filePath, "edited by hand".getBytes(StandardCharsets.UTF_8));
+        write(dataFile, "second");
+
+        // the edited generation became the backup, and its checksum is that of the edited file
+        Files.delete(filePath);
+        assertEquals(List.of(dataFile.getBackupFilePath()), dataFile.getReadableFilePaths());
+        assertEquals("edited by hand", dataFile.read(ChecksummedDataFileTest::readFile));
+    }
+
+    @Test
+    public void write_handEditOfSameSize_backupPassesChecksum() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath);
+        write(dataFile, "first");
+        FileTime writtenTime = Files.getLastModifiedTime(filePath);
+        Files.write(filePath, "FIRST".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(writtenTime.toMillis() + 60_000));
+        write(dataFile, "second");
+
+        Files.delete(filePath);
+        assertEquals(List.of(dataFile.getBackupFilePath()), dataFile.getReadableFilePaths());
+        assertEquals("FIRST", dataFile.read(ChecksummedDataFileTest::readFile));
+    }
+
+    @Test
+    public void write_fileUnchangedSinceWrite_checksumOfWriteUsed() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ChecksummedDataFile dataFile = new ChecksummedDataFile(filePath);
+        write(dataFile, "first");
+
+        // a file with the size and modification time it was written with is not read to checksum it again
+        FileTime writtenTime = Files.getLastModifiedTime(filePath);
+        Files.write(filePath, "FIRST".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(filePath, writtenTime);
+        write(dataFile, "second");
+
+        Files.delete(filePath);
+        assertEquals(List.of(filePath), dataFile.getReadableFilePaths());
+    }
+
+    private static String readFile(Path path) throws DataLoadingException {
+        try {
+            return FileUtil.readFromFile(path);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private void write(ChecksummedDataFile dataFile, String content) throws Exception {
+        dataFile.write(out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
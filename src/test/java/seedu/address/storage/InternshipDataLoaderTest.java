@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.InternshipModel;
+import seedu.address.model.InternshipModelManager;
+import seedu.address.model.util.InternshipSampleDataUtil;
+
+public class InternshipDataLoaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    // Stands in for the JavaFX application thread, running the tasks given to it only when a test asks
+    private final BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+    private final InternshipModel model = new InternshipModelManager();
+
+    @Test
+    public void constructor_nonPositiveBatchSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new InternshipDataLoader(getStorage(), model,
+                modelTasks::add, 0));
+    }
+
+    @Test
+    public void start_savedData_addsInternshipsInBatches() throws Exception {
+        InternshipStorage storage = getStorage();
+        storage.saveInternshipData(getTypicalInternshipData());
+        int totalCount = getTypicalInternshipData().getInternshipList().size();
+        InternshipDataLoader loader = new InternshipDataLoader(storage, model, modelTasks::add, 2);
+        List<Integer> progress = new ArrayList<>();
+        loader.setProgressHandler((loadedCount, progressTotalCount) -> {
+            assertEquals(totalCount, progressTotalCount);
+            progress.add(loadedCount);
+        });
+        AtomicInteger loadedCalls = new AtomicInteger();
+        loader.addLoadedHandler(loadedCalls::incrementAndGet);
+
+        loader.start();
+        runNextModelTask();
+        assertEquals(2, model.getInternshipData().getInternshipList().size());
+        assertTrue(loader.isLoading());
+        assertEquals(0, loadedCalls.get());
+
+        while (loader.isLoading()) {
+            runNextModelTask();
+        }
+        assertEquals(getTypicalInternshipData().getInternshipList(), model.getInternshipData().getInternshipList());
+        assertEquals(List.of(2, totalCount), progress);
+        assertEquals(1, loadedCalls.get());
+        assertTrue(modelTasks.isEmpty());
+    }
+
+    @Test
+    public void start_missingFile_addsSampleData() throws Exception {
+        InternshipDataLoader loader = new InternshipDataLoader(getStorage(), model, modelTasks::add,
+                InternshipDataLoader.DEFAULT_BATCH_SIZE);
+        loader.start();
+        runNextModelTask();
+        assertFalse(loader.isLoading());
+        assertEquals(InternshipSampleDataUtil.getSampleInternshipData().getInternshipList(),
+                model.getInternshipData().getInternshipList());
+    }
+
+    @Test
+    public void addLoadedHandler_afterLoaded_runsAtOnce() throws Exception {
+        InternshipDataLoader loader = new InternshipDataLoader(getStorage(), model, modelTasks::add,
+                InternshipDataLoader.DEFAULT_BATCH_SIZE);
+        loader.start();
+        runNextModelTask();
+
+        AtomicInteger loadedCalls = new AtomicInteger();
+        loader.addLoadedHandler(loadedCalls::incrementAndGet);
+        assertEquals(1, loadedCalls.get());
+    }
+
+    private void runNextModelTask() throws InterruptedException {
+        Runnable task = modelTasks.poll(10, TimeUnit.SECONDS);
+        assertNotNull(task, "The loader did not give the model's thread a task");
+        task.run();
+    }
+
+    private InternshipStorage getStorage() {
+        return new InternshipStorageManager(new JsonInternshipDataStorage(testFolder.resolve("data.json")),
+                new JsonInternshipUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.InternshipData;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.internship.Task;
+import seedu.address.testutil.InternshipBuilder;
+
+public class InternshipDataSaveSchedulerTest {
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InternshipDataSaveScheduler(null, 0));
+    }
+
+    @Test
+    public void requestSave_nullData_throwsNullPointerException() {
+        InternshipDataSaveScheduler scheduler = new InternshipDataSaveScheduler(
+                new JsonInternshipDataStorage(testFolder.resolve("data.json")), LONG_DELAY_MILLIS);
+        assertThrows(NullPointerException.class, () -> scheduler.requestSave(null));
+    }
+
+    @Test
+    public void requestSave_beforeDelay_notSaved() {
+        Path filePath = testFolder.resolve("data.json");
+        InternshipDataSaveScheduler scheduler = new InternshipDataSaveScheduler(
+                new JsonInternshipDataStorage(filePath), LONG_DELAY_MILLIS);
+        scheduler.requestSave(getTypicalInternshipData());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void flush_multipleRequests_savesLatestData() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JsonInternshipDataStorage storage = new JsonInternshipDataStorage(filePath);
+        InternshipDataSaveScheduler scheduler = new InternshipDataSaveScheduler(storage, LONG_DELAY_MILLIS);
+
+        InternshipData data = getTypicalInternshipData();
+        scheduler.requestSave(data);
+        data.addInternship(HOON_APPLE);
+        scheduler.requestSave(data);
+        InternshipData expected = new InternshipData(data);
+
+        // later changes are not part of the requested save
+        data.removeInternship(ALICE_MICROSOFT);
+        scheduler.shutdown();
+
+        assertEquals(expected, new InternshipData(storage.readInternshipData().get()));
+    }
+
+    @Test
+    public void flush_taskAddedAfterRequest_savesTaskListAtRequest() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JsonInternshipDataStorage storage = new JsonInternshipDataStorage(filePath);
+        InternshipDataSaveScheduler scheduler = new InternshipDataSaveScheduler(storage, LONG_DELAY_MILLIS);
+
+        Internship internship = new InternshipBuilder().withTaskList("Apply").build();
+        InternshipData data = new InternshipData();
+        data.addInternship(internship);
+        scheduler.requestSave(data);
+        data.setInternship(internship,
+                internship.withTaskList(internship.getTaskList().withTask(new Task("Not saved"))));
+        scheduler.flush();
+
+        ReadOnlyInternshipData readBack = storage.readInternshipData().get();
+        assertEquals(1, readBack.getInternshipList().get(0).getTaskListSize());
+    }
+
+    @Test
+    public void requestSave_afterDelay_saved() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CountDownLatch saved = new CountDownLatch(1);
+        JsonInternshipDataStorage storage = new JsonInternshipDataStorage(filePath) {
+            @Override
+            public void saveInternshipData(ReadOnlyInternshipData internshipData) throws IOException {
+                super.saveInternshipData(internshipData);
+                saved.countDown();
+            }
+        };
+        InternshipDataSaveScheduler scheduler = new InternshipDataSaveScheduler(storage, 0);
+        scheduler.requestSave(getTypicalInternshipData());
+
+        assertTrue(saved.await(10, TimeUnit.SECONDS));
+        assertEquals(getTypicalInternshipData(), new InternshipData(storage.readInternshipData().get()));
+    }
+
+    @Test
+    public void requestSave_storageThrowsIoException_failureReported() throws Exception {
+        IOException exception = new IOException("dummy IO exception");
+        JsonInternshipDataStorage storage = new JsonInternshipDataStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveInternshipData(ReadOnlyInternshipData internshipData) throws IOException {
+                throw exception;
+            }
+        };
+        CountDownLatch reported = new CountDownLatch(1);
+        InternshipDataSaveScheduler scheduler = new InternshipDataSaveScheduler(storage, 0);
+        scheduler.setSaveFailureHandler(e -> {
+            assertEquals(exception, e);
+            reported.countDown();
+        });
+        scheduler.requestSave(getTypicalInternshipData());
+
+        assertTrue(reported.await(10, TimeUnit.SECONDS));
+    }
+}
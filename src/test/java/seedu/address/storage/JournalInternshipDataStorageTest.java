@@ -0,0 +1,226 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.HOON_APPLE;
+import static seedu.address.testutil.TypicalInternships.IDA_NETFLIX;
+import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.InternshipData;
+import seedu.address.model.ReadOnlyInternshipData;
+import seedu.address.model.internship.Internship;
+import seedu.address.testutil.InternshipBuilder;
+
+public class JournalInternshipDataStorageTest {
+    private static final int LARGE_THRESHOLD = 100;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalInternshipDataStorage(null, LARGE_THRESHOLD));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JournalInternshipDataStorage storage = new JournalInternshipDataStorage(
+                testFolder.resolve("data.json"), LARGE_THRESHOLD);
+        assertFalse(storage.readInternshipData().isPresent());
+    }
+
+    @Test
+    public void saveInternshipData_trackedChanges_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalInternshipDataStorage storage = new JournalInternshipDataStorage(filePath, LARGE_THRESHOLD);
+        InternshipData data = getTypicalInternshipData();
+        storage.track(data.getInternshipList());
+
+        // first save writes a snapshot
+        storage.saveInternshipData(data);
+        String snapshot = Files.readString(filePath);
+
+        data.addInternship(HOON_APPLE);
+        storage.saveInternshipData(data);
+        data.removeInternship(ALICE_MICROSOFT);
+        Internship editedIda = new InternshipBuilder(IDA_NETFLIX).withRemark("Edited").build();
+        data.addInternship(IDA_NETFLIX);
+        data.setInternship(IDA_NETFLIX, editedIda);
+        storage.saveInternshipData(data);
+
+        // snapshot untouched, journal has a header and one line per change
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, readJournal(filePath).size());
+
+        ReadOnlyInternshipData readBack = new JournalInternshipDataStorage(filePath, LARGE_THRESHOLD)
+                .readInternshipData().get();
+        assertEquals(data, new InternshipData(readBack));
+        assertEquals("Edited", readBack.getInternshipList().get(readBack.getInternshipList().size() - 1)
+                .getRemark().toString());
+    }
+
+    @Test
+    public void saveInternshipData_thresholdReached_compacts() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalInternshipDataStorage storage = new JournalInternshipDataStorage(filePath, 1);
+        InternshipData data = getTypicalInternshipData();
+        storage.track(data.getInternshipList());
+        storage.saveInternshipData(data);
+
+        data.addInternship(HOON_APPLE);
+        storage.saveInternshipData(data);
+        assertEquals(2, readJournal(filePath).size());
+
+        data.addInternship(IDA_NETFLIX);
+        storage.saveInternshipData(data);
+        assertEquals(1, readJournal(filePath).size());
+
+        assertEquals(data, new InternshipData(new JsonInternshipDataStorage(filePath).readInternshipData().get()));
+        assertEquals(data, new InternshipData(storage.readInternshipData().get()));
+    }
+
+    @Test
+    public void saveInternshipData_bulkChange_compacts() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalInternshipDataStorage storage = new JournalInternshipDataStorage(filePath, LARGE_THRESHOLD);
+        InternshipData data = getTypicalInternshipData();
+        storage.track(data.getInternshipList());
+        storage.saveInternshipData(data);
+
+        data.resetData(new InternshipData());
+        storage.saveInternshipData(data);
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(new InternshipData(), new InternshipData(storage.readInternshipData().get()));
+    }
+
+    @Test
+    public void saveInternshipData_untrackedData_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalInternshipDataStorage storage = new JournalInternshipDataStorage(filePath, LARGE_THRESHOLD);
+        InternshipData data = getTypicalInternshipData();
+        storage.saveInternshipData(data);
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(data, new InternshipData(new JsonInternshipDataStorage(filePath).readInternshipData().get()));
+    }
+
+    @Test
+    public void readInternshipData_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalInternshipDataStorage storage = new JournalInternshipDataStorage(filePath, LARGE_THRESHOLD);
+        InternshipData data = getTypicalInternshipData();
+        storage.track(data.getInternshipList());
+        storage.saveInternshipData(data);
+        data.addInternship(HOON_APPLE);
+        storage.saveInternshipData(data);
+
+        // simulates a crash after the snapshot was replaced during compaction
+        InternshipData newerData = getTypicalInternshipData();
+        newerData.addInternship(IDA_NETFLIX);
+        new JsonInternshipDataStorage(filePath).saveInternshipData(newerData, filePath);
+        assertEquals(newerData, new InternshipData(storage.readInternshipData().get()));
+
+        // the journal of the backup is left in place, to be overwritten at the next compaction
+        assertEquals(2, readJournal(filePath).size());
+    }
+
+    @Test
+    public void readInternshipData_snapshotEditedByHand_journalMovedAside() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalInternshipDataStorage storage = new JournalInternshipDataStorage(filePath, LARGE_THRESHOLD);
+        InternshipData data = getTypicalInternshipData();
+        storage.track(data.getInternshipList());
+        storage.saveInternshipData(data);
+        data.addInternship(HOON_APPLE);
+        storage.saveInternshipData(data);
+        List<String> journal = readJournal(filePath);
+
+        Files.writeString(filePath, Files.readString(filePath) + "\n");
+        assertEquals(getTypicalInternshipData(), new InternshipData(storage.readInternshipData().get()));
+
+        Path journalPath = JournalInternshipDataStorage.getJournalFilePath(filePath);
+        assertFalse(Files.exists(journalPath));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            List<Path> staleJournalPaths = files.filter(path -> path.getFileName().toString()
+                    .startsWith(journalPath.getFileName() + ".")).collect(Collectors.toList());
+            assertEquals(1, staleJournalPaths.size());
+            assertEquals(journal, Files.readAllLines(staleJournalPaths.get(0)));
+        }
+    }
+
+    @Test
+    public void saveInternshipData_appendFails_compactsOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalInternshipDataStorage storage = new JournalInternshipDataStorage(filePath, LARGE_THRESHOLD);
+        InternshipData data = getTypicalInternshipData();
+        storage.track(data.getInternshipList());
+        storage.saveInternshipData(data);
+
+        Files.delete(JournalInternshipDataStorage.getJournalFilePath(filePath));
+        data.addInternship(HOON_APPLE);
+        assertThrows(IOException.class, () -> storage.saveInternshipData(data));
+
+        data.addInternship(IDA_NETFLIX);
+        storage.saveInternshipData(data);
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(data, new InternshipData(storage.readInternshipData().get()));
+    }
+
+    @Test
+    public void readInternshipData_incompleteLastEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalInternshipDataStorage storage = new JournalInternshipDataStorage(filePath, LARGE_THRESHOLD);
+        InternshipData data = getTypicalInternshipData();
+        storage.track(data.getInternshipList());
+        storage.saveInternshipData(data);
+        data.addInternship(HOON_APPLE);
+        storage.saveInternshipData(data);
+        InternshipData expected = new InternshipData(data);
+
+        Files.write(JournalInternshipDataStorage.getJournalFilePath(filePath),
+                "{\"operation\":\"ADD\",\"index\":0,\"inter".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(expected, new InternshipData(storage.readInternshipData().get()));
+    }
+
+    @Test
+    public void readInternshipData_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalInternshipDataStorage storage = new JournalInternshipDataStorage(filePath, LARGE_THRESHOLD);
+        storage.saveInternshipData(getTypicalInternshipData());
+
+        Files.write(JournalInternshipDataStorage.getJournalFilePath(filePath),
+                "{\"operation\":\"REMOVE\",\"index\":100}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, storage::readInternshipData);
+    }
+
+    @Test
+    public void saveInternshipData_otherFilePath_writesPlainSnapshot() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        JournalInternshipDataStorage storage = new JournalInternshipDataStorage(
+                testFolder.resolve("data.json"), LARGE_THRESHOLD);
+        storage.saveInternshipData(getTypicalInternshipData(), otherPath);
+        assertFalse(Files.exists(JournalInternshipDataStorage.getJournalFilePath(otherPath)));
+        assertEquals(getTypicalInternshipData(),
+                new InternshipData(new JsonInternshipDataStorage(otherPath).readInternshipData().get()));
+    }
+
+    private List<String> readJournal(Path filePath) throws Exception {
+        return Files.readAllLines(JournalInternshipDataStorage.getJournalFilePath(filePath));
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.JsonAdaptedInternshipConverter.MAX_REPORTED_RECORDS;
+import static seedu.address.storage.JsonAdaptedInternshipConverter.MESSAGE_INVALID_RECORD;
+import static seedu.address.storage.JsonAdaptedInternshipConverter.MESSAGE_MORE_INVALID_RECORDS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.internship.CompanyName;
+import seedu.address.model.internship.ContactEmail;
+import seedu.address.model.internship.Internship;
+import seedu.address.model.util.InternshipDataGenerator;
+
+public class JsonAdaptedInternshipConverterTest {
+    private static final int CHUNK_SIZE = 4;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final JsonAdaptedInternshipConverter converter = new JsonAdaptedInternshipConverter(pool, CHUNK_SIZE);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void constructor_nonPositiveChunkSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonAdaptedInternshipConverter(pool, 0));
+    }
+
+    @Test
+    public void convert_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> converter.convert(null));
+    }
+
+    @Test
+    public void convert_manyChunks_keepsOrder() throws Exception {
+        List<Internship> internships = new InternshipDataGenerator(1).generate(CHUNK_SIZE * 25 + 3);
+        assertEquals(internships, converter.convert(toRecords(internships)));
+    }
+
+    @Test
+    public void convert_singleChunk_keepsOrder() throws Exception {
+        List<Internship> internships = new InternshipDataGenerator(1).generate(CHUNK_SIZE);
+        assertEquals(internships, converter.convert(toRecords(internships)));
+        assertEquals(List.of(), converter.convert(List.of()));
+    }
+
+    @Test
+    public void convert_invalidRecordsInSeveralChunks_reportsEveryRecordInOrder() {
+        List<JsonAdaptedInternship> records = toRecords(new InternshipDataGenerator(1).generate(CHUNK_SIZE * 3));
+        records.set(1, getInvalidCompanyNameRecord());
+        records.set(2, getInvalidContactEmailRecord());
+        records.set(CHUNK_SIZE * 2 + 1, getInvalidCompanyNameRecord());
+
+        String expectedMessage = String.format(MESSAGE_INVALID_RECORD, 2, CompanyName.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(MESSAGE_INVALID_RECORD, 3, ContactEmail.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(MESSAGE_INVALID_RECORD, CHUNK_SIZE * 2 + 2, CompanyName.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> converter.convert(records));
+    }
+
+    @Test
+    public void convert_tooManyInvalidRecords_reportsCount() {
+        int invalidCount = MAX_REPORTED_RECORDS + 5;
+        List<JsonAdaptedInternship> records = new ArrayList<>();
+        for (int i = 0; i < invalidCount; i++) {
+            records.add(getInvalidCompanyNameRecord());
+        }
+
+        StringBuilder expectedMessage = new StringBuilder();
+        for (int i = 1; i <= MAX_REPORTED_RECORDS; i++) {
+            expectedMessage.append(String.format(MESSAGE_INVALID_RECORD, i, CompanyName.MESSAGE_CONSTRAINTS))
+                    .append("\n");
+        }
+        expectedMessage.append(String.format(MESSAGE_MORE_INVALID_RECORDS, 5));
+        assertThrows(IllegalValueException.class, expectedMessage.toString(), () -> converter.convert(records));
+    }
+
+    @Test
+    public void startConversion_recordsAddedOneAtATime_keepsOrder() throws Exception {
+        List<Internship> internships = new InternshipDataGenerator(1).generate(CHUNK_SIZE * 5 + 1);
+        JsonAdaptedInternshipConverter.Conversion conversion = converter.startConversion();
+        toRecords(internships).forEach(conversion::add);
+        assertEquals(internships, conversion.finish());
+    }
+
+    @Test
+    public void startConversion_addNull_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> converter.startConversion().add(null));
+    }
+
+    @Test
+    public void startConversion_invalidRecordInSubmittedChunk_reportsRecordNumber() {
+        JsonAdaptedInternshipConverter.Conversion conversion = converter.startConversion();
+        toRecords(new InternshipDataGenerator(1).generate(CHUNK_SIZE + 2)).forEach(conversion::add);
+        conversion.add(getInvalidContactEmailRecord());
+        toRecords(new InternshipDataGenerator(2).generate(CHUNK_SIZE)).forEach(conversion::add);
+
+        String expectedMessage = String.format(MESSAGE_INVALID_RECORD, CHUNK_SIZE + 3,
+                ContactEmail.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, conversion::finish);
+    }
+
+    private static List<JsonAdaptedInternship> toRecords(List<Internship> internships) {
+        return internships.stream().map(JsonAdaptedInternship::new).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static JsonAdaptedInternship getInvalidCompanyNameRecord() {
+        return getRecord("", ALICE_MICROSOFT.getContactEmail().toString());
+    }
+
+    private static JsonAdaptedInternship getInvalidContactEmailRecord() {
+        return getRecord(ALICE_MICROSOFT.getCompanyName().toString(), "example!com");
+    }
+
+    private static JsonAdaptedInternship getRecord(String companyName, String contactEmail) {
+        return new JsonAdaptedInternship(companyName, ALICE_MICROSOFT.getContactName().toString(), contactEmail,
+                ALICE_MICROSOFT.getContactNumber().toString(), ALICE_MICROSOFT.getLocation().toString(),
+                ALICE_MICROSOFT.getApplicationStatus().toString(), ALICE_MICROSOFT.getDescription().toString(),
+                ALICE_MICROSOFT.getRole().toString(), ALICE_MICROSOFT.getRemark().toString(),
+                ALICE_MICROSOFT.getTaskList().getArrayListTaskList());
+    }
+}
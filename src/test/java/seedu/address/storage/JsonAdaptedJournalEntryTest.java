@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalInternships.ALICE_MICROSOFT;
+import static seedu.address.testutil.TypicalInternships.BENSON_GOOGLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.internship.Internship;
+import seedu.address.storage.JsonAdaptedJournalEntry.Operation;
+
+public class JsonAdaptedJournalEntryTest {
+    @Test
+    public void applyTo_validEntries_success() throws Exception {
+        List<Internship> internships = new ArrayList<>();
+        new JsonAdaptedJournalEntry(Operation.ADD, 0, ALICE_MICROSOFT).applyTo(internships);
+        new JsonAdaptedJournalEntry(Operation.ADD, 0, BENSON_GOOGLE).applyTo(internships);
+        assertEquals(Arrays.asList(BENSON_GOOGLE, ALICE_MICROSOFT), internships);
+
+        new JsonAdaptedJournalEntry(Operation.SET, 1, BENSON_GOOGLE).applyTo(internships);
+        new JsonAdaptedJournalEntry(0).applyTo(internships);
+        assertEquals(Arrays.asList(BENSON_GOOGLE), internships);
+    }
+
+    @Test
+    public void applyTo_jsonRoundTrip_success() throws Exception {
+        String json = JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(Operation.ADD, 0, ALICE_MICROSOFT));
+        List<Internship> internships = new ArrayList<>();
+        JsonUtil.fromJsonString(json, JsonAdaptedJournalEntry.class).applyTo(internships);
+        assertEquals(Arrays.asList(ALICE_MICROSOFT), internships);
+        assertEquals(ALICE_MICROSOFT.getTaskList(), internships.get(0).getTaskList());
+    }
+
+    @Test
+    public void applyTo_indexOutOfBounds_throwsIllegalValueException() {
+        List<Internship> internships = new ArrayList<>();
+        assertThrows(IllegalValueException.class, () ->
+                new JsonAdaptedJournalEntry(Operation.SET, 0, ALICE_MICROSOFT).applyTo(internships));
+        assertThrows(IllegalValueException.class, () -> new JsonAdaptedJournalEntry(0).applyTo(internships));
+        assertThrows(IllegalValueException.class, () ->
+                new JsonAdaptedJournalEntry(Operation.ADD, 1, ALICE_MICROSOFT).applyTo(internships));
+    }
+
+    @Test
+    public void applyTo_missingFields_throwsIllegalValueException() {
+        List<Internship> internships = new ArrayList<>();
+        assertThrows(IllegalValueException.class, () ->
+                new JsonAdaptedJournalEntry(null, 0, (JsonAdaptedInternship) null).applyTo(internships));
+        assertThrows(IllegalValueException.class, () ->
+                new JsonAdaptedJournalEntry(Operation.ADD, 0, (JsonAdaptedInternship) null).applyTo(internships));
+    }
+}
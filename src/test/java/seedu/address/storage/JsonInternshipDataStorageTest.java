@@ -10,13 +10,16 @@ import static seedu.address.testutil.TypicalInternships.IDA_NETFLIX;
 import static seedu.address.testutil.TypicalInternships.getTypicalInternshipData;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.InternshipData;
 import seedu.address.model.ReadOnlyInternshipData;
 
@@ -36,6 +39,11 @@ public class JsonInternshipDataStorageTest {
                 .readInternshipData(addToTestDataPathIfNotNull(filePath));
     }
 
+    private java.util.Optional<ReadOnlyInternshipData> streamInternshipData(String filePath) throws Exception {
+        return new JsonInternshipDataStorage(Paths.get(filePath), true)
+                .readInternshipData(addToTestDataPathIfNotNull(filePath));
+    }
+
     private Path addToTestDataPathIfNotNull(String prefsFileInTestDataFolder) {
         return prefsFileInTestDataFolder != null
                 ? TEST_DATA_FOLDER.resolve(prefsFileInTestDataFolder)
@@ -89,6 +97,96 @@ public class JsonInternshipDataStorageTest {
 
     }
 
+    @Test
+    public void stream_missingFile_emptyResult() throws Exception {
+        assertFalse(streamInternshipData("NonExistentFile.json").isPresent());
+    }
+
+    @Test
+    public void stream_notJsonFormat_exceptionThrown() {
+        assertThrows(DataLoadingException.class, () -> streamInternshipData("notJsonFormatInternshipData.json"));
+    }
+
+    @Test
+    public void streamInternshipData_invalidAndValidInternshipInternshipData_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                streamInternshipData("invalidAndValidInternshipInternshipData.json"));
+    }
+
+    @Test
+    public void streamInternshipData_typicalInternshipsFile_success() throws Exception {
+        Path typicalFile = Paths.get("src", "test", "data", "JsonSerializableInternshipDataTest",
+                "typicalInternshipsInternshipData.json");
+        ReadOnlyInternshipData readBack = new JsonInternshipDataStorage(typicalFile, true).readInternshipData().get();
+        assertEquals(getTypicalInternshipData(), new InternshipData(readBack));
+    }
+
+    @Test
+    public void streamInternshipData_duplicateInternshipsFile_throwDataLoadingException() {
+        Path duplicateFile = Paths.get("src", "test", "data", "JsonSerializableInternshipDataTest",
+                "duplicateInternshipInternshipData.json");
+        assertThrows(DataLoadingException.class, () ->
+                new JsonInternshipDataStorage(duplicateFile, true).readInternshipData());
+    }
+
+    @Test
+    public void streamAndSaveInternshipData_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempInternshipData.json");
+        InternshipData original = getTypicalInternshipData();
+        JsonInternshipDataStorage streamingStorage = new JsonInternshipDataStorage(filePath, true);
+
+        // Save in new file and read back
+        streamingStorage.saveInternshipData(original, filePath);
+        ReadOnlyInternshipData readBack = streamingStorage.readInternshipData(filePath).get();
+        assertEquals(original, new InternshipData(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addInternship(HOON_APPLE);
+        original.removeInternship(ALICE_MICROSOFT);
+        streamingStorage.saveInternshipData(original, filePath);
+        readBack = streamingStorage.readInternshipData(filePath).get();
+        assertEquals(original, new InternshipData(readBack));
+
+        // Streamed file can be read without streaming
+        readBack = new JsonInternshipDataStorage(filePath).readInternshipData().get();
+        assertEquals(original, new InternshipData(readBack));
+    }
+
+    @Test
+    public void readInternshipData_corruptFile_readsPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempInternshipData.json");
+        InternshipData original = getTypicalInternshipData();
+        JsonInternshipDataStorage jsonInternshipDataStorage = new JsonInternshipDataStorage(filePath);
+        jsonInternshipDataStorage.saveInternshipData(original);
+        InternshipData modified = new InternshipData(original);
+        modified.addInternship(HOON_APPLE);
+        jsonInternshipDataStorage.saveInternshipData(modified);
+
+        // Simulate a torn write of the latest generation
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+
+        assertEquals(original, new InternshipData(jsonInternshipDataStorage.readInternshipData().get()));
+        assertEquals(original, new InternshipData(
+                new JsonInternshipDataStorage(filePath, true).readInternshipData().get()));
+    }
+
+    @Test
+    public void readInternshipData_fileEditedByHand_readsEditedFile() throws Exception {
+        Path filePath = testFolder.resolve("TempInternshipData.json");
+        InternshipData original = getTypicalInternshipData();
+        JsonInternshipDataStorage jsonInternshipDataStorage = new JsonInternshipDataStorage(filePath);
+        jsonInternshipDataStorage.saveInternshipData(original);
+        jsonInternshipDataStorage.saveInternshipData(original);
+
+        // An edit that still parses fails the checksum, but is not replaced by the backup
+        InternshipData modified = new InternshipData(original);
+        modified.addInternship(HOON_APPLE);
+        Files.writeString(filePath, JsonUtil.toJsonString(new JsonSerializableInternshipData(modified)));
+
+        assertEquals(modified, new InternshipData(jsonInternshipDataStorage.readInternshipData().get()));
+    }
+
     @Test
     public void saveInternshipData_nullInternshipData_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveInternshipData(null, "SomeFile.json"));
@@ -58,4 +58,17 @@ public class DetailedInternshipCardTest extends UiTestBase {
         assertThat(this.detailedInternshipCard.tasks)
                 .hasText("\nTasks:\n" + testInternship.getTaskList().toString());
     }
+
+    @Test
+    void setInternship_reusedCard_showsNewInternship() {
+        Internship otherInternship = TypicalInternships.BOB;
+        detailedInternshipCard.setInternship(otherInternship);
+
+        assertThat(this.detailedInternshipCard.companyNameAndRole)
+                .hasText(otherInternship.getCompanyName().companyName + " -- " + otherInternship.getRole().role);
+        assertThat(this.detailedInternshipCard.cEmail)
+                .hasText("Contact email:\t\t" + otherInternship.getContactEmail().toString());
+        assertThat(this.detailedInternshipCard.tasks)
+                .hasText("\nTasks:\n" + otherInternship.getTaskList().toString());
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.testfx.assertions.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -84,4 +85,19 @@ class InternshipCardTest extends UiTestBase {
         assertThat(this.internshipCard.getStatusLabel().getStyle())
                 .contains(InternshipCard.STYLE_WITH_FONT_COLOUR_LIGHTSEAGREEN);
     }
+
+    @Test
+    void setInternship_reusedCard_showsNewInternship() {
+        Internship otherInternship = new InternshipBuilder(TypicalInternships.BOB).withApplicationStatus("REJECTED")
+                .withRemark("Reused").build();
+        internshipCard.setInternship(otherInternship, 7);
+
+        assertThat(this.internshipCard.getIdLabel()).hasText("7. ");
+        assertThat(this.internshipCard.getCompanyNameAndRoleLabel())
+                .hasText(otherInternship.getCompanyName().companyName + " -- " + otherInternship.getRole().role);
+        assertThat(this.internshipCard.getRemarkLabel()).hasText("Remark: Reused");
+        assertThat(this.internshipCard.getStatusLabel().getStyle())
+                .contains(InternshipCard.STYLE_WITH_FONT_COLOUR_RED);
+        assertSame(otherInternship, internshipCard.getInternship());
+    }
 }
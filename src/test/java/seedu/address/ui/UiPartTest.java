@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.net.URL;
@@ -50,6 +51,15 @@ public class UiPartTest {
         assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(validFileUrl).getRoot());
     }
 
+    @Test
+    public void constructor_validFileUrlLoadedAgain_loadsNewObjects() {
+        URL validFileUrl = getTestFileUrl(VALID_FILE_PATH);
+        TestFxmlObject firstRoot = new TestUiPart<TestFxmlObject>(validFileUrl).getRoot();
+        TestFxmlObject secondRoot = new TestUiPart<TestFxmlObject>(validFileUrl).getRoot();
+        assertEquals(VALID_FILE_ROOT, secondRoot);
+        assertNotSame(firstRoot, secondRoot);
+    }
+
     @Test
     public void constructor_validFileWithFxRootUrl_loadsFile() {
         URL validFileUrl = getTestFileUrl(VALID_FILE_WITH_FX_ROOT_PATH);